@@ -0,0 +1,78 @@
+package com.onseju.orderservice.chart.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.onseju.orderservice.chart.dto.CandleDto;
+
+/**
+ * 캔들 체결 반영 경로 비교
+ * legacy: List<CandleDto>에서 마지막 캔들을 새 CandleDto로 교체 + 새 캔들마다 remove(0)로 트리밍
+ * series: 원형 버퍼 배열 값 갱신
+ *
+ * 할당량 비교는 ./gradlew jmh -Pjmh.profilers=gc 로 확인한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CandleSeriesBenchmark {
+
+	private static final int CANDLE_KEEP_NUMBER = 100;
+	private static final int TRADES_PER_CANDLE = 50;
+
+	private List<CandleDto> legacyCandles;
+	private CandleSeries series;
+	private long time;
+	private int tick;
+
+	@Setup
+	public void setUp() {
+		legacyCandles = new ArrayList<>();
+		series = new CandleSeries(CANDLE_KEEP_NUMBER);
+		for (time = 0; time < CANDLE_KEEP_NUMBER; time++) {
+			legacyCandles.add(new CandleDto(time, 100.0, 100.0, 100.0, 100.0, 0));
+			series.append(time, 10_000L, 10_000L, 10_000L, 10_000L, 0L);
+		}
+	}
+
+	@Benchmark
+	public void legacy() {
+		final double price = 100.0 + (tick & 7);
+		if (++tick % TRADES_PER_CANDLE == 0) {
+			legacyCandles.add(new CandleDto(time++, price, price, price, price, 1));
+			while (legacyCandles.size() > CANDLE_KEEP_NUMBER) {
+				legacyCandles.remove(0);
+			}
+			return;
+		}
+		final int last = legacyCandles.size() - 1;
+		final CandleDto candle = legacyCandles.get(last);
+		legacyCandles.set(last, CandleDto.builder()
+				.time(candle.time())
+				.open(candle.open())
+				.high(Math.max(candle.high(), price))
+				.low(Math.min(candle.low(), price))
+				.close(price)
+				.volume(candle.volume() + 1)
+				.build());
+	}
+
+	@Benchmark
+	public void series() {
+		final long price = 10_000L + (tick & 7) * 100L;
+		if (++tick % TRADES_PER_CANDLE == 0) {
+			series.append(time++, price, price, price, price, 1L);
+			return;
+		}
+		series.updateLast(price, 1L);
+	}
+}
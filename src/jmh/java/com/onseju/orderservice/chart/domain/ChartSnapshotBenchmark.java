@@ -0,0 +1,112 @@
+package com.onseju.orderservice.chart.domain;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.onseju.orderservice.chart.dto.CandleDto;
+
+/**
+ * 종목 차트 상태 동시 읽기/쓰기 비교 (체결 반영 스레드 1 + 조회 스레드 3)
+ * locked: ReentrantReadWriteLock 아래에서 체결 반영과 캔들 조회
+ * snapshot: 작성 스레드만 롤업을 변경하고 volatile 스냅샷을 발행, 조회는 스냅샷만 읽음
+ * (스냅샷은 체결 PUBLISH_EVERY건마다 발행해 ChartService의 발행 합치기를 흉내 낸다)
+ *
+ * 그룹별 write/read 처리량을 비교한다: ./gradlew jmh -Pjmh.includes=ChartSnapshotBenchmark
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChartSnapshotBenchmark {
+
+	private static final String COMPANY_CODE = "005930";
+	private static final int CANDLE_KEEP_NUMBER = 100;
+	private static final int PUBLISH_EVERY = 16;
+	private static final long PRICE = 7_000_000L;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private CandleRollup lockedRollup;
+
+	private CandleRollup ownedRollup;
+	private volatile ChartSnapshot snapshot;
+	private long version;
+
+	// 체결 반영 스레드만 접근
+	private long time;
+
+	@Setup
+	public void setUp() {
+		lockedRollup = new CandleRollup(COMPANY_CODE, CANDLE_KEEP_NUMBER);
+		ownedRollup = new CandleRollup(COMPANY_CODE, CANDLE_KEEP_NUMBER);
+		for (time = 0; time < CANDLE_KEEP_NUMBER * TimeFrame.HOUR_1.getSeconds(); time += 60) {
+			lockedRollup.applyTrade(time, PRICE, 1L);
+			ownedRollup.applyTrade(time, PRICE, 1L);
+		}
+		lockedRollup.drainClosedCandles();
+		ownedRollup.drainClosedCandles();
+		snapshot = ChartSnapshot.of(version, ownedRollup);
+	}
+
+	@Benchmark
+	@Group("locked")
+	@GroupThreads(1)
+	public void lockedWrite() {
+		final long price = nextPrice();
+		lock.writeLock().lock();
+		try {
+			lockedRollup.applyTrade(time, price, 1L);
+			lockedRollup.drainClosedCandles();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Benchmark
+	@Group("locked")
+	@GroupThreads(3)
+	public List<CandleDto> lockedRead() {
+		lock.readLock().lock();
+		try {
+			return lockedRollup.toCandles(TimeFrame.MINUTE_1);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Benchmark
+	@Group("snapshot")
+	@GroupThreads(1)
+	public void snapshotWrite() {
+		final long price = nextPrice();
+		ownedRollup.applyTrade(time, price, 1L);
+		ownedRollup.drainClosedCandles();
+		if (++version % PUBLISH_EVERY == 0) {
+			snapshot = ChartSnapshot.of(version, ownedRollup);
+		}
+	}
+
+	@Benchmark
+	@Group("snapshot")
+	@GroupThreads(3)
+	public List<CandleDto> snapshotRead() {
+		return snapshot.toCandles(TimeFrame.MINUTE_1);
+	}
+
+	/**
+	 * 1초에 한 건씩 체결 시간을 진행하고 가격을 흔든다.
+	 */
+	private long nextPrice() {
+		time++;
+		return PRICE + (time % 7) * 100L;
+	}
+}
@@ -0,0 +1,101 @@
+package com.onseju.orderservice.global.utils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.github.f4b6a3.tsid.TsidFactory;
+
+/**
+ * ID 생성 경로 비교 (1, 8, 64 스레드)
+ * legacy: ConcurrentLinkedQueue<Long> 풀 + synchronized 리필
+ * block: 스레드 로컬 블록 + primitive long
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TsidGeneratorBenchmark {
+
+	private static final int BATCH_SIZE = 1000;
+
+	private TsidGenerator generator;
+	private LegacyPool legacy;
+
+	@Setup
+	public void setUp() {
+		generator = new TsidGenerator(1, BATCH_SIZE);
+		legacy = new LegacyPool(TsidFactory.builder().withNode(1).build());
+	}
+
+	@Benchmark
+	@Threads(1)
+	public long block_1() {
+		return generator.nextId();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public long block_8() {
+		return generator.nextId();
+	}
+
+	@Benchmark
+	@Threads(64)
+	public long block_64() {
+		return generator.nextId();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Long legacy_1() {
+		return legacy.nextId();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Long legacy_8() {
+		return legacy.nextId();
+	}
+
+	@Benchmark
+	@Threads(64)
+	public Long legacy_64() {
+		return legacy.nextId();
+	}
+
+	// 기존 TsidGenerator의 풀 방식
+	private static final class LegacyPool {
+		private final TsidFactory tsidFactory;
+		private final Queue<Long> idPool = new ConcurrentLinkedQueue<>();
+
+		private LegacyPool(TsidFactory tsidFactory) {
+			this.tsidFactory = tsidFactory;
+		}
+
+		private Long nextId() {
+			Long id = idPool.poll();
+			if (id == null) {
+				refillPool();
+				id = idPool.poll();
+			}
+			return id;
+		}
+
+		private synchronized void refillPool() {
+			if (idPool.isEmpty()) {
+				for (int i = 0; i < BATCH_SIZE; i++) {
+					idPool.offer(tsidFactory.create().toLong());
+				}
+			}
+		}
+	}
+}
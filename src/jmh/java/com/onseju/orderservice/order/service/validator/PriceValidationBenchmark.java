@@ -0,0 +1,92 @@
+package com.onseju.orderservice.order.service.validator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.onseju.orderservice.company.service.ClosingPriceService;
+import com.onseju.orderservice.order.domain.Price;
+
+/**
+ * 주문 가격 검증 경로 비교
+ * legacy: 호가 구간 stream 탐색 + BigDecimal remainder + 주문마다 가격 제한 범위 계산
+ * engine: 원 단위 정수 호가 테이블 + 미리 계산된 가격 제한 범위
+ *
+ * 할당량 비교는 ./gradlew jmh -Pjmh.profilers=gc 로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PriceValidationBenchmark {
+
+	private static final String COMPANY_CODE = "005930";
+	private static final BigDecimal[][] LEGACY_UNITS = {
+			{new BigDecimal("0"), new BigDecimal("2000"), new BigDecimal("1")},
+			{new BigDecimal("2000"), new BigDecimal("5000"), new BigDecimal("5")},
+			{new BigDecimal("5000"), new BigDecimal("20000"), new BigDecimal("10")},
+			{new BigDecimal("20000"), new BigDecimal("50000"), new BigDecimal("50")},
+			{new BigDecimal("50000"), new BigDecimal("200000"), new BigDecimal("100")},
+			{new BigDecimal("200000"), new BigDecimal("500000"), new BigDecimal("500")},
+			{new BigDecimal("500000"), new BigDecimal(Integer.MAX_VALUE), new BigDecimal("1000")}
+	};
+
+	private final Map<String, BigDecimal> legacyClosingPrices = new HashMap<>();
+	private PriceValidationEngine engine;
+	private BigDecimal decimalPrice;
+	private Price fixedPrice;
+	private long wonPrice;
+
+	@Setup
+	public void setUp() {
+		final BigDecimal closingPrice = new BigDecimal(72_000);
+		legacyClosingPrices.put(COMPANY_CODE, closingPrice);
+
+		final ClosingPriceService closingPriceService = new ClosingPriceService();
+		closingPriceService.updateClosingPrices(Map.of(COMPANY_CODE, closingPrice));
+		engine = new PriceValidationEngine(closingPriceService);
+
+		decimalPrice = new BigDecimal(71_500);
+		fixedPrice = Price.ofWon(71_500L);
+		wonPrice = 71_500L;
+	}
+
+	@Benchmark
+	public void legacy(final Blackhole blackhole) {
+		final BigDecimal[] unit = Arrays.stream(LEGACY_UNITS)
+				.filter(u -> decimalPrice.compareTo(u[0]) >= 0 && decimalPrice.compareTo(u[1]) < 0)
+				.findFirst()
+				.orElseThrow();
+		blackhole.consume(decimalPrice.remainder(unit[2]).compareTo(BigDecimal.ZERO) == 0);
+
+		final BigDecimal closingPrice = legacyClosingPrices.get(COMPANY_CODE);
+		final BigDecimal percentageDivisor = new BigDecimal(100);
+		final BigDecimal priceLimit = BigDecimal.valueOf(30);
+		final BigDecimal lowerBound = closingPrice.multiply(new BigDecimal(100).add(priceLimit.negate()))
+				.divide(percentageDivisor, RoundingMode.HALF_UP);
+		final BigDecimal upperBound = closingPrice.multiply(new BigDecimal(100).add(priceLimit))
+				.divide(percentageDivisor, RoundingMode.HALF_UP);
+		blackhole.consume(decimalPrice.compareTo(lowerBound) >= 0 && decimalPrice.compareTo(upperBound) <= 0);
+	}
+
+	@Benchmark
+	public void engineFromPrice() {
+		engine.validate(COMPANY_CODE, fixedPrice);
+	}
+
+	@Benchmark
+	public void engineFromWon() {
+		engine.validate(COMPANY_CODE, wonPrice);
+	}
+}
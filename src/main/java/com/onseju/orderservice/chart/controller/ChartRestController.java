@@ -1,13 +1,23 @@
 package com.onseju.orderservice.chart.controller;
 
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.onseju.orderservice.chart.dto.ChartResponseDto;
+import com.onseju.orderservice.chart.dto.EncodedChartHistory;
+import com.onseju.orderservice.chart.dto.IndicatorResponseDto;
+import com.onseju.orderservice.chart.dto.RecentTradeResponseDto;
+import com.onseju.orderservice.chart.service.ChartHistoryCache;
 import com.onseju.orderservice.chart.service.ChartService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,34 +34,123 @@ import lombok.extern.slf4j.Slf4j;
 public class ChartRestController {
 
 	private final ChartService chartService;
+	private final ChartHistoryCache chartHistoryCache;
 
 	@GetMapping("/{symbol}/history")
-	@Operation(summary = "차트 히스토리 조회", description = "특정 종목의 차트 데이터를 조회합니다.")
-	public ResponseEntity<ChartResponseDto> getChartHistory(
+	@Operation(summary = "차트 히스토리 조회", description = "특정 종목의 차트 데이터를 조회합니다. 최근 캔들은 ETag를 지원합니다.")
+	public ResponseEntity<byte[]> getChartHistory(
 			@PathVariable("symbol")
 			@Parameter(description = "종목 코드", required = true)
 			String symbol,
 
 			@RequestParam(value = "timeFrame", defaultValue = "15m")
 			@Parameter(description = "타임프레임 (15s, 1m, 5m, 15m, 30m, 1h)", example = "15m")
-			String timeFrame
+			String timeFrame,
+
+			@RequestParam(value = "from", required = false)
+			@Parameter(description = "이 시간(epoch 초) 이후(포함) 캔들 조회", example = "1735689600")
+			Long from,
+
+			@RequestParam(value = "to", required = false)
+			@Parameter(description = "이 시간(epoch 초) 이전(미포함) 캔들 조회, from/to가 모두 없으면 최근 캔들", example = "1735776000")
+			Long to,
+
+			@RequestParam(value = "before", required = false)
+			@Parameter(description = "to와 같음 (이전 버전 호환)", example = "1735776000")
+			Long before,
+
+			@RequestParam(value = "limit", required = false)
+			@Parameter(description = "기간 조회 시 최대 캔들 수 (기본 100, 최대 1000)", example = "100")
+			Integer limit,
+
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+			String ifNoneMatch
 	) {
 		try {
-			// 데이터 조회
-			final ChartResponseDto chartData = chartService.getChartHistory(symbol, timeFrame);
+			// 기간 조회는 캔들 기록 파일(부족하면 DB)에서 조회
+			final Long toTime = to != null ? to : before;
+			if (from != null || toTime != null) {
+				final ChartResponseDto chartData = chartService.getChartHistory(symbol, timeFrame, from, toTime, limit);
+				if (chartData == null || chartData.candles() == null || chartData.candles().isEmpty()) {
+					log.warn("차트 데이터가 비어있습니다: 종목={}, 타임프레임={}", symbol, timeFrame);
+					return ResponseEntity.noContent().build();
+				}
+				return ResponseEntity.ok()
+						.contentType(MediaType.APPLICATION_JSON)
+						.body(chartHistoryCache.encode(chartData));
+			}
 
-			// 응답 유효성 검증
-			if (chartData == null || chartData.candles() == null || chartData.candles().isEmpty()) {
+			// 최근 캔들은 미리 직렬화된 응답 사용
+			final Optional<EncodedChartHistory> history = chartHistoryCache.get(symbol, timeFrame);
+			if (history.isEmpty()) {
 				log.warn("차트 데이터가 비어있습니다: 종목={}, 타임프레임={}", symbol, timeFrame);
 				return ResponseEntity.noContent().build();
 			}
 
+			// 변경이 없으면 본문 없이 응답
+			final EncodedChartHistory encoded = history.get();
+			if (encoded.matches(ifNoneMatch)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(encoded.eTag()).build();
+			}
+
 			// 정상 응답
-			return ResponseEntity.ok(chartData);
+			return ResponseEntity.ok()
+					.eTag(encoded.eTag())
+					.contentType(MediaType.APPLICATION_JSON)
+					.body(encoded.body());
 		} catch (Exception e) {
 			log.error("차트 히스토리 조회 중 오류 발생: 종목={}, 타임프레임={}, 오류={}",
 					symbol, timeFrame, e.getMessage(), e);
 			return ResponseEntity.badRequest().build();
 		}
 	}
+
+	@GetMapping("/{symbol}/indicators")
+	@Operation(summary = "보조지표 조회", description = "특정 종목의 현재 캔들까지 반영한 SMA, EMA, 볼린저 밴드, RSI, VWAP을 조회합니다.")
+	public ResponseEntity<IndicatorResponseDto> getIndicators(
+			@PathVariable("symbol")
+			@Parameter(description = "종목 코드", required = true)
+			String symbol,
+
+			@RequestParam(value = "timeFrame", defaultValue = "15m")
+			@Parameter(description = "타임프레임 (15s, 1m, 5m, 15m, 30m, 1h)", example = "15m")
+			String timeFrame
+	) {
+		try {
+			final IndicatorResponseDto indicators = chartService.getIndicators(symbol, timeFrame);
+			if (indicators == null || indicators.indicators() == null) {
+				log.warn("보조지표 데이터가 비어있습니다: 종목={}, 타임프레임={}", symbol, timeFrame);
+				return ResponseEntity.noContent().build();
+			}
+
+			return ResponseEntity.ok(indicators);
+		} catch (Exception e) {
+			log.error("보조지표 조회 중 오류 발생: 종목={}, 타임프레임={}, 오류={}",
+					symbol, timeFrame, e.getMessage(), e);
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
+	@GetMapping("/{symbol}/trades")
+	@Operation(summary = "최근 체결 조회", description = "특정 종목의 최근 체결을 최신순으로 페이지 단위 조회합니다.")
+	public ResponseEntity<RecentTradeResponseDto> getRecentTrades(
+			@PathVariable("symbol")
+			@Parameter(description = "종목 코드", required = true)
+			String symbol,
+
+			@RequestParam(value = "offset", defaultValue = "0")
+			@Parameter(description = "건너뛸 최근 체결 수", example = "0")
+			int offset,
+
+			@RequestParam(value = "limit", defaultValue = "50")
+			@Parameter(description = "조회할 체결 수 (최대 1000)", example = "50")
+			int limit
+	) {
+		try {
+			return ResponseEntity.ok(chartService.getRecentTrades(symbol, offset, limit));
+		} catch (Exception e) {
+			log.error("최근 체결 조회 중 오류 발생: 종목={}, 오류={}", symbol, e.getMessage(), e);
+			return ResponseEntity.badRequest().build();
+		}
+	}
 }
@@ -1,15 +1,20 @@
 package com.onseju.orderservice.chart.controller;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Controller;
 
 import com.onseju.orderservice.chart.domain.TimeFrame;
-import com.onseju.orderservice.chart.dto.ChartResponseDto;
+import com.onseju.orderservice.chart.dto.CandleDeltaDto;
+import com.onseju.orderservice.chart.dto.CandleDto;
 import com.onseju.orderservice.chart.service.ChartService;
-import com.onseju.orderservice.company.service.ClosingPriceService;
+import com.onseju.orderservice.chart.service.ChartSubscriptionRegistry;
 import com.onseju.orderservice.events.listener.ApplicationReadyEventListener;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -25,10 +30,13 @@ public class ChartScheduler {
 	private final ChartService chartService;
 	private final SimpMessagingTemplate messagingTemplate;
 	private final ApplicationReadyEventListener applicationReadyEventListener;
-	private final ClosingPriceService closingPriceService;
+	private final ChartSubscriptionRegistry chartSubscriptionRegistry;
 
 	private static final String TOPIC_TEMPLATE = "/topic/candle/%s/%s";
 
+	// 종목별, 타임프레임별 마지막 전송 상태 (타임프레임 ordinal 인덱스)
+	private final Map<String, StreamCursor[]> streamCursors = new ConcurrentHashMap<>();
+
 	/**
 	 * 15초봉 업데이트 (15초마다)
 	 */
@@ -78,7 +86,7 @@ public class ChartScheduler {
 	}
 
 	/**
-	 * 모든 종목에 대해 지정된 타임프레임의 캔들 업데이트 및 전송
+	 * 구독 중인 종목에 대해 지정된 타임프레임의 캔들 업데이트 및 전송
 	 */
 	private void updateAllCompanies(final TimeFrame timeFrame) {
 		if (!applicationReadyEventListener.isInitialized()) {
@@ -87,18 +95,31 @@ public class ChartScheduler {
 		}
 
 		try {
-			// 모든 종목 코드 가져오기
-			final Set<String> allCompanyCodes = closingPriceService.getAllCompanyCodeByInmemory();
+			// 구독 중인 종목 코드 가져오기
+			final Set<String> watchedCompanyCodes = chartSubscriptionRegistry.getWatchedCompanyCodes();
+
+			// 구독이 끝난 종목의 전송 상태 정리
+			if (timeFrame == TimeFrame.SECONDS_15) {
+				streamCursors.keySet().retainAll(watchedCompanyCodes);
+			}
 
-			if (allCompanyCodes.isEmpty()) {
-				log.warn("업데이트할 종목이 없습니다.");
+			if (watchedCompanyCodes.isEmpty()) {
+				log.debug("구독 중인 종목이 없습니다.");
 				return;
 			}
 
-			log.debug("{}분봉 업데이트 시작: {} 종목", timeFrame.getTimeCode(), allCompanyCodes.size());
+			log.debug("{}분봉 업데이트 시작: {} 종목", timeFrame.getTimeCode(), watchedCompanyCodes.size());
+
+			// 상위 타임프레임은 15초 캔들에서 롤업되므로 캔들 진행은 15초 작업에서만 한다.
+			// 종목 작성 스레드들이 병렬로 진행하고, 새 스냅샷이 모두 발행된 뒤 전송한다.
+			if (timeFrame == TimeFrame.SECONDS_15) {
+				CompletableFuture.allOf(watchedCompanyCodes.stream()
+						.map(chartService::updateCandles)
+						.toArray(CompletableFuture[]::new)).join();
+			}
 
-			// 모든 종목에 대해 업데이트 및 전송
-			for (String companyCode : allCompanyCodes) {
+			// 구독 중인 종목에 대해 전송
+			for (String companyCode : watchedCompanyCodes) {
 				sendCandleUpdates(companyCode, timeFrame);
 			}
 
@@ -109,19 +130,52 @@ public class ChartScheduler {
 	}
 
 	/**
-	 * 지정된 종목 코드와 타임프레임에 대한 캔들 업데이트 수행 및 전송
+	 * 지정된 종목 코드와 타임프레임에 대해 직전 전송 이후 새로 생기거나 바뀐 캔들만 전송
+	 * 전체 히스토리는 구독 시 REST API로 조회한다.
 	 */
 	private void sendCandleUpdates(final String companyCode, final TimeFrame timeFrame) {
 		try {
-			// 종목의 캔들 데이터 업데이트
-			chartService.updateCandles(companyCode);
+			final StreamCursor cursor = streamCursors.computeIfAbsent(companyCode, k -> newCursors())
+					[timeFrame.ordinal()];
+
+			// 직전에 마지막으로 보낸 캔들(진행 중이던 캔들)부터 조회
+			final List<CandleDto> candles = chartService.getCandlesSince(companyCode, timeFrame, cursor.lastTime);
+			if (candles.isEmpty())
+				return;
+
+			final CandleDto latest = candles.get(candles.size() - 1);
+			if (candles.size() == 1 && latest.equals(cursor.lastCandle))
+				return;
+
+			cursor.lastTime = latest.time();
+			cursor.lastCandle = latest;
+			final CandleDeltaDto delta = CandleDeltaDto.builder()
+					.timeCode(timeFrame.getTimeCode())
+					.sequence(++cursor.sequence)
+					.candles(candles)
+					.build();
 
-			// 업데이트된 캔들 데이터 조회 및 전송
-			final ChartResponseDto candleData = chartService.getChartHistory(companyCode, timeFrame.getTimeCode());
 			final String destination = String.format(TOPIC_TEMPLATE, companyCode, timeFrame.getTimeCode());
-			messagingTemplate.convertAndSend(destination, candleData);
+			messagingTemplate.convertAndSend(destination, delta);
 		} catch (Exception e) {
 			log.error("캔들 업데이트 중 오류 발생: {}분봉, 종목코드={}", timeFrame.getTimeCode(), companyCode, e);
 		}
 	}
+
+	private static StreamCursor[] newCursors() {
+		final StreamCursor[] cursors = new StreamCursor[TimeFrame.values().length];
+		for (int i = 0; i < cursors.length; i++) {
+			cursors[i] = new StreamCursor();
+		}
+		return cursors;
+	}
+
+	/**
+	 * 종목/타임프레임별 전송 상태 (각 타임프레임 스케줄 작업만 접근)
+	 */
+	private static final class StreamCursor {
+		private long lastTime = Long.MIN_VALUE;
+		private CandleDto lastCandle;
+		private long sequence;
+	}
 }
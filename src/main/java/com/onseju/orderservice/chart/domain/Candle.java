@@ -0,0 +1,56 @@
+package com.onseju.orderservice.chart.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마감된 캔들 (가격은 1/100원 단위 long)
+ * 종목/타임프레임/캔들 시간이 유니크 키이며, 같은 캔들은 덮어쓴다. 빈 캔들(직전 종가 고정)은 저장하지 않을 수 있다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "candle", uniqueConstraints = @UniqueConstraint(
+		name = "uk_candle_company_time_frame_time", columnNames = {"companyCode", "timeFrame", "candleTime"}))
+public class Candle {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "candle_id")
+	private Long id;
+
+	@Column(nullable = false, length = 20)
+	private String companyCode;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private TimeFrame timeFrame;
+
+	@Column(nullable = false)
+	private Long candleTime;
+
+	@Column(nullable = false)
+	private Long openPrice;
+
+	@Column(nullable = false)
+	private Long highPrice;
+
+	@Column(nullable = false)
+	private Long lowPrice;
+
+	@Column(nullable = false)
+	private Long closePrice;
+
+	@Column(nullable = false)
+	private Long volume;
+}
@@ -0,0 +1,311 @@
+package com.onseju.orderservice.chart.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.onseju.orderservice.chart.dto.CandleDto;
+import com.onseju.orderservice.chart.dto.IndicatorDto;
+
+/**
+ * 종목별 계층형 캔들 롤업
+ * 체결은 가장 작은 타임프레임(15초) 캔들만 갱신하고, 15초 캔들이 마감될 때 모든 상위 타임프레임 캔들에 병합한다.
+ * 아직 마감되지 않은 15초 캔들은 조회 시점에 상위 캔들의 마지막 값에 합쳐서 보여준다.
+ *
+ * TimeFrame은 작은 순서로 선언되어 있고 각 단위가 다음 단위를 나누어떨어지게 해야 한다.
+ * (새 타임프레임은 enum 상수 추가만으로 롤업 대상이 된다)
+ * 15초 캔들이 마감될 때마다 마감된 15초 캔들과 각 상위 타임프레임의 현재 캔들을 저장 대상으로 모아 둔다.
+ * 타임프레임별 캔들이 마감되면 보조지표 상태에 반영하고, 진행 중인 캔들은 조회 시점에 합쳐서 계산한다.
+ * 종목 작성 스레드(ChartWriterPool) 전용이며, 조회는 copy()로 만든 ChartSnapshot을 통해 다른 스레드에 공개한다.
+ */
+public class CandleRollup {
+
+	private static final TimeFrame[] LEVELS = TimeFrame.values();
+
+	static {
+		for (int level = 1; level < LEVELS.length; level++) {
+			if (LEVELS[level].getSeconds() % LEVELS[level - 1].getSeconds() != 0) {
+				throw new IllegalStateException(
+						"TimeFrame " + LEVELS[level] + " must be a multiple of " + LEVELS[level - 1]);
+			}
+		}
+	}
+
+	private final String companyCode;
+	private final CandleSeries[] series = new CandleSeries[LEVELS.length];
+	private final long[] steps = new long[LEVELS.length];
+	private final IndicatorState[] indicators = new IndicatorState[LEVELS.length];
+
+	// 저장된 캔들로 복원한 직후에는 마지막 15초 캔들이 이미 상위 캔들에 병합되어 있다.
+	private boolean baseRolledUp;
+	private List<ClosedCandle> closedCandles = new ArrayList<>();
+
+	public CandleRollup(final String companyCode, final int capacity) {
+		this.companyCode = companyCode;
+		for (int level = 0; level < LEVELS.length; level++) {
+			series[level] = new CandleSeries(capacity);
+			steps[level] = LEVELS[level].getSeconds();
+			indicators[level] = new IndicatorState();
+		}
+	}
+
+	private CandleRollup(final CandleRollup source) {
+		this.companyCode = source.companyCode;
+		for (int level = 0; level < LEVELS.length; level++) {
+			series[level] = source.series[level].copy();
+			steps[level] = source.steps[level];
+			indicators[level] = source.indicators[level].copy();
+		}
+		this.baseRolledUp = source.baseRolledUp;
+	}
+
+	/**
+	 * 캔들과 보조지표 상태를 복사한 독립 사본 (저장 대상 캔들은 복사하지 않는다)
+	 */
+	public CandleRollup copy() {
+		return new CandleRollup(this);
+	}
+
+	public boolean isEmpty() {
+		return series[0].isEmpty();
+	}
+
+	/**
+	 * 마지막 15초 캔들 시간
+	 */
+	public long lastTime() {
+		return series[0].lastTime();
+	}
+
+	/**
+	 * 마지막 체결가 (모든 타임프레임의 현재 캔들 종가와 같다)
+	 */
+	public long lastClose() {
+		return series[0].lastClose();
+	}
+
+	/**
+	 * 체결 반영 (15초 캔들만 갱신, 할당 없음)
+	 * 마지막 캔들보다 이전 시간의 체결은 무시한다.
+	 */
+	public void applyTrade(final long tradeTime, final long price, final long volume) {
+		final CandleSeries base = series[0];
+		final long candleTime = floor(tradeTime, steps[0]);
+
+		if (base.isEmpty()) {
+			base.append(candleTime, price, price, price, price, volume);
+		} else if (candleTime == base.lastTime()) {
+			if (!baseRolledUp) {
+				base.updateLast(price, volume);
+			}
+		} else if (candleTime > base.lastTime()) {
+			closeBase(candleTime);
+			base.append(candleTime, price, price, price, price, volume);
+		}
+	}
+
+	/**
+	 * 현재 시간까지 직전 종가로 빈 캔들을 채운다. (새 캔들을 추가했으면 true)
+	 */
+	public boolean advanceTo(final long now) {
+		final CandleSeries base = series[0];
+		if (base.isEmpty()) {
+			return false;
+		}
+		final long candleTime = floor(now, steps[0]);
+		if (candleTime <= base.lastTime()) {
+			return false;
+		}
+		final long close = base.lastClose();
+		closeBase(candleTime);
+		base.append(candleTime, close, close, close, close, 0L);
+		return true;
+	}
+
+	/**
+	 * 저장된 캔들 복원 (타임프레임별로 오래된 순서로 호출, 사이의 빈 캔들은 직전 종가로 채운다)
+	 * 복원 이후 마지막 15초 캔들과 같은 시간의 체결은 이미 반영된 것으로 보고 무시한다.
+	 */
+	public void restore(final TimeFrame timeFrame, final long time, final long open, final long high, final long low,
+			final long close, final long volume) {
+		final int level = timeFrame.ordinal();
+		final CandleSeries candles = series[level];
+		if (!candles.isEmpty()) {
+			if (time <= candles.lastTime()) {
+				return;
+			}
+			advanceLevel(level, time);
+		}
+		candles.append(time, open, high, low, close, volume);
+		if (level == 0) {
+			baseRolledUp = true;
+		}
+	}
+
+	/**
+	 * 마지막 호출 이후 저장 대상으로 모인 캔들을 꺼낸다.
+	 */
+	public List<ClosedCandle> drainClosedCandles() {
+		if (closedCandles.isEmpty()) {
+			return List.of();
+		}
+		final List<ClosedCandle> drained = closedCandles;
+		closedCandles = new ArrayList<>();
+		return drained;
+	}
+
+	/**
+	 * 현재 캔들의 거래량 (마감되지 않은 15초 캔들 포함, 할당 없음)
+	 */
+	public long liveVolume(final TimeFrame timeFrame) {
+		final CandleSeries base = series[0];
+		if (base.isEmpty()) {
+			return 0L;
+		}
+		final int level = timeFrame.ordinal();
+		final CandleSeries committed = series[level];
+		if (level == 0 || committed.isEmpty() || committed.lastTime() != floor(base.lastTime(), steps[level])) {
+			return base.lastVolume();
+		}
+		return baseRolledUp ? committed.lastVolume() : committed.lastVolume() + base.lastVolume();
+	}
+
+	/**
+	 * 오래된 순서로 캔들 목록 생성 (마지막 캔들은 마감되지 않은 15초 캔들까지 병합)
+	 */
+	public List<CandleDto> toCandles(final TimeFrame timeFrame) {
+		return toCandlesFrom(timeFrame, Long.MIN_VALUE);
+	}
+
+	/**
+	 * fromTime 이후(포함) 캔들만 오래된 순서로 생성
+	 */
+	public List<CandleDto> toCandlesFrom(final TimeFrame timeFrame, final long fromTime) {
+		final int level = timeFrame.ordinal();
+		final CandleSeries committed = series[level];
+		final List<CandleDto> candles = committed.toCandlesFrom(fromTime);
+		if (level == 0 || isEmpty() || (baseRolledUp && !committed.isEmpty())) {
+			return candles;
+		}
+
+		final CandleSeries base = series[0];
+		final long time = floor(base.lastTime(), steps[level]);
+		final int last = candles.size() - 1;
+		if (last >= 0 && committed.lastTime() == time) {
+			candles.set(last, CandleSeries.toCandle(time, committed.lastOpen(),
+					Math.max(committed.lastHigh(), base.lastHigh()), Math.min(committed.lastLow(), base.lastLow()),
+					base.lastClose(), committed.lastVolume() + base.lastVolume()));
+		} else if (time >= fromTime) {
+			candles.add(CandleSeries.toCandle(time, base.lastOpen(), base.lastHigh(), base.lastLow(),
+					base.lastClose(), base.lastVolume()));
+			if (candles.size() > committed.capacity()) {
+				candles.remove(0);
+			}
+		}
+		return candles;
+	}
+
+	/**
+	 * 현재 캔들까지 반영한 보조지표 (마감되지 않은 15초 캔들 포함)
+	 */
+	public IndicatorDto indicators(final TimeFrame timeFrame) {
+		if (isEmpty()) {
+			return null;
+		}
+		final int level = timeFrame.ordinal();
+		final CandleSeries committed = series[level];
+		if (level == 0 || (baseRolledUp && !committed.isEmpty())) {
+			return indicators[level].snapshot(committed.lastTime(), committed.lastHigh(), committed.lastLow(),
+					committed.lastClose(), committed.lastVolume());
+		}
+
+		final CandleSeries base = series[0];
+		final long time = floor(base.lastTime(), steps[level]);
+		if (!committed.isEmpty() && committed.lastTime() == time) {
+			return indicators[level].snapshot(time, Math.max(committed.lastHigh(), base.lastHigh()),
+					Math.min(committed.lastLow(), base.lastLow()), base.lastClose(),
+					committed.lastVolume() + base.lastVolume());
+		}
+
+		// 첫 하위 캔들이 아직 병합되지 않은 새 구간: 직전 캔들은 복사본에만 반영한다.
+		IndicatorState state = indicators[level];
+		if (!committed.isEmpty()) {
+			state = state.copy();
+			state.advance(committed.lastTime(), committed.lastHigh(), committed.lastLow(), committed.lastClose(),
+					committed.lastVolume(), time, steps[level]);
+		}
+		return state.snapshot(time, base.lastHigh(), base.lastLow(), base.lastClose(), base.lastVolume());
+	}
+
+	/**
+	 * 마지막 15초 캔들을 마감하고 time 직전까지 빈 캔들을 채운다.
+	 * 마감된 캔들과 빈 구간은 모든 상위 타임프레임에 바로 병합한다.
+	 */
+	private void closeBase(final long time) {
+		final CandleSeries base = series[0];
+		final long close = base.lastClose();
+		if (!baseRolledUp) {
+			for (int level = 1; level < LEVELS.length; level++) {
+				rollInto(level, base.lastTime(), base.lastOpen(), base.lastHigh(), base.lastLow(), close,
+						base.lastVolume());
+			}
+			collectLast(0);
+		}
+		baseRolledUp = false;
+
+		// 빈 캔들은 모두 직전 종가로 고정이므로 마지막 빈 캔들 하나만 병합하면 된다.
+		final long lastFlatTime = time - steps[0];
+		if (lastFlatTime > base.lastTime()) {
+			for (int level = 1; level < LEVELS.length; level++) {
+				rollInto(level, lastFlatTime, close, close, close, close, 0L);
+			}
+		}
+		for (int level = 1; level < LEVELS.length; level++) {
+			collectLast(level);
+		}
+		advanceLevel(0, time);
+	}
+
+	private void collectLast(final int level) {
+		final CandleSeries candles = series[level];
+		if (candles.isEmpty()) {
+			return;
+		}
+		closedCandles.add(new ClosedCandle(companyCode, LEVELS[level], candles.lastTime(), candles.lastOpen(),
+				candles.lastHigh(), candles.lastLow(), candles.lastClose(), candles.lastVolume()));
+	}
+
+	/**
+	 * 마감된 15초 캔들을 level 캔들에 병합 (새 구간이면 빈 캔들을 채운 뒤 추가)
+	 */
+	private void rollInto(final int level, final long childTime, final long open, final long high, final long low,
+			final long close, final long volume) {
+		final CandleSeries candles = series[level];
+		final long candleTime = floor(childTime, steps[level]);
+
+		if (candles.isEmpty()) {
+			candles.append(candleTime, open, high, low, close, volume);
+		} else if (candleTime == candles.lastTime()) {
+			candles.mergeLast(high, low, close, volume);
+		} else if (candleTime > candles.lastTime()) {
+			advanceLevel(level, candleTime);
+			candles.append(candleTime, open, high, low, close, volume);
+		}
+	}
+
+	/**
+	 * level의 마지막 캔들을 마감해 보조지표에 반영하고 time 직전까지 빈 캔들을 채운다.
+	 */
+	private void advanceLevel(final int level, final long time) {
+		final CandleSeries candles = series[level];
+		if (candles.isEmpty() || time <= candles.lastTime()) {
+			return;
+		}
+		indicators[level].advance(candles.lastTime(), candles.lastHigh(), candles.lastLow(), candles.lastClose(),
+				candles.lastVolume(), time, steps[level]);
+		candles.fillUntil(time, steps[level]);
+	}
+
+	private static long floor(final long time, final long step) {
+		return time - (time % step);
+	}
+}
@@ -0,0 +1,203 @@
+package com.onseju.orderservice.chart.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.onseju.orderservice.chart.dto.CandleDto;
+import com.onseju.orderservice.order.domain.Price;
+
+/**
+ * 종목/타임프레임별 캔들 원형 버퍼
+ * 시간, OHLC(1/100원 단위 long), 거래량을 병렬 primitive 배열에 저장하고,
+ * 체결 반영과 빈 캔들 채우기는 배열 값만 갱신한다. CandleDto는 조회 시에만 생성한다.
+ *
+ * 캔들 100개 기준 메모리: 기존 List<CandleDto>는 캔들마다 레코드와 박싱 객체 6개(약 130B),
+ * 원형 버퍼는 long 6개(48B)로 타임프레임당 약 13KB -> 5KB, 종목당(6개 타임프레임) 약 80KB -> 30KB.
+ * 종목 작성 스레드(ChartWriterPool)만 변경하므로 동기화하지 않으며, 다른 스레드는 ChartSnapshot에 복사된 버퍼만 읽는다.
+ */
+public class CandleSeries {
+
+	private final long[] times;
+	private final long[] opens;
+	private final long[] highs;
+	private final long[] lows;
+	private final long[] closes;
+	private final long[] volumes;
+	private final int capacity;
+
+	private int head;   // 가장 오래된 캔들 위치
+	private int size;
+
+	public CandleSeries(final int capacity) {
+		this.capacity = capacity;
+		this.times = new long[capacity];
+		this.opens = new long[capacity];
+		this.highs = new long[capacity];
+		this.lows = new long[capacity];
+		this.closes = new long[capacity];
+		this.volumes = new long[capacity];
+	}
+
+	private CandleSeries(final CandleSeries source) {
+		this.capacity = source.capacity;
+		this.times = source.times.clone();
+		this.opens = source.opens.clone();
+		this.highs = source.highs.clone();
+		this.lows = source.lows.clone();
+		this.closes = source.closes.clone();
+		this.volumes = source.volumes.clone();
+		this.head = source.head;
+		this.size = source.size;
+	}
+
+	/**
+	 * 배열을 복사한 독립 사본 (스냅샷 발행용)
+	 */
+	public CandleSeries copy() {
+		return new CandleSeries(this);
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	public long lastTime() {
+		return times[lastIndex()];
+	}
+
+	public long lastOpen() {
+		return opens[lastIndex()];
+	}
+
+	public long lastHigh() {
+		return highs[lastIndex()];
+	}
+
+	public long lastLow() {
+		return lows[lastIndex()];
+	}
+
+	public long lastClose() {
+		return closes[lastIndex()];
+	}
+
+	public long lastVolume() {
+		return volumes[lastIndex()];
+	}
+
+	/**
+	 * 새 캔들 추가 (가득 차면 가장 오래된 캔들을 덮어씀)
+	 */
+	public void append(final long time, final long open, final long high, final long low, final long close,
+			final long volume) {
+		final int index;
+		if (size < capacity) {
+			index = (head + size) % capacity;
+			size++;
+		} else {
+			index = head;
+			head = (head + 1) % capacity;
+		}
+		times[index] = time;
+		opens[index] = open;
+		highs[index] = high;
+		lows[index] = low;
+		closes[index] = close;
+		volumes[index] = volume;
+	}
+
+	/**
+	 * 마지막 캔들에 체결 반영
+	 */
+	public void updateLast(final long price, final long volume) {
+		mergeLast(price, price, price, volume);
+	}
+
+	/**
+	 * 마지막 캔들에 하위 캔들(같은 구간의 이후 캔들) 병합
+	 */
+	public void mergeLast(final long high, final long low, final long close, final long volume) {
+		final int index = lastIndex();
+		if (high > highs[index]) {
+			highs[index] = high;
+		}
+		if (low < lows[index]) {
+			lows[index] = low;
+		}
+		closes[index] = close;
+		volumes[index] += volume;
+	}
+
+	/**
+	 * 마지막 캔들 이후 endTime까지(미포함) 직전 종가로 빈 캔들을 채운다.
+	 * 버퍼 용량을 넘는 구간은 어차피 밀려나므로 최근 capacity개만 채운다.
+	 */
+	public void fillUntil(final long endTime, final long step) {
+		if (isEmpty()) {
+			return;
+		}
+		final long close = lastClose();
+		long start = lastTime() + step;
+		final long gap = (endTime - start) / step;
+		if (gap > capacity) {
+			start += (gap - capacity) * step;
+		}
+		for (long time = start; time < endTime; time += step) {
+			append(time, close, close, close, close, 0L);
+		}
+	}
+
+	/**
+	 * 오래된 순서로 CandleDto 목록 생성
+	 */
+	public List<CandleDto> toCandles() {
+		return toCandlesFrom(Long.MIN_VALUE);
+	}
+
+	/**
+	 * fromTime 이후(포함) 캔들만 오래된 순서로 생성
+	 */
+	public List<CandleDto> toCandlesFrom(final long fromTime) {
+		int count = 0;
+		while (count < size && times[(head + size - 1 - count) % capacity] >= fromTime) {
+			count++;
+		}
+		final List<CandleDto> candles = new ArrayList<>(count + 1);
+		for (int i = size - count; i < size; i++) {
+			candles.add(toDto((head + i) % capacity));
+		}
+		return candles;
+	}
+
+	private CandleDto toDto(final int index) {
+		return toCandle(times[index], opens[index], highs[index], lows[index], closes[index], volumes[index]);
+	}
+
+	static CandleDto toCandle(final long time, final long open, final long high, final long low, final long close,
+			final long volume) {
+		return CandleDto.builder()
+				.time(time)
+				.open(toDouble(open))
+				.high(toDouble(high))
+				.low(toDouble(low))
+				.close(toDouble(close))
+				.volume((int) volume)
+				.build();
+	}
+
+	private int lastIndex() {
+		return (head + size - 1) % capacity;
+	}
+
+	private static double toDouble(final long price) {
+		return (double) price / Price.ONE_WON;
+	}
+}
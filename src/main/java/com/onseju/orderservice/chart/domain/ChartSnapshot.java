@@ -0,0 +1,61 @@
+package com.onseju.orderservice.chart.domain;
+
+import java.util.List;
+
+import com.onseju.orderservice.chart.dto.CandleDto;
+import com.onseju.orderservice.chart.dto.IndicatorDto;
+
+/**
+ * 종목 차트 상태의 읽기 전용 스냅샷
+ * 작성 스레드가 캔들 롤업을 복사해 발행하며, 발행 후에는 변경되지 않으므로 여러 스레드가 락 없이 읽는다.
+ * version은 종목 상태가 바뀔 때마다 증가한다.
+ */
+public final class ChartSnapshot {
+
+	private final long version;
+	private final CandleRollup rollup;
+
+	private ChartSnapshot(final long version, final CandleRollup rollup) {
+		this.version = version;
+		this.rollup = rollup;
+	}
+
+	public static ChartSnapshot of(final long version, final CandleRollup source) {
+		return new ChartSnapshot(version, source.copy());
+	}
+
+	public long version() {
+		return version;
+	}
+
+	public boolean isEmpty() {
+		return rollup.isEmpty();
+	}
+
+	/**
+	 * 마지막 15초 캔들 시간
+	 */
+	public long lastTime() {
+		return rollup.lastTime();
+	}
+
+	public long lastClose() {
+		return rollup.lastClose();
+	}
+
+	public long liveVolume(final TimeFrame timeFrame) {
+		return rollup.liveVolume(timeFrame);
+	}
+
+	public List<CandleDto> toCandles(final TimeFrame timeFrame) {
+		return rollup.toCandles(timeFrame);
+	}
+
+	public List<CandleDto> toCandlesFrom(final TimeFrame timeFrame, final long fromTime) {
+		return rollup.toCandlesFrom(timeFrame, fromTime);
+	}
+
+	public IndicatorDto indicators(final TimeFrame timeFrame) {
+		return rollup.indicators(timeFrame);
+	}
+}
@@ -0,0 +1,16 @@
+package com.onseju.orderservice.chart.domain;
+
+/**
+ * 저장 대상 캔들 값 (가격은 1/100원 단위 long)
+ */
+public record ClosedCandle(
+		String companyCode,
+		TimeFrame timeFrame,
+		long time,
+		long open,
+		long high,
+		long low,
+		long close,
+		long volume
+) {
+}
@@ -0,0 +1,221 @@
+package com.onseju.orderservice.chart.domain;
+
+import com.onseju.orderservice.chart.dto.IndicatorDto;
+import com.onseju.orderservice.order.domain.Price;
+
+/**
+ * 종목/타임프레임별 보조지표 누적 상태
+ * 마감된 캔들이 추가될 때마다 O(1)로 상태를 갱신하고, 진행 중인 캔들은 상태를 바꾸지 않고 조회 시점에 합쳐서 계산한다.
+ *  - SMA, 볼린저 밴드(20, 2σ): 최근 종가 원형 버퍼와 종가 합, 제곱합
+ *  - EMA(20): 직전 EMA (첫 종가로 시작)
+ *  - RSI(14): Wilder 평균 상승/하락폭 (처음 14개는 단순 평균)
+ *  - VWAP: 당일(KST) 누적 (대표가 x 거래량)과 거래량
+ * 가격은 1/100원 단위 long으로 누적하고 결과만 원 단위로 변환한다.
+ * 소유한 CandleRollup과 같이 종목 작성 스레드에서만 갱신되고, 스냅샷 발행 시 함께 복사된다.
+ */
+public class IndicatorState {
+
+	public static final int MA_PERIOD = 20;
+	public static final int RSI_PERIOD = 14;
+
+	private static final double BOLLINGER_WIDTH = 2.0;
+	private static final double EMA_ALPHA = 2.0 / (MA_PERIOD + 1);
+	private static final long SECONDS_PER_DAY = 86_400L;
+	private static final long KST_OFFSET_SECONDS = 9 * 3_600L;
+
+	private final long[] closes;
+	private int head;   // 가장 오래된 종가 위치
+	private int count;
+	private long sum;
+	private long sumOfSquares;
+
+	private boolean started;
+	private long lastClose;
+	private double ema;
+
+	private int rsiSamples;
+	private double averageGain;
+	private double averageLoss;
+
+	private long sessionDay = Long.MIN_VALUE;
+	private double sessionPriceVolume;
+	private long sessionVolume;
+
+	public IndicatorState() {
+		this.closes = new long[MA_PERIOD];
+	}
+
+	private IndicatorState(final IndicatorState source) {
+		this.closes = source.closes.clone();
+		this.head = source.head;
+		this.count = source.count;
+		this.sum = source.sum;
+		this.sumOfSquares = source.sumOfSquares;
+		this.started = source.started;
+		this.lastClose = source.lastClose;
+		this.ema = source.ema;
+		this.rsiSamples = source.rsiSamples;
+		this.averageGain = source.averageGain;
+		this.averageLoss = source.averageLoss;
+		this.sessionDay = source.sessionDay;
+		this.sessionPriceVolume = source.sessionPriceVolume;
+		this.sessionVolume = source.sessionVolume;
+	}
+
+	public IndicatorState copy() {
+		return new IndicatorState(this);
+	}
+
+	/**
+	 * 마감된 캔들과 그 뒤 nextTime 직전까지의 빈 캔들(직전 종가, 거래량 0) 반영
+	 * 빈 캔들이 많아도 종가 버퍼 길이만큼만 반복하고 EMA/RSI는 거듭제곱으로 한 번에 감쇠한다.
+	 */
+	public void advance(final long time, final long high, final long low, final long close, final long volume,
+			final long nextTime, final long step) {
+		commit(time, high, low, close, volume);
+		final long flats = (nextTime - time) / step - 1;
+		if (flats > 0) {
+			commitFlat(nextTime - step, close, flats);
+		}
+	}
+
+	/**
+	 * 진행 중인 캔들을 합친 보조지표 계산 (상태는 바뀌지 않는다)
+	 * 기간을 채우지 못한 지표는 null
+	 */
+	public IndicatorDto snapshot(final long time, final long high, final long low, final long close,
+			final long volume) {
+		final IndicatorDto.IndicatorDtoBuilder builder = IndicatorDto.builder().time(time);
+
+		// SMA, 볼린저 밴드: 가장 오래된 종가를 진행 중인 종가로 교체
+		if (count + 1 >= MA_PERIOD) {
+			long windowSum = sum + close;
+			long windowSumOfSquares = sumOfSquares + close * close;
+			if (count == MA_PERIOD) {
+				final long oldest = closes[head];
+				windowSum -= oldest;
+				windowSumOfSquares -= oldest * oldest;
+			}
+			final double mean = (double) windowSum / MA_PERIOD;
+			final double variance = Math.max((double) windowSumOfSquares / MA_PERIOD - mean * mean, 0.0);
+			final double width = BOLLINGER_WIDTH * Math.sqrt(variance);
+			builder.sma(toWon(mean))
+					.bollingerUpper(toWon(mean + width))
+					.bollingerLower(toWon(mean - width));
+		}
+
+		builder.ema(toWon(started ? ema + EMA_ALPHA * (close - ema) : close));
+
+		if (started && rsiSamples + 1 >= RSI_PERIOD) {
+			final long change = close - lastClose;
+			builder.rsi(rsi(nextAverage(averageGain, Math.max(change, 0L)),
+					nextAverage(averageLoss, Math.max(-change, 0L))));
+		}
+
+		final boolean sameSession = sessionDay(time) == sessionDay;
+		final double priceVolume = (sameSession ? sessionPriceVolume : 0.0) + typicalPrice(high, low, close) * volume;
+		final long totalVolume = (sameSession ? sessionVolume : 0L) + volume;
+		if (totalVolume > 0) {
+			builder.vwap(toWon(priceVolume / totalVolume));
+		}
+		return builder.build();
+	}
+
+	private void commit(final long time, final long high, final long low, final long close, final long volume) {
+		pushClose(close);
+		if (started) {
+			final long change = close - lastClose;
+			averageGain = nextAverage(averageGain, Math.max(change, 0L));
+			averageLoss = nextAverage(averageLoss, Math.max(-change, 0L));
+			if (rsiSamples < RSI_PERIOD) {
+				rsiSamples++;
+			}
+			ema += EMA_ALPHA * (close - ema);
+		} else {
+			ema = close;
+			started = true;
+		}
+		lastClose = close;
+
+		startSession(time);
+		sessionPriceVolume += typicalPrice(high, low, close) * volume;
+		sessionVolume += volume;
+	}
+
+	/**
+	 * 직전 종가와 같은 빈 캔들 flats개 반영 (lastTime은 마지막 빈 캔들 시간)
+	 */
+	private void commitFlat(final long lastTime, final long close, final long flats) {
+		for (long i = 0; i < Math.min(flats, MA_PERIOD); i++) {
+			pushClose(close);
+		}
+
+		// 변화량이 0이므로 평균 상승/하락폭만 줄어든다.
+		long remaining = flats;
+		while (rsiSamples < RSI_PERIOD && remaining > 0) {
+			averageGain = nextAverage(averageGain, 0L);
+			averageLoss = nextAverage(averageLoss, 0L);
+			rsiSamples++;
+			remaining--;
+		}
+		if (remaining > 0) {
+			final double decay = Math.pow((RSI_PERIOD - 1.0) / RSI_PERIOD, remaining);
+			averageGain *= decay;
+			averageLoss *= decay;
+		}
+
+		ema = close + (ema - close) * Math.pow(1.0 - EMA_ALPHA, flats);
+		lastClose = close;
+		startSession(lastTime);
+	}
+
+	private void pushClose(final long close) {
+		if (count == MA_PERIOD) {
+			final long oldest = closes[head];
+			sum -= oldest;
+			sumOfSquares -= oldest * oldest;
+			closes[head] = close;
+			head = (head + 1) % MA_PERIOD;
+		} else {
+			closes[(head + count) % MA_PERIOD] = close;
+			count++;
+		}
+		sum += close;
+		sumOfSquares += close * close;
+	}
+
+	private double nextAverage(final double average, final long value) {
+		if (rsiSamples < RSI_PERIOD) {
+			return (average * rsiSamples + value) / (rsiSamples + 1);
+		}
+		return (average * (RSI_PERIOD - 1) + value) / RSI_PERIOD;
+	}
+
+	private void startSession(final long time) {
+		final long day = sessionDay(time);
+		if (day != sessionDay) {
+			sessionDay = day;
+			sessionPriceVolume = 0.0;
+			sessionVolume = 0L;
+		}
+	}
+
+	private static double rsi(final double gain, final double loss) {
+		if (loss == 0.0) {
+			return gain == 0.0 ? 50.0 : 100.0;
+		}
+		return 100.0 - 100.0 / (1.0 + gain / loss);
+	}
+
+	private static long sessionDay(final long time) {
+		return Math.floorDiv(time + KST_OFFSET_SECONDS, SECONDS_PER_DAY);
+	}
+
+	private static double typicalPrice(final long high, final long low, final long close) {
+		return (high + low + close) / 3.0;
+	}
+
+	private static double toWon(final double price) {
+		return price / Price.ONE_WON;
+	}
+}
@@ -23,4 +23,16 @@ public enum TimeFrame {
 	public String getTimeCode() {
 		return timeCode;
 	}
+
+	/**
+	 * 타임프레임 코드 검색 (없으면 15분봉)
+	 */
+	public static TimeFrame fromTimeCode(final String timeCode) {
+		for (TimeFrame timeFrame : values()) {
+			if (timeFrame.timeCode.equals(timeCode)) {
+				return timeFrame;
+			}
+		}
+		return MINUTE_15;
+	}
 }
@@ -0,0 +1,110 @@
+package com.onseju.orderservice.chart.domain;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 종목별 최근 체결 원형 테이프
+ * 체결 시간, 가격(1/100원 단위), 수량을 병렬 primitive 배열에 도착 순서대로 저장하고, 가득 차면 가장 오래된 체결을 덮어쓴다.
+ *
+ * 쓰기는 종목 작성 스레드(ChartWriterPool) 하나만 하고, 읽기는 조회 스레드에서 락 없이 한다.
+ * 쓰기는 덮어쓸 순번(claimed)을 먼저 알리고 슬롯을 채운 뒤 순번(written)을 올려 발행한다.
+ * 읽기는 복사 후 claimed를 다시 확인해 그 사이 덮어써졌을 수 있는 오래된 체결을 버린다. (StampedLock 낙관적 읽기와 같은 방식)
+ */
+public class TradeTape {
+
+	private final long[] times;
+	private final long[] prices;
+	private final long[] quantities;
+	private final int capacity;
+
+	// 지금까지 기록한 체결 수 (다음 체결의 순번)
+	private volatile long written;
+	// 쓰기 시작한 체결 수 (쓰는 중이 아니면 written과 같다)
+	private volatile long claimed;
+
+	public TradeTape(final int capacity) {
+		this.capacity = capacity;
+		this.times = new long[capacity];
+		this.prices = new long[capacity];
+		this.quantities = new long[capacity];
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	public int size() {
+		return (int) Math.min(written, capacity);
+	}
+
+	public boolean isEmpty() {
+		return written == 0;
+	}
+
+	/**
+	 * 체결 추가 (작성자 스레드에서만 호출, 할당 없음)
+	 */
+	public void append(final long time, final long price, final long quantity) {
+		final long sequence = written;
+		final int index = (int) (sequence % capacity);
+		claimed = sequence + 1;
+		VarHandle.storeStoreFence();
+		times[index] = time;
+		prices[index] = price;
+		quantities[index] = quantity;
+		written = sequence + 1;
+	}
+
+	/**
+	 * 가장 최근 체결
+	 */
+	public Optional<TradeTick> last() {
+		final List<TradeTick> trades = readRecent(0, 1);
+		return trades.isEmpty() ? Optional.empty() : Optional.of(trades.get(0));
+	}
+
+	/**
+	 * 최근 체결부터 offset개를 건너뛰고 최대 limit개를 최신순으로 조회
+	 */
+	public List<TradeTick> readRecent(final int offset, final int limit) {
+		final long end = written - offset;
+		final long start = Math.max(Math.max(end - limit, written - capacity), 0L);
+		if (end <= start) {
+			return List.of();
+		}
+
+		final List<TradeTick> trades = new ArrayList<>((int) (end - start));
+		for (long sequence = end - 1; sequence >= start; sequence--) {
+			final int index = (int) (sequence % capacity);
+			trades.add(new TradeTick(times[index], prices[index], quantities[index]));
+		}
+
+		// 복사하는 동안 작성자가 덮어썼을 수 있는 슬롯 제거 (현재 쓰는 중인 슬롯 포함)
+		VarHandle.loadLoadFence();
+		final long oldestValid = claimed - capacity;
+		if (start < oldestValid) {
+			final int valid = (int) Math.max(end - oldestValid, 0L);
+			return trades.subList(0, valid);
+		}
+		return trades;
+	}
+
+	/**
+	 * 오래된 순서로 모든 체결 전달 (작성자 스레드에서만 호출)
+	 */
+	public void forEach(final TradeConsumer consumer) {
+		final long end = written;
+		for (long sequence = Math.max(end - capacity, 0L); sequence < end; sequence++) {
+			final int index = (int) (sequence % capacity);
+			consumer.accept(times[index], prices[index], quantities[index]);
+		}
+	}
+
+	@FunctionalInterface
+	public interface TradeConsumer {
+		void accept(long time, long price, long quantity);
+	}
+}
@@ -0,0 +1,11 @@
+package com.onseju.orderservice.chart.domain;
+
+/**
+ * 체결 테이프의 체결 값 (가격은 1/100원 단위 long)
+ */
+public record TradeTick(
+		long time,
+		long price,
+		long quantity
+) {
+}
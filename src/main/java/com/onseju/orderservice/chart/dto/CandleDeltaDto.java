@@ -0,0 +1,18 @@
+package com.onseju.orderservice.chart.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * 캔들 변경분 메시지
+ * 직전 전송 이후 새로 생기거나 값이 바뀐 캔들만 담는다. 같은 시간의 캔들은 덮어쓴다.
+ * sequence는 종목/타임프레임별로 1씩 증가하며, 건너뛴 번호가 있으면 REST 히스토리를 다시 조회한다.
+ */
+@Builder
+public record CandleDeltaDto(
+		String timeCode,
+		Long sequence,
+		List<CandleDto> candles
+) {
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 public record ChartUpdateDto(
 		Double price,
 		Integer volume,
-		String timeCode
+		String timeCode,
+		IndicatorDto indicators
 ) {
 }
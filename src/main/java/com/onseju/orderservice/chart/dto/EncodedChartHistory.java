@@ -0,0 +1,34 @@
+package com.onseju.orderservice.chart.dto;
+
+/**
+ * JSON으로 미리 직렬화한 차트 기록 응답
+ * version은 직렬화에 사용한 차트 스냅샷 버전이다.
+ */
+public record EncodedChartHistory(
+		long version,
+		String eTag,
+		byte[] body
+) {
+
+	/**
+	 * If-None-Match 헤더 값과 ETag 비교 (여러 값, *, 약한 비교 W/ 지원)
+	 */
+	public boolean matches(final String ifNoneMatch) {
+		if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			String value = candidate.trim();
+			if (value.equals("*")) {
+				return true;
+			}
+			if (value.startsWith("W/")) {
+				value = value.substring(2);
+			}
+			if (value.equals(eTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
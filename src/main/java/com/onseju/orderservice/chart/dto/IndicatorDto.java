@@ -0,0 +1,15 @@
+package com.onseju.orderservice.chart.dto;
+
+import lombok.Builder;
+
+@Builder
+public record IndicatorDto(
+		Long time,              // 캔들 시간
+		Double sma,             // 단순 이동평균 (볼린저 밴드 중심선)
+		Double ema,             // 지수 이동평균
+		Double bollingerUpper,  // 볼린저 밴드 상단
+		Double bollingerLower,  // 볼린저 밴드 하단
+		Double rsi,             // 상대강도지수
+		Double vwap             // 당일 거래량 가중 평균가
+) {
+}
@@ -0,0 +1,10 @@
+package com.onseju.orderservice.chart.dto;
+
+import lombok.Builder;
+
+@Builder
+public record IndicatorResponseDto(
+		IndicatorDto indicators,
+		String timeCode
+) {
+}
@@ -0,0 +1,11 @@
+package com.onseju.orderservice.chart.dto;
+
+import lombok.Builder;
+
+@Builder
+public record RecentTradeDto(
+		Long time,          // 체결 시간
+		Double price,       // 체결 가격
+		Integer quantity    // 체결 수량
+) {
+}
@@ -0,0 +1,12 @@
+package com.onseju.orderservice.chart.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+@Builder
+public record RecentTradeResponseDto(
+		List<RecentTradeDto> trades,
+		Boolean hasNext
+) {
+}
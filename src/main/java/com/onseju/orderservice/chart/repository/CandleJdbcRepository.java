@@ -0,0 +1,113 @@
+package com.onseju.orderservice.chart.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.onseju.orderservice.chart.domain.ClosedCandle;
+import com.onseju.orderservice.chart.domain.TimeFrame;
+import com.onseju.orderservice.chart.service.repository.CandleRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class CandleJdbcRepository implements CandleRepository {
+
+	private static final String UPSERT_SQL = """
+			INSERT INTO candle (company_code, time_frame, candle_time, open_price, high_price, low_price, close_price, volume)
+			VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+			ON DUPLICATE KEY UPDATE
+				open_price = VALUES(open_price),
+				high_price = VALUES(high_price),
+				low_price = VALUES(low_price),
+				close_price = VALUES(close_price),
+				volume = VALUES(volume)
+			""";
+
+	private static final String FIND_RECENT_SQL = """
+			SELECT company_code, time_frame, candle_time, open_price, high_price, low_price, close_price, volume
+			FROM (
+				SELECT c.*, ROW_NUMBER() OVER (PARTITION BY company_code, time_frame ORDER BY candle_time DESC) AS rn
+				FROM candle c
+			) ranked
+			WHERE rn <= ?
+			ORDER BY company_code, time_frame, candle_time
+			""";
+
+	private static final String FIND_FIRST_SQL = """
+			SELECT company_code, time_frame, candle_time, open_price, high_price, low_price, close_price, volume
+			FROM candle
+			WHERE company_code = ? AND time_frame = ? AND candle_time >= ? AND candle_time < ?
+			ORDER BY candle_time
+			LIMIT ?
+			""";
+
+	private static final String FIND_LAST_SQL = """
+			SELECT company_code, time_frame, candle_time, open_price, high_price, low_price, close_price, volume
+			FROM (
+				SELECT *
+				FROM candle
+				WHERE company_code = ? AND time_frame = ? AND candle_time >= ? AND candle_time < ?
+				ORDER BY candle_time DESC
+				LIMIT ?
+			) recent
+			ORDER BY candle_time
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void upsertAll(final Collection<ClosedCandle> candles) {
+		if (candles.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(UPSERT_SQL, candles, candles.size(), (ps, candle) -> {
+			ps.setString(1, candle.companyCode());
+			ps.setString(2, candle.timeFrame().name());
+			ps.setLong(3, candle.time());
+			ps.setLong(4, candle.open());
+			ps.setLong(5, candle.high());
+			ps.setLong(6, candle.low());
+			ps.setLong(7, candle.close());
+			ps.setLong(8, candle.volume());
+		});
+	}
+
+	@Override
+	public void forEachRecent(final int limit, final Consumer<ClosedCandle> consumer) {
+		jdbcTemplate.query(FIND_RECENT_SQL, (RowCallbackHandler) rs -> consumer.accept(mapRow(rs)), limit);
+	}
+
+	@Override
+	public List<ClosedCandle> findFirst(final String companyCode, final TimeFrame timeFrame, final long fromTime,
+			final long toTime, final int limit) {
+		return jdbcTemplate.query(FIND_FIRST_SQL, (rs, rowNum) -> mapRow(rs),
+				companyCode, timeFrame.name(), fromTime, toTime, limit);
+	}
+
+	@Override
+	public List<ClosedCandle> findLast(final String companyCode, final TimeFrame timeFrame, final long fromTime,
+			final long toTime, final int limit) {
+		return jdbcTemplate.query(FIND_LAST_SQL, (rs, rowNum) -> mapRow(rs),
+				companyCode, timeFrame.name(), fromTime, toTime, limit);
+	}
+
+	private ClosedCandle mapRow(final ResultSet rs) throws SQLException {
+		return new ClosedCandle(
+				rs.getString("company_code"),
+				TimeFrame.valueOf(rs.getString("time_frame")),
+				rs.getLong("candle_time"),
+				rs.getLong("open_price"),
+				rs.getLong("high_price"),
+				rs.getLong("low_price"),
+				rs.getLong("close_price"),
+				rs.getLong("volume"));
+	}
+}
@@ -0,0 +1,362 @@
+package com.onseju.orderservice.chart.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import com.onseju.orderservice.chart.domain.ClosedCandle;
+import com.onseju.orderservice.chart.domain.TimeFrame;
+import com.onseju.orderservice.chart.service.repository.CandleHistoryRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메모리 매핑 파일 캔들 저장소
+ * 종목/타임프레임마다 파일 하나({path}/{종목코드}/{타임프레임}.candles)에 캔들을 시간 순 고정 길이 레코드로 저장한다.
+ *  - 헤더 16B: 형식 식별값(int), 형식 버전(int), 레코드 수(long)
+ *  - 레코드 48B: 시간, 시가, 고가, 저가, 종가(1/100원 단위), 거래량 (long 6개)
+ * 레코드가 시간 순으로 놓여 있으므로 구간 조회는 이진 탐색으로 시작 위치를 찾고 매핑된 페이지에서 바로 읽는다.
+ * 파일이 가득 차면 두 배 크기로 다시 매핑한다.
+ *
+ * 쓰기는 캔들 저장 스케줄러 한 스레드에서만 일어나고, 파일별 읽기/쓰기 락으로 조회와 분리한다.
+ * 매핑된 쓰기는 OS 페이지 캐시를 거쳐 기록되며, 종료 시 디스크에 강제로 반영한다. (원본은 DB candle 테이블)
+ *
+ * 레코드는 시간을 마지막에 쓰고, 끼워 넣기는 뒤에서부터 한 레코드씩 민 다음 레코드 수를 늘린다.
+ * 쓰기 도중 프로세스가 중단되면 레코드 수 다음 칸의 레코드나 같은 시간 레코드 한 쌍이 남으므로, 파일을 열 때 정리한다.
+ */
+@Slf4j
+@Repository
+public class MappedCandleFileRepository implements CandleHistoryRepository {
+
+	private static final int HEADER_BYTES = 16;
+	private static final int RECORD_BYTES = 6 * Long.BYTES;
+
+	private static final int MAGIC = 0x43414E44; // "CAND"
+	private static final int FORMAT_VERSION = 1;
+	private static final int COUNT_OFFSET = 8;
+	private static final String FILE_SUFFIX = ".candles";
+	private static final Pattern COMPANY_CODE_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,20}");
+
+	private final Path directory;
+	private final int initialRecords;
+	private final Map<String, CandleFile> files = new ConcurrentHashMap<>();
+
+	public MappedCandleFileRepository(
+			@Value("${chart.candle.store.path:data/candles}") final String directory,
+			@Value("${chart.candle.store.initial-records:4096}") final int initialRecords
+	) {
+		this.directory = Path.of(directory);
+		this.initialRecords = Math.max(initialRecords, 1);
+	}
+
+	@Override
+	public void appendAll(final Collection<ClosedCandle> candles) {
+		for (ClosedCandle candle : candles) {
+			final CandleFile file = fileOf(candle.companyCode(), candle.timeFrame(), true);
+			if (file != null) {
+				file.put(candle);
+			}
+		}
+	}
+
+	@Override
+	public List<ClosedCandle> findFirst(final String companyCode, final TimeFrame timeFrame, final long fromTime,
+			final long toTime, final int limit) {
+		final CandleFile file = fileOf(companyCode, timeFrame, false);
+		return file == null ? List.of() : file.read(companyCode, timeFrame, fromTime, toTime, limit, true);
+	}
+
+	@Override
+	public List<ClosedCandle> findLast(final String companyCode, final TimeFrame timeFrame, final long fromTime,
+			final long toTime, final int limit) {
+		final CandleFile file = fileOf(companyCode, timeFrame, false);
+		return file == null ? List.of() : file.read(companyCode, timeFrame, fromTime, toTime, limit, false);
+	}
+
+	@PreDestroy
+	public void close() {
+		files.values().forEach(CandleFile::close);
+		files.clear();
+	}
+
+	/**
+	 * 종목/타임프레임 파일 조회 (create가 아니면 없는 파일은 만들지 않는다)
+	 * 종목 코드가 경로로 쓰이므로 허용된 문자만 받는다.
+	 */
+	private CandleFile fileOf(final String companyCode, final TimeFrame timeFrame, final boolean create) {
+		if (companyCode == null || !COMPANY_CODE_PATTERN.matcher(companyCode).matches()) {
+			return null;
+		}
+
+		final String key = companyCode + ":" + timeFrame.name();
+		final CandleFile opened = files.get(key);
+		if (opened != null || !create && !Files.exists(pathOf(companyCode, timeFrame))) {
+			return opened;
+		}
+		return files.computeIfAbsent(key, k -> CandleFile.open(pathOf(companyCode, timeFrame), initialRecords));
+	}
+
+	private Path pathOf(final String companyCode, final TimeFrame timeFrame) {
+		return directory.resolve(companyCode).resolve(timeFrame.name() + FILE_SUFFIX);
+	}
+
+	/**
+	 * 종목/타임프레임 캔들 파일
+	 */
+	private static final class CandleFile {
+
+		private final Path path;
+		private final FileChannel channel;
+		private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+		private MappedByteBuffer buffer;
+		private int capacity;
+		private int count;
+
+		private CandleFile(final Path path, final FileChannel channel, final MappedByteBuffer buffer,
+				final int capacity, final int count) {
+			this.path = path;
+			this.channel = channel;
+			this.buffer = buffer;
+			this.capacity = capacity;
+			this.count = count;
+		}
+
+		static CandleFile open(final Path path, final int initialRecords) {
+			try {
+				Files.createDirectories(path.getParent());
+				final FileChannel channel = FileChannel.open(path,
+						StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+				final long size = channel.size();
+				if (size < HEADER_BYTES) {
+					final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+							HEADER_BYTES + (long) initialRecords * RECORD_BYTES);
+					buffer.putInt(0, MAGIC);
+					buffer.putInt(4, FORMAT_VERSION);
+					buffer.putLong(COUNT_OFFSET, 0L);
+					return new CandleFile(path, channel, buffer, initialRecords, 0);
+				}
+
+				final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+				final int capacity = (int) ((size - HEADER_BYTES) / RECORD_BYTES);
+				final long count = buffer.getLong(COUNT_OFFSET);
+				if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION || count < 0 || count > capacity) {
+					channel.close();
+					throw new IllegalStateException("캔들 파일 형식이 올바르지 않습니다: " + path);
+				}
+				final CandleFile file = new CandleFile(path, channel, buffer, capacity, (int) count);
+				file.recover();
+				return file;
+			} catch (IOException e) {
+				throw new UncheckedIOException("캔들 파일을 열 수 없습니다: " + path, e);
+			}
+		}
+
+		/**
+		 * 캔들 저장: 마지막 캔들 이후면 뒤에 추가하고, 같은 시간이 있으면 덮어쓰고, 사이 시간이면 끼워 넣는다.
+		 */
+		void put(final ClosedCandle candle) {
+			lock.writeLock().lock();
+			try {
+				final long time = candle.time();
+				if (count == 0 || time > timeAt(count - 1)) {
+					ensureCapacity(count + 1);
+					write(count, candle);
+					setCount(count + 1);
+					return;
+				}
+
+				final int index = lowerBound(time);
+				if (timeAt(index) == time) {
+					write(index, candle);
+					return;
+				}
+
+				// 늦게 도착한 과거 캔들: 뒤에서부터 한 레코드씩 민다. (드문 경우)
+				ensureCapacity(count + 1);
+				for (int target = count; target > index; target--) {
+					copy(target - 1, target);
+				}
+				write(index, candle);
+				setCount(count + 1);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		/**
+		 * [fromTime, toTime) 구간에서 앞(fromOldest) 또는 뒤에서 limit개를 오래된 순서로 읽는다.
+		 */
+		List<ClosedCandle> read(final String companyCode, final TimeFrame timeFrame, final long fromTime,
+				final long toTime, final int limit, final boolean fromOldest) {
+			lock.readLock().lock();
+			try {
+				final int start = lowerBound(fromTime);
+				final int end = lowerBound(toTime);
+				if (end <= start || limit <= 0) {
+					return List.of();
+				}
+
+				final int from = fromOldest ? start : Math.max(start, end - limit);
+				final int to = fromOldest ? Math.min(end, start + limit) : end;
+				final List<ClosedCandle> candles = new ArrayList<>(to - from);
+				for (int index = from; index < to; index++) {
+					final int offset = offsetOf(index);
+					candles.add(new ClosedCandle(companyCode, timeFrame,
+							buffer.getLong(offset),
+							buffer.getLong(offset + 8),
+							buffer.getLong(offset + 16),
+							buffer.getLong(offset + 24),
+							buffer.getLong(offset + 32),
+							buffer.getLong(offset + 40)));
+				}
+				return candles;
+			} finally {
+				lock.readLock().unlock();
+			}
+		}
+
+		/**
+		 * 중단된 쓰기 정리 (열 때 한 번)
+		 * 레코드 수 다음 칸에 마지막 레코드 이후(같은 시간 포함) 레코드가 있으면 끝에 추가하거나 밀던 중이었으므로 포함하고,
+		 * 같은 시간 레코드 한 쌍은 쓰다 만 앞쪽을 버린다. 시간 순서가 어긋난 레코드부터는 잘라낸다.
+		 */
+		private void recover() {
+			int size = count;
+			if (size < capacity && timeAt(size) != 0 && (size == 0 || timeAt(size) >= timeAt(size - 1))) {
+				size++;
+			}
+
+			int kept = 0;
+			for (int index = 0; index < size; index++) {
+				if (kept > 0 && timeAt(index) <= timeAt(kept - 1)) {
+					if (timeAt(index) < timeAt(kept - 1)) {
+						log.error("캔들 파일 시간 순서가 어긋나 {}번째 레코드부터 잘라냅니다: {}", index, path);
+						break;
+					}
+					kept--;
+				}
+				if (index != kept) {
+					copy(index, kept);
+				}
+				kept++;
+			}
+
+			for (int index = kept; index < Math.min(count + 1, capacity); index++) {
+				clear(index);
+			}
+			if (kept != count) {
+				log.warn("중단된 캔들 파일 쓰기를 정리했습니다: {} -> {}건 ({})", count, kept, path);
+				setCount(kept);
+			}
+		}
+
+		void close() {
+			lock.writeLock().lock();
+			try {
+				buffer.force();
+				channel.close();
+			} catch (IOException e) {
+				log.error("캔들 파일 닫기 실패: {}", path, e);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		/**
+		 * time 이상인 첫 레코드 위치 (없으면 count)
+		 */
+		private int lowerBound(final long time) {
+			int low = 0;
+			int high = count;
+			while (low < high) {
+				final int mid = (low + high) >>> 1;
+				if (timeAt(mid) < time) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		private long timeAt(final int index) {
+			return buffer.getLong(offsetOf(index));
+		}
+
+		/**
+		 * 레코드 쓰기 (시간을 마지막에 써서, 중단되면 이전 시간이 남는다)
+		 */
+		private void write(final int index, final ClosedCandle candle) {
+			final int offset = offsetOf(index);
+			buffer.putLong(offset + 8, candle.open());
+			buffer.putLong(offset + 16, candle.high());
+			buffer.putLong(offset + 24, candle.low());
+			buffer.putLong(offset + 32, candle.close());
+			buffer.putLong(offset + 40, candle.volume());
+			VarHandle.storeStoreFence();
+			buffer.putLong(offset, candle.time());
+		}
+
+		private void copy(final int from, final int to) {
+			final int source = offsetOf(from);
+			final int target = offsetOf(to);
+			for (int field = Long.BYTES; field < RECORD_BYTES; field += Long.BYTES) {
+				buffer.putLong(target + field, buffer.getLong(source + field));
+			}
+			VarHandle.storeStoreFence();
+			buffer.putLong(target, buffer.getLong(source));
+		}
+
+		private void clear(final int index) {
+			final int offset = offsetOf(index);
+			for (int field = 0; field < RECORD_BYTES; field += Long.BYTES) {
+				buffer.putLong(offset + field, 0L);
+			}
+		}
+
+		private void setCount(final int count) {
+			VarHandle.storeStoreFence();
+			this.count = count;
+			buffer.putLong(COUNT_OFFSET, count);
+		}
+
+		private void ensureCapacity(final int required) {
+			if (required <= capacity) {
+				return;
+			}
+			final int newCapacity = (int) Math.min(Math.max((long) capacity * 2, required),
+					(Integer.MAX_VALUE - HEADER_BYTES) / RECORD_BYTES);
+			if (newCapacity < required) {
+				throw new IllegalStateException("캔들 파일 최대 크기를 넘었습니다: " + path);
+			}
+			try {
+				buffer.force();
+				buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+						HEADER_BYTES + (long) newCapacity * RECORD_BYTES);
+				capacity = newCapacity;
+			} catch (IOException e) {
+				throw new UncheckedIOException("캔들 파일 확장 실패: " + path, e);
+			}
+		}
+
+		private static int offsetOf(final int index) {
+			return HEADER_BYTES + index * RECORD_BYTES;
+		}
+	}
+}
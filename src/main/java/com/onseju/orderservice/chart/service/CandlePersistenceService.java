@@ -0,0 +1,208 @@
+package com.onseju.orderservice.chart.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.onseju.orderservice.chart.domain.CandleSeries;
+import com.onseju.orderservice.chart.domain.ClosedCandle;
+import com.onseju.orderservice.chart.domain.TimeFrame;
+import com.onseju.orderservice.chart.dto.CandleDto;
+import com.onseju.orderservice.chart.service.repository.CandleHistoryRepository;
+import com.onseju.orderservice.chart.service.repository.CandleRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캔들 저장 서비스
+ * 15초 캔들이 마감될 때 모인 캔들을 큐에 넣고, 주기적으로 batch-size 건씩 upsert 한다.
+ * 체결 처리 경로에서는 큐에 넣기만 하고 DB 쓰기는 하지 않는다.
+ * 같은 배치를 긴 기간 조회용 캔들 기록 파일에도 저장하고, 구간 조회는 캔들 기록 파일에서 먼저 읽는다.
+ * 캔들 기록 파일은 서버별로 따로 쌓이고 이전 캔들이 채워져 있지 않으므로, 파일에서 limit개를 채우지 못하면 DB에서 다시 읽어 합친다.
+ */
+@Slf4j
+@Service
+public class CandlePersistenceService {
+
+	private final CandleRepository candleRepository;
+	private final CandleHistoryRepository candleHistoryRepository;
+	private final int batchSize;
+
+	private final ConcurrentLinkedQueue<ClosedCandle> pending = new ConcurrentLinkedQueue<>();
+	// 저장에 실패한 배치 (이후 값이 먼저 저장되지 않도록 다음 저장 때 가장 먼저 다시 시도)
+	private List<ClosedCandle> failedBatch = List.of();
+	// 캔들 기록 파일 저장에 실패한 캔들 (다음 저장 때 다시 시도, 최대 batch-size 건)
+	private final List<ClosedCandle> failedHistory = new ArrayList<>();
+
+	public CandlePersistenceService(
+			final CandleRepository candleRepository,
+			final CandleHistoryRepository candleHistoryRepository,
+			@Value("${chart.candle.flush-batch-size:5000}") final int batchSize
+	) {
+		this.candleRepository = candleRepository;
+		this.candleHistoryRepository = candleHistoryRepository;
+		this.batchSize = batchSize;
+	}
+
+	public void enqueue(final List<ClosedCandle> candles) {
+		if (!candles.isEmpty()) {
+			pending.addAll(candles);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${chart.candle.flush-interval-ms:1000}")
+	public synchronized void flush() {
+		retryHistory();
+		try {
+			if (!failedBatch.isEmpty()) {
+				candleRepository.upsertAll(failedBatch);
+				failedBatch = List.of();
+			}
+
+			List<ClosedCandle> batch;
+			do {
+				batch = drain();
+				if (batch.isEmpty()) {
+					return;
+				}
+				failedBatch = batch;
+				appendHistory(batch);
+				candleRepository.upsertAll(batch);
+				failedBatch = List.of();
+			} while (batch.size() == batchSize);
+		} catch (Exception e) {
+			log.error("캔들 저장 중 오류 발생: {}건 재시도 예정", failedBatch.size(), e);
+		}
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	/**
+	 * 종목/타임프레임별 최근 limit개 캔들을 한 번의 조회로 전달
+	 */
+	public void forEachRecentCandle(final int limit, final Consumer<ClosedCandle> consumer) {
+		candleRepository.forEachRecent(limit, consumer);
+	}
+
+	/**
+	 * fromTime 이상 toTime 미만 캔들을 최대 limit개까지 오래된 순서로 조회
+	 * fromTime만 있으면 fromTime부터 앞쪽 limit개, 그 외에는 toTime 직전 최근 limit개를 조회한다.
+	 * 저장되지 않은 빈 구간은 직전 종가 캔들로 채운다.
+	 */
+	public List<CandleDto> findCandles(final String companyCode, final TimeFrame timeFrame, final Long fromTime,
+			final Long toTime, final int limit) {
+		final long from = fromTime == null ? Long.MIN_VALUE : fromTime;
+		final long to = toTime == null ? Long.MAX_VALUE : toTime;
+		final boolean forward = fromTime != null && toTime == null;
+		final List<ClosedCandle> stored = findStored(companyCode, timeFrame, from, to, limit, forward);
+		if (stored.isEmpty()) {
+			return List.of();
+		}
+
+		// 앞쪽 조회는 빈 캔들을 채워도 첫 캔들부터 limit개 구간을 넘지 않는다.
+		final long step = timeFrame.getSeconds();
+		final long end = forward ? stored.get(0).time() + limit * step : Long.MAX_VALUE;
+		final CandleSeries series = new CandleSeries(limit);
+		for (ClosedCandle candle : stored) {
+			series.fillUntil(Math.min(candle.time(), end), step);
+			if (candle.time() >= end) {
+				break;
+			}
+			series.append(candle.time(), candle.open(), candle.high(), candle.low(), candle.close(),
+					candle.volume());
+		}
+		return series.toCandles();
+	}
+
+	/**
+	 * 구간 캔들 조회 (캔들 기록 파일에서 limit개를 채우지 못하면 DB 캔들과 합친다, 같은 시간은 DB 값)
+	 */
+	private List<ClosedCandle> findStored(final String companyCode, final TimeFrame timeFrame, final long from,
+			final long to, final int limit, final boolean forward) {
+		final List<ClosedCandle> history = forward
+				? candleHistoryRepository.findFirst(companyCode, timeFrame, from, to, limit)
+				: candleHistoryRepository.findLast(companyCode, timeFrame, from, to, limit);
+		if (history.size() >= limit) {
+			return history;
+		}
+
+		final List<ClosedCandle> persisted;
+		try {
+			persisted = forward
+					? candleRepository.findFirst(companyCode, timeFrame, from, to, limit)
+					: candleRepository.findLast(companyCode, timeFrame, from, to, limit);
+		} catch (Exception e) {
+			log.error("종목 {} 캔들 DB 조회 중 오류 발생, 캔들 기록 파일 결과만 반환합니다.", companyCode, e);
+			return history;
+		}
+		if (persisted.isEmpty()) {
+			return history;
+		}
+
+		final TreeMap<Long, ClosedCandle> merged = new TreeMap<>();
+		history.forEach(candle -> merged.put(candle.time(), candle));
+		persisted.forEach(candle -> merged.put(candle.time(), candle));
+		final List<ClosedCandle> candles = new ArrayList<>(merged.values());
+		return forward
+				? candles.subList(0, Math.min(limit, candles.size()))
+				: candles.subList(Math.max(0, candles.size() - limit), candles.size());
+	}
+
+	/**
+	 * 캔들 기록 파일 저장 (실패해도 DB 저장은 계속하고, 실패한 캔들은 다음 저장 때 다시 시도한다)
+	 * 다시 시도할 캔들이 batch-size 건을 넘으면 오래된 것부터 버린다. (조회 시 DB에서 채운다)
+	 */
+	private void appendHistory(final List<ClosedCandle> batch) {
+		if (!failedHistory.isEmpty()) {
+			// 재시도가 실패한 상태: 이후 값이 먼저 저장되지 않도록 뒤에 쌓는다.
+			addFailedHistory(batch);
+			return;
+		}
+		try {
+			candleHistoryRepository.appendAll(batch);
+		} catch (Exception e) {
+			log.error("캔들 기록 파일 저장 중 오류 발생: {}건 재시도 예정", batch.size(), e);
+			addFailedHistory(batch);
+		}
+	}
+
+	private void addFailedHistory(final List<ClosedCandle> batch) {
+		failedHistory.addAll(batch);
+		final int overflow = failedHistory.size() - batchSize;
+		if (overflow > 0) {
+			failedHistory.subList(0, overflow).clear();
+			log.warn("캔들 기록 파일 재시도 대상 {}건을 버립니다.", overflow);
+		}
+	}
+
+	private void retryHistory() {
+		if (failedHistory.isEmpty()) {
+			return;
+		}
+		try {
+			candleHistoryRepository.appendAll(failedHistory);
+			failedHistory.clear();
+		} catch (Exception e) {
+			log.error("캔들 기록 파일 재저장 중 오류 발생: {}건", failedHistory.size(), e);
+		}
+	}
+
+	private List<ClosedCandle> drain() {
+		final List<ClosedCandle> batch = new ArrayList<>();
+		ClosedCandle candle;
+		while (batch.size() < batchSize && (candle = pending.poll()) != null) {
+			batch.add(candle);
+		}
+		return batch;
+	}
+}
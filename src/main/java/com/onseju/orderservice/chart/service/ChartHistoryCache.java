@@ -0,0 +1,76 @@
+package com.onseju.orderservice.chart.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onseju.orderservice.chart.domain.ChartSnapshot;
+import com.onseju.orderservice.chart.domain.TimeFrame;
+import com.onseju.orderservice.chart.dto.ChartResponseDto;
+import com.onseju.orderservice.chart.dto.EncodedChartHistory;
+
+/**
+ * 종목/타임프레임별 차트 기록 JSON 캐시
+ * 차트 스냅샷 버전이 바뀔 때만 다시 직렬화하고, 같은 버전의 조회는 저장된 바이트를 그대로 돌려준다.
+ * ETag는 서버 기동 시점과 스냅샷 버전으로 만들어 재시작 후 같은 버전 번호와 겹치지 않게 한다.
+ */
+@Component
+public class ChartHistoryCache {
+
+	private final ChartService chartService;
+	private final ObjectMapper objectMapper;
+	private final String bootId = Long.toHexString(System.currentTimeMillis());
+
+	// 종목별 타임프레임 ordinal 인덱스
+	private final Map<String, AtomicReferenceArray<EncodedChartHistory>> cache = new ConcurrentHashMap<>();
+
+	public ChartHistoryCache(final ChartService chartService, final ObjectMapper objectMapper) {
+		this.chartService = chartService;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * 현재 차트 기록 조회 (캔들이 없으면 빈 값)
+	 */
+	public Optional<EncodedChartHistory> get(final String companyCode, final String timeframeCode) {
+		if (companyCode == null || companyCode.isEmpty()) {
+			return Optional.empty();
+		}
+
+		final ChartSnapshot snapshot = chartService.currentSnapshot(companyCode);
+		if (snapshot == null || snapshot.isEmpty()) {
+			return Optional.empty();
+		}
+
+		final TimeFrame timeFrame = TimeFrame.fromTimeCode(timeframeCode);
+		final AtomicReferenceArray<EncodedChartHistory> entries = cache.computeIfAbsent(
+				companyCode, k -> new AtomicReferenceArray<>(TimeFrame.values().length));
+		final EncodedChartHistory cached = entries.get(timeFrame.ordinal());
+		if (cached != null && cached.version() == snapshot.version()) {
+			return Optional.of(cached);
+		}
+
+		// 동시에 같은 버전을 직렬화해도 결과가 같으므로 마지막 값으로 덮어쓴다.
+		final EncodedChartHistory encoded = new EncodedChartHistory(snapshot.version(),
+				String.format("\"%s-%d\"", bootId, snapshot.version()),
+				encode(ChartResponseDto.builder()
+						.candles(snapshot.toCandles(timeFrame))
+						.timeCode(timeFrame.getTimeCode())
+						.build()));
+		entries.set(timeFrame.ordinal(), encoded);
+		return Optional.of(encoded);
+	}
+
+	public byte[] encode(final ChartResponseDto response) {
+		try {
+			return objectMapper.writeValueAsBytes(response);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("차트 응답 직렬화 실패", e);
+		}
+	}
+}
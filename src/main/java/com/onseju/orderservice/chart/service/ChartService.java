@@ -1,34 +1,56 @@
 package com.onseju.orderservice.chart.service;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import com.onseju.orderservice.chart.domain.CandleRollup;
+import com.onseju.orderservice.chart.domain.ChartSnapshot;
 import com.onseju.orderservice.chart.domain.TimeFrame;
+import com.onseju.orderservice.chart.domain.TradeTape;
+import com.onseju.orderservice.chart.domain.TradeTick;
 import com.onseju.orderservice.chart.dto.CandleDto;
 import com.onseju.orderservice.chart.dto.ChartResponseDto;
 import com.onseju.orderservice.chart.dto.ChartUpdateDto;
+import com.onseju.orderservice.chart.dto.IndicatorResponseDto;
+import com.onseju.orderservice.chart.dto.RecentTradeDto;
+import com.onseju.orderservice.chart.dto.RecentTradeResponseDto;
 import com.onseju.orderservice.company.service.ClosingPriceService;
+import com.onseju.orderservice.order.domain.Price;
 import com.onseju.orderservice.tradehistory.domain.TradeHistory;
 import com.onseju.orderservice.tradehistory.service.repository.TradeHistoryRepository;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 차트 데이터 관리 서비스 - 간소화 버전
+ * 캔들은 종목의 첫 체결, 첫 구독 또는 첫 조회 시점에 만들어지고, 구독 중인 종목에만 차트 업데이트를 전송한다.
+ * 체결도 전일 종가도 없는 종목은 구독/조회해도 상태를 만들지 않고 빈 응답을 돌려준다.
+ *
+ * 종목 차트 상태(체결 테이프, 캔들 롤업)는 ChartWriterPool의 종목 작성 스레드에서만 변경하고,
+ * 버전이 붙은 불변 스냅샷을 volatile 참조로 발행한다. 조회는 스냅샷만 읽으므로 체결 반영을 막지 않는다.
+ * 스냅샷은 롤업 전체를 복사하므로 구독 중인 종목만 체결 직후 발행하고, 그 외 종목은 변경 후 첫 조회 때 발행한다.
  */
 @Service
 @RequiredArgsConstructor
@@ -38,258 +60,230 @@ public class ChartService {
 	private final SimpMessagingTemplate messagingTemplate;
 	private final TradeHistoryRepository tradeHistoryRepository;
 	private final ClosingPriceService closingPriceService;
+	private final ChartSubscriptionRegistry chartSubscriptionRegistry;
+	private final CandlePersistenceService candlePersistenceService;
+	private final MeterRegistry meterRegistry;
+	private final ChartWriterPool chartWriterPool;
 
 	// 상수
 	private static final int MAX_TRADE_HISTORY = 1000;
 	private static final int CANDLE_KEEP_NUMBER = 100;
+	private static final int MAX_HISTORY_LIMIT = 1000;
 	private static final String CHART_TOPIC_FORMAT = "/topic/chart/%s";
 	private static final String TIMEFRAME_CHART_TOPIC_FORMAT = "/topic/chart/%s/%s";
+	private static final String WARM_UP_DURATION_METRIC = "chart.warmup.duration";
+	private static final String WARM_UP_PROGRESS_METRIC = "chart.warmup.progress";
+	private static final int WARM_UP_PROGRESS_LOG_INTERVAL = 500;
+	private static final long SNAPSHOT_WAIT_MILLIS = 100;
 
 	// 메모리 저장소
-	private final Map<String, ConcurrentLinkedQueue<TradeHistory>> recentTradesMap = new ConcurrentHashMap<>();
-	private final Map<String, Map<TimeFrame, List<CandleDto>>> timeFrameCandleMap = new ConcurrentHashMap<>();
-	private final Map<String, ReentrantReadWriteLock> companyLocks = new ConcurrentHashMap<>();
+	private final Map<String, ChartState> chartStates = new ConcurrentHashMap<>();
 
 	/**
-	 * 서버 시작 시 차트 데이터 초기화
+	 * 서버 시작 시 차트 데이터 준비
+	 * 저장된 캔들을 복원하고, 전 종목 최근 체결 내역을 한 번의 윈도우 조회로 읽은 뒤,
+	 * 종목별 캔들 생성을 종목 작성 스레드들에서 병렬로 수행한다. 단계별 소요 시간과 진행률을 메트릭으로 남긴다.
+	 * 체결 내역이 없는 종목의 캔들은 처음 필요할 때 전일 종가로 만든다.
 	 */
 	public void initializeAllCompanyCandleData() {
+		final Timer.Sample total = Timer.start(meterRegistry);
 		try {
-			final Set<String> allCompanyCodes = closingPriceService.getAllCompanyCodeByInmemory();
-			if (allCompanyCodes.isEmpty()) {
-				return;
-			}
-
-			// 모든 종목에 대해 락 초기화
-			allCompanyCodes.forEach(code -> companyLocks.putIfAbsent(code, new ReentrantReadWriteLock()));
+			// 저장된 캔들 복원 (한 번의 조회, 발행 전이므로 작성 스레드에 넘기기 전까지는 이 스레드만 접근)
+			final Map<String, CandleRollup> restoredRollups = warmUpTimer("restore").record(this::restoreCandles);
 
-			// 거래 내역 로드
-			tradeHistoryRepository.findDistinctCompanyCodes().forEach(this::loadRecentTradesForCompany);
+			// 전 종목 최근 거래 내역 로드 (한 번의 조회)
+			final Map<String, List<TradeHistory>> tradesByCompany = warmUpTimer("load-trades")
+					.record(this::loadRecentTrades);
 
-			// 캔들 초기화
-			allCompanyCodes.forEach(this::initializeCandlesForCompany);
+			// 종목별 캔들 병렬 생성 (복원된 종목은 마지막으로 저장된 15초 캔들 이후의 거래만 반영)
+			warmUpTimer("build").record(() -> buildCandlesInParallel(restoredRollups, tradesByCompany));
 		} catch (Exception e) {
 			log.error("차트 데이터 초기화 중 오류 발생", e);
+		} finally {
+			final long elapsedNanos = total.stop(warmUpTimer("total"));
+			log.info("차트 데이터 준비 완료: {}ms", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
 		}
 	}
 
 	/**
-	 * 특정 종목의 최근 거래 내역 로드
+	 * 종목/타임프레임별 최근 캔들을 저장소에서 읽어 캔들 롤업 복원
 	 */
-	private void loadRecentTradesForCompany(final String companyCode) {
+	private Map<String, CandleRollup> restoreCandles() {
+		final Map<String, CandleRollup> restoredRollups = new HashMap<>();
 		try {
-			final List<TradeHistory> recentTrades =
-					tradeHistoryRepository.findRecentTradesByCompanyCode(companyCode, MAX_TRADE_HISTORY);
-
-			if (!recentTrades.isEmpty()) {
-				recentTrades.sort(Comparator.comparing(TradeHistory::getTradeTime).reversed());
-				recentTradesMap.put(companyCode, new ConcurrentLinkedQueue<>(recentTrades));
-			}
+			candlePersistenceService.forEachRecentCandle(CANDLE_KEEP_NUMBER, candle ->
+					restoredRollups.computeIfAbsent(candle.companyCode(), k -> new CandleRollup(k, CANDLE_KEEP_NUMBER))
+							.restore(candle.timeFrame(), candle.time(), candle.open(), candle.high(), candle.low(),
+									candle.close(), candle.volume()));
+			log.info("저장된 캔들 복원 완료: {} 종목", restoredRollups.size());
 		} catch (Exception e) {
-			log.error("종목 {} 거래 내역 로드 중 오류 발생", companyCode, e);
+			log.error("저장된 캔들 복원 중 오류 발생", e);
 		}
+		return restoredRollups;
 	}
 
 	/**
+	 * 전 종목 최근 거래 내역 로드 (종목별 체결 시간 오름차순)
 	 */
-	private void initializeCandlesForCompany(final String companyCode) {
-		final ReentrantReadWriteLock lock = companyLocks.get(companyCode);
-		if (lock == null)
-			return;
-
-		lock.writeLock().lock();
-		try {
-			final ConcurrentLinkedQueue<TradeHistory> trades = recentTradesMap.get(companyCode);
-			final Map<TimeFrame, List<CandleDto>> companyTimeFrameMap =
-					timeFrameCandleMap.computeIfAbsent(companyCode, k -> new EnumMap<>(TimeFrame.class));
-
-			// 각 타임프레임별 캔들 생성
-			for (TimeFrame timeFrame : TimeFrame.values()) {
-				List<CandleDto> candles = new ArrayList<>();
-				companyTimeFrameMap.put(timeFrame, candles);
-
-				if (trades != null && !trades.isEmpty()) {
-					// 거래 내역 기반 캔들 생성
-					generateCandlesFromTrades(candles, new ArrayList<>(trades), timeFrame);
-				} else {
-					// 기본 캔들 생성
-					final Double price = closingPriceService.getClosingPrice(companyCode).doubleValue();
-					final Long now = Instant.now().getEpochSecond();
-					final Long candleTime = calculateCandleTime(now, timeFrame.getSeconds());
-					candles.add(createCandle(candleTime, price, price, price, price, 0));
-				}
-			}
-		} finally {
-			lock.writeLock().unlock();
+	private Map<String, List<TradeHistory>> loadRecentTrades() {
+		final Map<String, List<TradeHistory>> tradesByCompany = new HashMap<>();
+		for (TradeHistory trade : tradeHistoryRepository.findRecentTradesOfAllCompanies(MAX_TRADE_HISTORY)) {
+			tradesByCompany.computeIfAbsent(trade.getCompanyCode(), k -> new ArrayList<>()).add(trade);
 		}
+		log.info("최근 거래 내역 로드 완료: {} 종목", tradesByCompany.size());
+		return tradesByCompany;
+	}
+
+	private void buildCandlesInParallel(final Map<String, CandleRollup> restoredRollups,
+			final Map<String, List<TradeHistory>> tradesByCompany) {
+		final Set<String> companyCodes = new HashSet<>(tradesByCompany.keySet());
+		companyCodes.addAll(restoredRollups.keySet());
+
+		final int total = companyCodes.size();
+		final AtomicInteger completed = new AtomicInteger();
+		Gauge.builder(WARM_UP_PROGRESS_METRIC, completed, done -> total == 0 ? 1.0 : (double) done.get() / total)
+				.description("차트 준비 진행률 (0~1)")
+				.strongReference(true)
+				.register(meterRegistry);
+
+		// 종목별 작업을 해당 종목 작성 스레드에 제출 (작성 스레드 수만큼 병렬)
+		final CompletableFuture<?>[] builds = companyCodes.stream()
+				.map(companyCode -> chartWriterPool.submit(companyCode, () -> {
+					buildCandles(companyCode, restoredRollups.get(companyCode),
+							tradesByCompany.getOrDefault(companyCode, List.of()));
+					final int done = completed.incrementAndGet();
+					if (done % WARM_UP_PROGRESS_LOG_INTERVAL == 0) {
+						log.info("차트 캔들 생성 진행: {}/{}", done, total);
+					}
+				}))
+				.toArray(CompletableFuture[]::new);
+		CompletableFuture.allOf(builds).join();
 	}
 
 	/**
-	 * 거래 내역으로부터 캔들 생성
+	 * 종목 체결 테이프와 캔들 생성 (작성 스레드, trades는 체결 시간 오름차순)
+	 * 준비 중에 실시간 체결이 먼저 들어온 종목은 그대로 둔다.
+	 * 저장된 캔들이 없고 구독 중이 아닌 종목은 체결 테이프만 채우고, 캔들은 첫 구독/조회 때 테이프로 만든다.
 	 */
-	private void generateCandlesFromTrades(
-			final List<CandleDto> candles,
-			final List<TradeHistory> trades,
-			final TimeFrame timeFrame) {
-
-		if (trades.isEmpty())
+	private void buildCandles(final String companyCode, final CandleRollup restoredRollup,
+			final List<TradeHistory> trades) {
+		final ChartState state = stateOf(companyCode);
+		if (state.rollup != null || state.tape != null) {
 			return;
+		}
 
-		trades.sort(Comparator.comparing(TradeHistory::getTradeTime));
-		final Long timeFrameSeconds = timeFrame.getSeconds();
-		Long currentCandleTime = null;
-		Double open = null, high = null, low = null, close = null;
-		Integer volume = 0;
-
-		for (TradeHistory trade : trades) {
-			final Long tradeTime = trade.getTradeTime();
-			final Double price = trade.getPrice().doubleValue();
-			final Integer tradeVolume = trade.getQuantity().intValue();
-			final Long candleTime = calculateCandleTime(tradeTime, timeFrameSeconds);
-
-			if (currentCandleTime == null || candleTime > currentCandleTime) {
-				// 이전 캔들 저장
-				if (currentCandleTime != null) {
-					candles.add(createCandle(currentCandleTime, open, high, low, close, volume));
+		try {
+			final boolean buildRollup = restoredRollup != null || chartSubscriptionRegistry.isWatched(companyCode);
+			final CandleRollup rollup = restoredRollup != null ?
+					restoredRollup : new CandleRollup(companyCode, CANDLE_KEEP_NUMBER);
+			for (TradeHistory trade : trades) {
+				final long price = trade.getPrice().value();
+				final long quantity = trade.getQuantity().value();
+				state.tape().append(trade.getTradeTime(), price, quantity);
+				if (buildRollup) {
+					rollup.applyTrade(trade.getTradeTime(), price, quantity);
 				}
-
-				// 새 캔들 시작
-				currentCandleTime = candleTime;
-				open = high = low = close = price;
-				volume = tradeVolume;
-			} else {
-				// 같은 캔들 시간의 거래인 경우 업데이트
-				high = Math.max(high, price);
-				low = Math.min(low, price);
-				close = price;
-				volume += tradeVolume;
 			}
+			if (!buildRollup) {
+				return;
+			}
+			rollup.advanceTo(Instant.now().getEpochSecond());
+			state.rollup = rollup;
+			changed(state);
+		} catch (Exception e) {
+			log.error("종목 {} 캔들 생성 중 오류 발생", companyCode, e);
 		}
+	}
 
-		// 마지막 캔들 추가
-		if (currentCandleTime != null) {
-			candles.add(createCandle(currentCandleTime, open, high, low, close, volume));
-		}
+	private Timer warmUpTimer(final String stage) {
+		return Timer.builder(WARM_UP_DURATION_METRIC)
+				.description("차트 준비 단계별 소요 시간")
+				.tag("stage", stage)
+				.register(meterRegistry);
+	}
 
-		// 현재 시간까지 캔들 추가
-		if (!candles.isEmpty()) {
-			final Long now = Instant.now().getEpochSecond();
-			final Long lastCandleTime = candles.get(candles.size() - 1).time();
-			final Long candleTime = calculateCandleTime(now, timeFrameSeconds);
-			final Double lastPrice = candles.get(candles.size() - 1).close();
-
-			for (Long time = lastCandleTime + timeFrameSeconds; time <= candleTime; time += timeFrameSeconds) {
-				candles.add(createCandle(time, lastPrice, lastPrice, lastPrice, lastPrice, 0));
-			}
+	/**
+	 * 종목 캔들 생성 (체결 테이프가 있으면 체결 기반, 없으면 전일 종가 기준)
+	 * 작성 스레드에서 호출하며, 체결도 전일 종가도 없으면 null을 반환한다.
+	 */
+	private CandleRollup createRollup(final String companyCode, final TradeTape tape) {
+		if (tape == null || tape.isEmpty()) {
+			return createClosingPriceRollup(companyCode);
 		}
 
-		// 캔들 개수 제한
-		if (candles.size() > CANDLE_KEEP_NUMBER) {
-			List<CandleDto> limitedCandles = new ArrayList<>(
-					candles.subList(candles.size() - CANDLE_KEEP_NUMBER, candles.size()));
-			candles.clear();
-			candles.addAll(limitedCandles);
-		}
+		final CandleRollup rollup = new CandleRollup(companyCode, CANDLE_KEEP_NUMBER);
+		tape.forEach(rollup::applyTrade);
+
+		// 현재 시간까지 캔들 추가
+		rollup.advanceTo(Instant.now().getEpochSecond());
+		return rollup;
 	}
 
 	/**
-	 * 현재 시간 기준으로 캔들 데이터 업데이트 (자동)
+	 * 현재 시간 기준으로 캔들 데이터 업데이트 (작성 스레드)
+	 * 15초 캔들만 채우고, 상위 타임프레임은 마감된 하위 캔들로부터 롤업된다.
+	 * 완료를 기다리는 호출 측이 있으므로 마지막 발행 이후 바뀐 내용이 있으면 스냅샷을 바로 발행한다.
 	 */
-	private void updateCurrentCandles(final String companyCode, final TimeFrame timeFrame) {
-		final ReentrantReadWriteLock lock = companyLocks.computeIfAbsent(
-				companyCode, k -> new ReentrantReadWriteLock());
+	private void updateCurrentCandles(final String companyCode) {
+		ChartState state = chartStates.get(companyCode);
 
-		lock.writeLock().lock();
-		try {
-			final Map<TimeFrame, List<CandleDto>> companyTimeFrameMap =
-					timeFrameCandleMap.computeIfAbsent(companyCode, k -> new EnumMap<>(TimeFrame.class));
-			final List<CandleDto> candles =
-					companyTimeFrameMap.computeIfAbsent(timeFrame, k -> new ArrayList<>());
-
-			// 캔들이 없으면 기본 캔들 생성
-			if (candles.isEmpty()) {
-				final Double price = closingPriceService.getClosingPrice(companyCode).doubleValue();
-				final Long now = Instant.now().getEpochSecond();
-				final Long candleTime = calculateCandleTime(now, timeFrame.getSeconds());
-				candles.add(createCandle(candleTime, price, price, price, price, 0));
-				return;
+		if (state != null && state.rollup != null) {
+			// 현재 시간 기준 새 캔들 추가 (필요시, 빈 캔들 채우기)
+			if (state.rollup.advanceTo(Instant.now().getEpochSecond())) {
+				changed(state);
 			}
-
-			// 현재 시간 기준 새 캔들 추가 (필요시)
-			final CandleDto lastCandle = candles.get(candles.size() - 1);
-			final Long now = Instant.now().getEpochSecond();
-			final Long candleTime = calculateCandleTime(now, timeFrame.getSeconds());
-
-			if (candleTime > lastCandle.time()) {
-				// 빈 캔들 채우기
-				for (Long time = lastCandle.time() + timeFrame.getSeconds();
-					 time <= candleTime;
-					 time += timeFrame.getSeconds()) {
-					candles.add(createCandle(time, lastCandle.close(), lastCandle.close(),
-							lastCandle.close(), lastCandle.close(), 0));
-				}
-
-				// 캔들 개수 제한
-				if (candles.size() > CANDLE_KEEP_NUMBER) {
-					List<CandleDto> limitedCandles = new ArrayList<>(
-							candles.subList(candles.size() - CANDLE_KEEP_NUMBER, candles.size()));
-					candles.clear();
-					candles.addAll(limitedCandles);
-				}
+		} else {
+			// 캔들이 없으면 생성 (만들 수 없는 종목은 상태를 남기지 않는다)
+			final CandleRollup rollup = createRollup(companyCode, state == null ? null : state.tape);
+			if (rollup == null) {
+				return;
 			}
-		} finally {
-			lock.writeLock().unlock();
+			state = stateOf(companyCode);
+			state.rollup = rollup;
+			changed(state);
+		}
+		if (state.isStale()) {
+			publish(state);
 		}
 	}
 
 	/**
 	 * 특정 종목의 모든 타임프레임 캔들 데이터 업데이트
+	 * 종목 작성 스레드에서 실행되며, 새 스냅샷이 발행되면 완료된다.
 	 */
-	public void updateCandles(final String companyCode) {
+	public CompletableFuture<Void> updateCandles(final String companyCode) {
 		if (companyCode == null || companyCode.trim().isEmpty()) {
 			log.warn("캔들 업데이트 실패: 종목코드가 유효하지 않습니다.");
-			return;
+			return CompletableFuture.completedFuture(null);
 		}
-
-		for (TimeFrame timeFrame : TimeFrame.values()) {
-			try {
-				updateCurrentCandles(companyCode, timeFrame);
-			} catch (Exception e) {
-				log.error("종목 {}의 {}분봉 캔들 업데이트 중 오류 발생", companyCode, timeFrame.getTimeCode(), e);
-			}
+		if (!chartStates.containsKey(companyCode) && closingPriceService.getClosingPrice(companyCode) == null) {
+			// 체결도 전일 종가도 없는 종목: 만들 캔들이 없으므로 작성 스레드를 거치지 않는다.
+			return CompletableFuture.completedFuture(null);
 		}
-	}
 
-	/**
-	 * 캔들 생성 헬퍼 메서드
-	 */
-	private CandleDto createCandle(
-			Long time,
-			final Double open,
-			final Double high,
-			final Double low,
-			final Double close,
-			final Integer volume) {
-
-		return CandleDto.builder()
-				.time(time)
-				.open(open)
-				.high(high)
-				.low(low)
-				.close(close)
-				.volume(volume)
-				.build();
+		return chartWriterPool.submit(companyCode, () -> updateCurrentCandles(companyCode))
+				.exceptionally(e -> {
+					log.error("종목 {}의 캔들 업데이트 중 오류 발생", companyCode, e);
+					return null;
+				});
 	}
 
 	/**
-	 * 캔들 시간 계산 (타임프레임 단위로 내림)
+	 * 전일 종가로 현재 시간의 기본 캔들을 가진 롤업 생성 (전일 종가가 없으면 null)
 	 */
-	private Long calculateCandleTime(final Long timeInSeconds, final Long timeFrameSeconds) {
-		return timeInSeconds - (timeInSeconds % timeFrameSeconds);
+	private CandleRollup createClosingPriceRollup(final String companyCode) {
+		final BigDecimal closingPrice = closingPriceService.getClosingPrice(companyCode);
+		if (closingPrice == null) {
+			return null;
+		}
+
+		final CandleRollup rollup = new CandleRollup(companyCode, CANDLE_KEEP_NUMBER);
+		rollup.applyTrade(Instant.now().getEpochSecond(), Price.of(closingPrice).value(), 0L);
+		return rollup;
 	}
 
 	/**
-	 * 거래 내역 메모리 저장 및 캔들 업데이트
+	 * 거래 내역 메모리 저장 및 캔들 업데이트 (종목 작성 스레드에 제출)
 	 */
 	public void processNewTrade(final TradeHistory tradeHistory) {
 		if (tradeHistory == null || tradeHistory.getCompanyCode() == null) {
@@ -297,122 +291,44 @@ public class ChartService {
 		}
 
 		final String companyCode = tradeHistory.getCompanyCode();
-		storeTradeHistory(companyCode, tradeHistory);
-		updateCandlesWithTrade(companyCode, tradeHistory);
-		sendChartUpdates(companyCode, tradeHistory);
+		chartWriterPool.execute(companyCode, () -> applyTrade(companyCode, tradeHistory));
 	}
 
 	/**
-	 * 거래 내역 메모리 저장
+	 * 체결 테이프 기록 및 캔들 업데이트 (작성 스레드, 15초 캔들만 갱신)
+	 * 캔들이 아직 없는 종목은 구독 중일 때만 캔들을 만들고, 그 외에는 체결 테이프만 기록한다.
+	 * (테이프로 최근 체결/마지막 가격은 조회되며, 캔들은 첫 구독/조회 때 테이프로 만든다)
 	 */
-	private void storeTradeHistory(final String companyCode, final TradeHistory tradeHistory) {
-		final ConcurrentLinkedQueue<TradeHistory> trades = recentTradesMap.computeIfAbsent(
-				companyCode, k -> new ConcurrentLinkedQueue<>());
-
-		trades.offer(tradeHistory);
-
-		// 최대 개수 유지
-		while (trades.size() > MAX_TRADE_HISTORY) {
-			trades.poll();
-		}
-	}
-
-	/**
-	 * 거래 내역으로 캔들 업데이트
-	 */
-	private void updateCandlesWithTrade(final String companyCode, final TradeHistory tradeHistory) {
-		final ReentrantReadWriteLock lock = companyLocks.computeIfAbsent(
-				companyCode, k -> new ReentrantReadWriteLock());
-
-		lock.writeLock().lock();
-		try {
-			final Map<TimeFrame, List<CandleDto>> companyTimeFrameMap =
-					timeFrameCandleMap.computeIfAbsent(companyCode, k -> new EnumMap<>(TimeFrame.class));
-
-			for (TimeFrame timeFrame : TimeFrame.values()) {
-				updateTimeFrameCandle(tradeHistory, companyTimeFrameMap, timeFrame);
+	private void applyTrade(final String companyCode, final TradeHistory tradeHistory) {
+		final ChartState state = stateOf(companyCode);
+		final long price = tradeHistory.getPrice().value();
+		final long quantity = tradeHistory.getQuantity().value();
+		final boolean watched = chartSubscriptionRegistry.isWatched(companyCode);
+
+		state.tape().append(tradeHistory.getTradeTime(), price, quantity);
+		if (state.rollup == null) {
+			if (!watched) {
+				return;
 			}
-		} finally {
-			lock.writeLock().unlock();
+			// 체결 테이프에 이번 체결도 포함되어 있다.
+			state.rollup = createRollup(companyCode, state.tape);
+		} else {
+			state.rollup.applyTrade(tradeHistory.getTradeTime(), price, quantity);
 		}
-	}
+		changed(state);
 
-	/**
-	 * 특정 타임프레임 캔들 업데이트
-	 */
-	private void updateTimeFrameCandle(
-			final TradeHistory tradeHistory,
-			final Map<TimeFrame, List<CandleDto>> companyTimeFrameMap,
-			final TimeFrame timeFrame) {
-
-		final List<CandleDto> candles = companyTimeFrameMap.computeIfAbsent(
-				timeFrame, k -> new ArrayList<>());
-
-		final Long tradeTime = tradeHistory.getTradeTime();
-		final Long timeFrameSeconds = timeFrame.getSeconds();
-		final Long candleTime = calculateCandleTime(tradeTime, timeFrameSeconds);
-
-		final Double price = tradeHistory.getPrice().doubleValue();
-		final Integer volume = tradeHistory.getQuantity().intValue();
-
-		if (candles.isEmpty()) {
-			// 첫 캔들 생성
-			candles.add(createCandle(candleTime, price, price, price, price, volume));
-			return;
-		}
-
-		final CandleDto lastCandle = candles.get(candles.size() - 1);
-
-		if (lastCandle.time().equals(candleTime)) {
-			// 현재 캔들 업데이트
-			final CandleDto updatedCandle = CandleDto.builder()
-					.time(lastCandle.time())
-					.open(lastCandle.open())
-					.high(Math.max(lastCandle.high(), price))
-					.low(Math.min(lastCandle.low(), price))
-					.close(price)
-					.volume(lastCandle.volume() + volume)
-					.build();
-
-			candles.set(candles.size() - 1, updatedCandle);
-		} else if (candleTime > lastCandle.time()) {
-			// 새 캔들 추가 - 최대 캔들 수를 제한하고 너무 큰 시간 격차는 건너뜁니다
-			final int MAX_CANDLES_TO_FILL = 100; // 한 번에 생성할 수 있는 최대 캔들 수
-
-			// 시간 격차가 너무 크면 마지막 캔들부터 최근 시간까지만 채웁니다
-			long startTime = lastCandle.time() + timeFrameSeconds;
-			long gapCount = (candleTime - startTime) / timeFrameSeconds + 1;
-
-			if (gapCount > MAX_CANDLES_TO_FILL) {
-				// 큰 시간 격차가 있는 경우, 가장 최근 시간대에 가까운 캔들만 생성
-				startTime = candleTime - (MAX_CANDLES_TO_FILL - 1) * timeFrameSeconds;
-				log.info("큰 시간 격차 감지: {} 캔들 중 마지막 {}개만 생성합니다", gapCount, MAX_CANDLES_TO_FILL);
-			}
-
-			// 필요한 빈 캔들만 생성
-			for (Long time = startTime; time < candleTime; time += timeFrameSeconds) {
-				candles.add(createCandle(time, lastCandle.close(), lastCandle.close(),
-						lastCandle.close(), lastCandle.close(), 0));
-			}
-
-			// 실제 거래 캔들 추가
-			candles.add(createCandle(candleTime, price, price, price, price, volume));
-
-			// 캔들 개수 제한 (더 효율적인 방식으로 수정)
-			if (candles.size() > CANDLE_KEEP_NUMBER) {
-				// 앞에서부터 불필요한 캔들 제거
-				int removeCount = candles.size() - CANDLE_KEEP_NUMBER;
-				for (int i = 0; i < removeCount; i++) {
-					candles.remove(0); // 첫 번째 요소 제거
-				}
-			}
+		// 구독 중인 종목만 스냅샷 발행 및 전송 (그 외 종목은 조회 시 발행)
+		if (watched) {
+			schedulePublish(companyCode, state);
+			sendChartUpdates(companyCode, tradeHistory, state.rollup);
 		}
 	}
 
 	/**
-	 * 차트 업데이트 전송
+	 * 차트 업데이트 전송 (작성 스레드에서 최신 상태로 전송)
 	 */
-	private void sendChartUpdates(final String companyCode, final TradeHistory tradeHistory) {
+	private void sendChartUpdates(final String companyCode, final TradeHistory tradeHistory,
+			final CandleRollup rollup) {
 		final Double price = tradeHistory.getPrice().doubleValue();
 		final Integer volume = tradeHistory.getQuantity().intValue();
 
@@ -425,36 +341,50 @@ public class ChartService {
 		messagingTemplate.convertAndSend(String.format(CHART_TOPIC_FORMAT, companyCode), basicUpdateDto);
 
 		// 타임프레임별 업데이트 전송
-		final ReentrantReadWriteLock lock = companyLocks.get(companyCode);
-		if (lock == null)
+		if (rollup.isEmpty())
 			return;
 
-		lock.readLock().lock();
-		try {
-			final Map<TimeFrame, List<CandleDto>> companyTimeFrameMap = timeFrameCandleMap.get(companyCode);
-			if (companyTimeFrameMap == null)
-				return;
-
-			for (TimeFrame timeFrame : TimeFrame.values()) {
-				final List<CandleDto> candles = companyTimeFrameMap.get(timeFrame);
-				if (candles == null || candles.isEmpty())
-					continue;
+		final Double lastPrice = (double) rollup.lastClose() / Price.ONE_WON;
+		for (TimeFrame timeFrame : TimeFrame.values()) {
+			final ChartUpdateDto timeFrameUpdateDto = ChartUpdateDto.builder()
+					.price(lastPrice)
+					.volume((int) rollup.liveVolume(timeFrame))
+					.timeCode(timeFrame.getTimeCode())
+					.indicators(rollup.indicators(timeFrame))
+					.build();
 
-				final CandleDto latestCandle = candles.get(candles.size() - 1);
+			final String destination = String.format(
+					TIMEFRAME_CHART_TOPIC_FORMAT, companyCode, timeFrame.getTimeCode());
+			messagingTemplate.convertAndSend(destination, timeFrameUpdateDto);
+		}
+	}
 
-				final ChartUpdateDto timeFrameUpdateDto = ChartUpdateDto.builder()
-						.price(latestCandle.close())
-						.volume(latestCandle.volume())
-						.timeCode(timeFrame.getTimeCode())
-						.build();
+	/**
+	 * 기간 차트 기록 조회 (캔들 기록 파일, 부족하면 DB 캔들로 채움, fromTime 이상 toTime 미만, 최대 limit개)
+	 * fromTime만 있으면 fromTime 이후 앞쪽 캔들, 그 외에는 toTime 직전 최근 캔들을 조회한다.
+	 * 기간이 없으면 메모리의 최근 캔들을 조회한다.
+	 */
+	public ChartResponseDto getChartHistory(final String companyCode, final String timeframeCode,
+			final Long fromTime, final Long toTime, final Integer limit) {
+		if (fromTime == null && toTime == null) {
+			return getChartHistory(companyCode, timeframeCode);
+		}
+		if (companyCode == null || companyCode.isEmpty() ||
+				timeframeCode == null || timeframeCode.isEmpty()) {
+			return createEmptyChartResponse(TimeFrame.MINUTE_15.getTimeCode());
+		}
 
-				final String destination = String.format(
-						TIMEFRAME_CHART_TOPIC_FORMAT, companyCode, timeFrame.getTimeCode());
-				messagingTemplate.convertAndSend(destination, timeFrameUpdateDto);
-			}
-		} finally {
-			lock.readLock().unlock();
+		final TimeFrame requestedTimeFrame = TimeFrame.fromTimeCode(timeframeCode);
+		if (fromTime != null && toTime != null && fromTime >= toTime) {
+			return createEmptyChartResponse(requestedTimeFrame.getTimeCode());
 		}
+
+		final int safeLimit = limit == null ? CANDLE_KEEP_NUMBER : Math.min(Math.max(limit, 1), MAX_HISTORY_LIMIT);
+		return ChartResponseDto.builder()
+				.candles(candlePersistenceService.findCandles(
+						companyCode, requestedTimeFrame, fromTime, toTime, safeLimit))
+				.timeCode(requestedTimeFrame.getTimeCode())
+				.build();
 	}
 
 	/**
@@ -466,41 +396,47 @@ public class ChartService {
 			return createEmptyChartResponse(TimeFrame.MINUTE_15.getTimeCode());
 		}
 
-		TimeFrame requestedTimeFrame = TimeFrame.MINUTE_15; // 기본값
-
-		// 타임프레임 코드 검색
-		for (TimeFrame tf : TimeFrame.values()) {
-			if (tf.getTimeCode().equals(timeframeCode)) {
-				requestedTimeFrame = tf;
-				break;
-			}
+		final TimeFrame requestedTimeFrame = TimeFrame.fromTimeCode(timeframeCode);
+		final ChartSnapshot snapshot = currentSnapshot(companyCode);
+		if (snapshot == null || snapshot.isEmpty()) {
+			return createEmptyChartResponse(requestedTimeFrame.getTimeCode());
 		}
 
-		// 현재 시간까지의 캔들 업데이트
-		updateCurrentCandles(companyCode, requestedTimeFrame);
+		return ChartResponseDto.builder()
+				.candles(snapshot.toCandles(requestedTimeFrame))
+				.timeCode(requestedTimeFrame.getTimeCode())
+				.build();
+	}
 
-		final ReentrantReadWriteLock lock = companyLocks.computeIfAbsent(
-				companyCode, k -> new ReentrantReadWriteLock());
+	/**
+	 * 현재 캔들까지 반영한 보조지표 조회
+	 */
+	public IndicatorResponseDto getIndicators(final String companyCode, final String timeframeCode) {
+		final TimeFrame requestedTimeFrame = TimeFrame.fromTimeCode(timeframeCode);
+		if (companyCode == null || companyCode.isEmpty()) {
+			return createEmptyIndicatorResponse(requestedTimeFrame.getTimeCode());
+		}
 
-		lock.readLock().lock();
-		try {
-			final Map<TimeFrame, List<CandleDto>> companyTimeFrameMap = timeFrameCandleMap.get(companyCode);
-			if (companyTimeFrameMap == null) {
-				return createEmptyChartResponse(requestedTimeFrame.getTimeCode());
-			}
+		final ChartSnapshot snapshot = currentSnapshot(companyCode);
+		if (snapshot == null || snapshot.isEmpty()) {
+			return createEmptyIndicatorResponse(requestedTimeFrame.getTimeCode());
+		}
 
-			final List<CandleDto> timeFrameCandles = companyTimeFrameMap.get(requestedTimeFrame);
-			if (timeFrameCandles == null || timeFrameCandles.isEmpty()) {
-				return createEmptyChartResponse(requestedTimeFrame.getTimeCode());
-			}
+		return IndicatorResponseDto.builder()
+				.indicators(snapshot.indicators(requestedTimeFrame))
+				.timeCode(requestedTimeFrame.getTimeCode())
+				.build();
+	}
 
-			return ChartResponseDto.builder()
-					.candles(new ArrayList<>(timeFrameCandles))
-					.timeCode(requestedTimeFrame.getTimeCode())
-					.build();
-		} finally {
-			lock.readLock().unlock();
+	/**
+	 * fromTime 이후(포함)의 캔들 조회 (변경분 스트리밍용, 발행된 스냅샷만 읽음)
+	 */
+	public List<CandleDto> getCandlesSince(final String companyCode, final TimeFrame timeFrame, final long fromTime) {
+		final ChartSnapshot snapshot = publishedSnapshot(companyCode);
+		if (snapshot == null || snapshot.isEmpty()) {
+			return Collections.emptyList();
 		}
+		return snapshot.toCandlesFrom(timeFrame, fromTime);
 	}
 
 	/**
@@ -514,15 +450,148 @@ public class ChartService {
 	}
 
 	/**
-	 * 마지막 거래 조회
+	 * 빈 보조지표 응답 생성
+	 */
+	private IndicatorResponseDto createEmptyIndicatorResponse(final String timeCode) {
+		return IndicatorResponseDto.builder()
+				.timeCode(timeCode)
+				.build();
+	}
+
+	/**
+	 * 마지막 거래 조회 (락 없음)
 	 */
-	public Optional<TradeHistory> getLastTrade(final String companyCode) {
+	public Optional<TradeTick> getLastTrade(final String companyCode) {
 		if (companyCode == null || companyCode.trim().isEmpty()) {
 			return Optional.empty();
 		}
 
-		final ConcurrentLinkedQueue<TradeHistory> trades = recentTradesMap.get(companyCode);
-		return trades == null || trades.isEmpty() ?
-				Optional.empty() : Optional.of(trades.peek());
+		final ChartState state = chartStates.get(companyCode);
+		final TradeTape tape = state == null ? null : state.tape;
+		return tape == null ? Optional.empty() : tape.last();
+	}
+
+	/**
+	 * 최근 체결 페이지 조회 (최신순, 락 없음)
+	 */
+	public RecentTradeResponseDto getRecentTrades(final String companyCode, final int offset, final int limit) {
+		final ChartState state = companyCode == null ? null : chartStates.get(companyCode);
+		final TradeTape tape = state == null ? null : state.tape;
+		if (tape == null) {
+			return RecentTradeResponseDto.builder()
+					.trades(Collections.emptyList())
+					.hasNext(false)
+					.build();
+		}
+
+		final int safeOffset = Math.max(offset, 0);
+		final int safeLimit = Math.min(Math.max(limit, 1), tape.capacity());
+		final List<RecentTradeDto> trades = tape.readRecent(safeOffset, safeLimit).stream()
+				.map(trade -> RecentTradeDto.builder()
+						.time(trade.time())
+						.price((double) trade.price() / Price.ONE_WON)
+						.quantity((int) trade.quantity())
+						.build())
+				.toList();
+
+		return RecentTradeResponseDto.builder()
+				.trades(trades)
+				.hasNext(safeOffset + trades.size() < tape.size())
+				.build();
+	}
+
+	/**
+	 * 현재 15초 구간까지 반영된 스냅샷 조회
+	 * 발행 이후 체결이 있었거나 지난 구간이면 작성 스레드에 발행을 요청하고 최대 SNAPSHOT_WAIT_MILLIS 동안 기다린다.
+	 * 작성 스레드가 밀려 있으면 기다리지 않고 마지막으로 발행된 스냅샷을 반환한다.
+	 * 캔들을 만들 수 없는 종목이면 null을 반환한다.
+	 */
+	public ChartSnapshot currentSnapshot(final String companyCode) {
+		final ChartState state = chartStates.get(companyCode);
+		final ChartSnapshot snapshot = state == null ? null : state.snapshot;
+		final long now = Instant.now().getEpochSecond();
+		final long currentCandleTime = now - now % TimeFrame.SECONDS_15.getSeconds();
+		if (snapshot != null && !snapshot.isEmpty() && !state.isStale() && snapshot.lastTime() >= currentCandleTime) {
+			return snapshot;
+		}
+
+		try {
+			updateCandles(companyCode).get(SNAPSHOT_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			log.debug("종목 {} 스냅샷 발행 대기 시간 초과, 마지막 스냅샷을 반환합니다.", companyCode);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			log.error("종목 {} 스냅샷 발행 중 오류 발생", companyCode, e.getCause());
+		}
+		return publishedSnapshot(companyCode);
+	}
+
+	private ChartSnapshot publishedSnapshot(final String companyCode) {
+		final ChartState state = chartStates.get(companyCode);
+		return state == null ? null : state.snapshot;
+	}
+
+	private ChartState stateOf(final String companyCode) {
+		return chartStates.computeIfAbsent(companyCode, k -> new ChartState());
+	}
+
+	/**
+	 * 상태 변경 반영 (작성 스레드): 버전 증가, 마감된 캔들 저장 요청
+	 */
+	private void changed(final ChartState state) {
+		state.version++;
+		candlePersistenceService.enqueue(state.rollup.drainClosedCandles());
+	}
+
+	/**
+	 * 스냅샷 발행 예약 (작성 스레드)
+	 * 이미 예약되어 있으면 건너뛰므로, 체결이 몰리면 대기 중인 체결을 모두 반영한 뒤 한 번만 발행한다.
+	 */
+	private void schedulePublish(final String companyCode, final ChartState state) {
+		if (state.publishScheduled.compareAndSet(false, true)) {
+			chartWriterPool.execute(companyCode, () -> {
+				state.publishScheduled.set(false);
+				if (state.isStale()) {
+					publish(state);
+				}
+			});
+		}
+	}
+
+	private void publish(final ChartState state) {
+		state.snapshot = ChartSnapshot.of(state.version, state.rollup);
+	}
+
+	/**
+	 * 종목 차트 상태
+	 * rollup은 종목 작성 스레드만 접근하고, 다른 스레드는 snapshot, version과 체결 테이프(락 없는 읽기)만 읽는다.
+	 * version은 작성 스레드만 올리며, 조회 스레드는 snapshot의 버전과 비교해 발행 이후 변경 여부를 판단한다.
+	 * 체결 테이프는 첫 체결이 들어올 때 만든다. (체결이 없는 종목은 테이프 메모리를 쓰지 않는다)
+	 */
+	private static final class ChartState {
+		private final AtomicBoolean publishScheduled = new AtomicBoolean();
+		private volatile TradeTape tape;
+		private CandleRollup rollup;
+		private volatile long version;
+		private volatile ChartSnapshot snapshot;
+
+		/**
+		 * 마지막 발행 이후 변경되었는지 여부
+		 */
+		private boolean isStale() {
+			final ChartSnapshot published = snapshot;
+			return published == null || published.version() != version;
+		}
+
+		/**
+		 * 기록용 체결 테이프 (작성 스레드)
+		 */
+		private TradeTape tape() {
+			if (tape == null) {
+				tape = new TradeTape(MAX_TRADE_HISTORY);
+			}
+			return tape;
+		}
 	}
 }
@@ -0,0 +1,95 @@
+package com.onseju.orderservice.chart.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 차트 토픽(/topic/chart/**, /topic/candle/**)을 구독 중인 종목 관리
+ * 구독 변경은 드물기 때문에 변경은 동기화하고, 체결/스케줄러 경로의 조회는 락 없이 한다.
+ */
+@Component
+public class ChartSubscriptionRegistry {
+
+	private static final String[] CHART_TOPIC_PREFIXES = {"/topic/chart/", "/topic/candle/"};
+
+	// 종목별 구독 수
+	private final Map<String, Integer> watcherCounts = new ConcurrentHashMap<>();
+	// 세션별 구독 ID -> 종목 코드 (UNSUBSCRIBE 프레임에는 destination이 없음)
+	private final Map<String, Map<String, String>> sessionSubscriptions = new HashMap<>();
+
+	public boolean isWatched(final String companyCode) {
+		return watcherCounts.containsKey(companyCode);
+	}
+
+	public Set<String> getWatchedCompanyCodes() {
+		return watcherCounts.keySet();
+	}
+
+	/**
+	 * 구독 등록
+	 * @return 해당 종목의 첫 구독이면 true
+	 */
+	public synchronized boolean subscribe(final String sessionId, final String subscriptionId,
+			final String destination) {
+		final String companyCode = extractCompanyCode(destination);
+		if (companyCode == null || sessionId == null || subscriptionId == null) {
+			return false;
+		}
+
+		final String previous = sessionSubscriptions.computeIfAbsent(sessionId, k -> new HashMap<>())
+				.put(subscriptionId, companyCode);
+		if (previous != null) {
+			release(previous);
+		}
+		return watcherCounts.merge(companyCode, 1, Integer::sum) == 1;
+	}
+
+	public synchronized void unsubscribe(final String sessionId, final String subscriptionId) {
+		final Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+		if (subscriptions == null) {
+			return;
+		}
+
+		final String companyCode = subscriptions.remove(subscriptionId);
+		if (companyCode != null) {
+			release(companyCode);
+		}
+		if (subscriptions.isEmpty()) {
+			sessionSubscriptions.remove(sessionId);
+		}
+	}
+
+	public synchronized void disconnect(final String sessionId) {
+		final Map<String, String> subscriptions = sessionSubscriptions.remove(sessionId);
+		if (subscriptions != null) {
+			subscriptions.values().forEach(this::release);
+		}
+	}
+
+	private void release(final String companyCode) {
+		watcherCounts.computeIfPresent(companyCode, (k, count) -> count == 1 ? null : count - 1);
+	}
+
+	/**
+	 * /topic/chart/{code}, /topic/chart/{code}/{tf}, /topic/candle/{code}/{tf} 에서 종목 코드 추출
+	 */
+	public static String extractCompanyCode(final String destination) {
+		if (destination == null) {
+			return null;
+		}
+
+		for (String prefix : CHART_TOPIC_PREFIXES) {
+			if (destination.startsWith(prefix)) {
+				final int end = destination.indexOf('/', prefix.length());
+				final String companyCode = end < 0 ?
+						destination.substring(prefix.length()) : destination.substring(prefix.length(), end);
+				return companyCode.isEmpty() ? null : companyCode;
+			}
+		}
+		return null;
+	}
+}
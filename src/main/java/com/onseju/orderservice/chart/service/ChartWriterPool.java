@@ -0,0 +1,80 @@
+package com.onseju.orderservice.chart.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종목별 차트 상태 작성 스레드
+ * 종목 코드 해시로 단일 스레드 실행기를 고정 배정하므로 한 종목의 차트 상태는 항상 같은 스레드에서만 변경되고,
+ * 종목별 작업은 제출 순서대로 실행된다. 읽기는 작성 스레드가 발행한 스냅샷을 사용한다.
+ */
+@Slf4j
+@Component
+public class ChartWriterPool {
+
+	private final ExecutorService[] writers;
+
+	public ChartWriterPool(@Value("${chart.writer.threads:0}") final int threads) {
+		final int count = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		this.writers = new ExecutorService[count];
+		for (int i = 0; i < count; i++) {
+			final String name = "chart-writer-" + i;
+			writers[i] = Executors.newSingleThreadExecutor(runnable -> {
+				final Thread thread = new Thread(runnable, name);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	public int size() {
+		return writers.length;
+	}
+
+	/**
+	 * 종목 작성 스레드에서 실행 (완료를 기다리지 않음)
+	 */
+	public void execute(final String companyCode, final Runnable task) {
+		writerOf(companyCode).execute(() -> {
+			try {
+				task.run();
+			} catch (Exception e) {
+				log.error("차트 작성 작업 중 오류 발생: 종목코드={}", companyCode, e);
+			}
+		});
+	}
+
+	/**
+	 * 종목 작성 스레드에서 실행하고 완료 시점을 반환
+	 * (앞서 제출된 같은 종목의 작업이 모두 끝난 뒤 실행된다)
+	 */
+	public CompletableFuture<Void> submit(final String companyCode, final Runnable task) {
+		return CompletableFuture.runAsync(task, writerOf(companyCode));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		for (ExecutorService writer : writers) {
+			writer.shutdown();
+		}
+		try {
+			for (ExecutorService writer : writers) {
+				writer.awaitTermination(5, TimeUnit.SECONDS);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private ExecutorService writerOf(final String companyCode) {
+		return writers[Math.floorMod(companyCode.hashCode(), writers.length)];
+	}
+}
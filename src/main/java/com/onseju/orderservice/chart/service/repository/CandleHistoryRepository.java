@@ -0,0 +1,30 @@
+package com.onseju.orderservice.chart.service.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.onseju.orderservice.chart.domain.ClosedCandle;
+import com.onseju.orderservice.chart.domain.TimeFrame;
+
+/**
+ * 종목/타임프레임별 시간 순 캔들 기록 저장소 (긴 기간 차트 조회용)
+ */
+public interface CandleHistoryRepository {
+
+	/**
+	 * 캔들 저장 (같은 시간의 캔들은 덮어쓴다)
+	 */
+	void appendAll(final Collection<ClosedCandle> candles);
+
+	/**
+	 * fromTime 이상 toTime 미만 캔들 중 가장 오래된 limit개를 오래된 순서로 조회한다.
+	 */
+	List<ClosedCandle> findFirst(final String companyCode, final TimeFrame timeFrame, final long fromTime,
+			final long toTime, final int limit);
+
+	/**
+	 * fromTime 이상 toTime 미만 캔들 중 가장 최근 limit개를 오래된 순서로 조회한다.
+	 */
+	List<ClosedCandle> findLast(final String companyCode, final TimeFrame timeFrame, final long fromTime,
+			final long toTime, final int limit);
+}
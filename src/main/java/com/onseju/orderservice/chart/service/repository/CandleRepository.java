@@ -0,0 +1,30 @@
+package com.onseju.orderservice.chart.service.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.onseju.orderservice.chart.domain.ClosedCandle;
+import com.onseju.orderservice.chart.domain.TimeFrame;
+
+public interface CandleRepository {
+
+	void upsertAll(final Collection<ClosedCandle> candles);
+
+	/**
+	 * 종목/타임프레임별 최근 limit개 캔들을 종목, 타임프레임, 시간 순서로 전달한다.
+	 */
+	void forEachRecent(final int limit, final Consumer<ClosedCandle> consumer);
+
+	/**
+	 * fromTime 이상 toTime 미만 캔들 중 가장 오래된 limit개를 오래된 순서로 조회한다.
+	 */
+	List<ClosedCandle> findFirst(final String companyCode, final TimeFrame timeFrame, final long fromTime,
+			final long toTime, final int limit);
+
+	/**
+	 * fromTime 이상 toTime 미만 캔들 중 가장 최근 limit개를 오래된 순서로 조회한다.
+	 */
+	List<ClosedCandle> findLast(final String companyCode, final TimeFrame timeFrame, final long fromTime,
+			final long toTime, final int limit);
+}
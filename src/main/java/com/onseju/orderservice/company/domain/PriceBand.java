@@ -0,0 +1,41 @@
+package com.onseju.orderservice.company.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.onseju.orderservice.order.OrderConstant;
+
+/**
+ * 전일 종가 기준 가격 제한 범위 (원 단위, 상/하한 포함)
+ * 종가 갱신 시 한 번만 계산해 두고 주문마다 정수 비교만 수행한다.
+ */
+public record PriceBand(
+		long lowerLimit,
+		long upperLimit
+) {
+
+	private static final BigDecimal PERCENTAGE_DIVISOR = BigDecimal.valueOf(100);
+
+	public static PriceBand of(final BigDecimal closingPrice) {
+		final int priceLimit = OrderConstant.CLOSING_PRICE_LIMIT.getValue();
+
+		// 기존 BigDecimal 비교와 동일한 경계를 갖도록 하한은 올림, 상한은 내림
+		final long lowerLimit = calculatePriceLimit(closingPrice, -priceLimit)
+				.setScale(0, RoundingMode.CEILING)
+				.longValueExact();
+		final long upperLimit = calculatePriceLimit(closingPrice, priceLimit)
+				.setScale(0, RoundingMode.FLOOR)
+				.longValueExact();
+
+		return new PriceBand(lowerLimit, upperLimit);
+	}
+
+	private static BigDecimal calculatePriceLimit(final BigDecimal closingPrice, final int priceLimit) {
+		return closingPrice.multiply(BigDecimal.valueOf(100L + priceLimit))
+				.divide(PERCENTAGE_DIVISOR, RoundingMode.HALF_UP);
+	}
+
+	public boolean contains(final long price) {
+		return price >= lowerLimit && price <= upperLimit;
+	}
+}
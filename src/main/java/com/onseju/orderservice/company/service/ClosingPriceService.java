@@ -7,6 +7,8 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.stereotype.Service;
 
+import com.onseju.orderservice.company.domain.PriceBand;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -18,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ClosingPriceService {
 	private final Map<String, BigDecimal> closingPriceMap = new ConcurrentHashMap<>();
+	private final Map<String, PriceBand> priceBandMap = new ConcurrentHashMap<>();
 
 	/**
 	 * 종가 조회
@@ -26,10 +29,20 @@ public class ClosingPriceService {
 		return closingPriceMap.get(companyCode);
 	}
 
+	/**
+	 * 종가 기준 가격 제한 범위 조회
+	 */
+	public PriceBand getPriceBand(final String companyCode) {
+		return priceBandMap.get(companyCode);
+	}
+
 	/**
 	 * 종가 일괄 업데이트
+	 * 가격 제한 범위도 함께 미리 계산해 둔다.
 	 */
 	public void updateClosingPrices(Map<String, BigDecimal> priceUpdates) {
+		priceUpdates.forEach((companyCode, closingPrice) ->
+				priceBandMap.put(companyCode, PriceBand.of(closingPrice)));
 		closingPriceMap.putAll(priceUpdates);
 	}
 
@@ -45,5 +58,6 @@ public class ClosingPriceService {
 	 */
 	public void clearCache() {
 		closingPriceMap.clear();
+		priceBandMap.clear();
 	}
 }
@@ -11,12 +11,13 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.onseju.orderservice.chart.domain.TradeTick;
 import com.onseju.orderservice.chart.service.ChartService;
 import com.onseju.orderservice.company.controller.response.CompanySearchResponse;
 import com.onseju.orderservice.company.domain.Company;
 import com.onseju.orderservice.company.mapper.CompanyMapper;
 import com.onseju.orderservice.company.service.repository.CompanyRepository;
-import com.onseju.orderservice.tradehistory.domain.TradeHistory;
+import com.onseju.orderservice.order.domain.Price;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -96,11 +97,12 @@ public class CompanyService {
 			final Map<String, BigDecimal> updatedPrices
 	) {
 		// 메모리에 캐싱된 마지막 거래 내역 조회
-		final Optional<TradeHistory> lastTrade = chartService.getLastTrade(companyCode);
+		final Optional<TradeTick> lastTrade = chartService.getLastTrade(companyCode);
 
 		if (lastTrade.isPresent()) {
 			// 최근 거래가 있는 경우 해당 가격으로 업데이트
-			updateWithLatestTradePrice(company, lastTrade.get().getPrice(), updatedCompanies, updatedPrices);
+			updateWithLatestTradePrice(company, new Price(lastTrade.get().price()).toBigDecimal(), updatedCompanies,
+					updatedPrices);
 		} else {
 			// 거래 가격이 없는 경우 기존 가격 유지 또는 기본값 사용
 			updateWithDefaultOrExistingPrice(company, companyCode, updatedCompanies, updatedPrices);
@@ -1,8 +1,10 @@
 package com.onseju.orderservice.events;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
+
 import lombok.Builder;
 
 @Builder
@@ -13,8 +15,8 @@ public record MatchedEvent(
 		Long buyAccountId,
 		Long sellOrderId,
 		Long sellAccountId,
-		BigDecimal quantity,
-		BigDecimal price,
+		Quantity quantity,
+		Price price,
 		Long tradeAt
 ) {
 }
@@ -1,9 +1,10 @@
 package com.onseju.orderservice.events;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 import com.onseju.orderservice.order.domain.OrderStatus;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 import com.onseju.orderservice.order.domain.Type;
 
 import lombok.Builder;
@@ -15,9 +16,9 @@ public record OrderCreatedEvent(
 		String companyCode,
 		Type type,
 		OrderStatus status,
-		BigDecimal totalQuantity,
-		BigDecimal remainingQuantity,
-		BigDecimal price,
+		Quantity totalQuantity,
+		Quantity remainingQuantity,
+		Price price,
 		Long timestamp,
 		Long accountId
 ) {
@@ -0,0 +1,186 @@
+package com.onseju.orderservice.events.dedup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이벤트 중복 수신 필터
+ * 1차로 스트림별 메모리 윈도우(UuidWindowSet)에서 최근 처리한 이벤트 ID를 O(1)로 거르고,
+ * 수량 차감처럼 재처리되면 안 되는 경우에는 처리 트랜잭션 안에서 processed_event 유니크 키로 한 번 더 거른다.
+ *
+ * 메모리 윈도우에는 처리가 끝난 뒤(markProcessed) 기록하므로, 처리 실패로 재전달된 메시지는 걸러지지 않는다.
+ */
+@Slf4j
+@Component
+public class EventDeduplicator {
+
+	public static final String MATCHED = "matched";
+	public static final String ORDER_CREATED = "order-created";
+	public static final String ORDER_BOOK_SYNCED = "order-book-synced";
+
+	private final ProcessedEventRepository processedEventRepository;
+	private final MeterRegistry meterRegistry;
+	private final int bucketCount;
+	private final long bucketMillis;
+	private final int bucketCapacity;
+	private final long retentionHours;
+	private final LongSupplier clock;
+	private final Map<String, UuidWindowSet> windows = new ConcurrentHashMap<>();
+	private final Map<String, CheckCounters> counters = new ConcurrentHashMap<>();
+
+	@Autowired
+	public EventDeduplicator(
+			final ProcessedEventRepository processedEventRepository,
+			final MeterRegistry meterRegistry,
+			@Value("${event.dedup.buckets:6}") final int bucketCount,
+			@Value("${event.dedup.bucket-millis:600000}") final long bucketMillis,
+			@Value("${event.dedup.bucket-capacity:65536}") final int bucketCapacity,
+			@Value("${event.dedup.retention-hours:24}") final long retentionHours
+	) {
+		this(processedEventRepository, meterRegistry, bucketCount, bucketMillis, bucketCapacity, retentionHours,
+				System::currentTimeMillis);
+	}
+
+	EventDeduplicator(
+			final ProcessedEventRepository processedEventRepository,
+			final MeterRegistry meterRegistry,
+			final int bucketCount,
+			final long bucketMillis,
+			final int bucketCapacity,
+			final long retentionHours,
+			final LongSupplier clock
+	) {
+		this.processedEventRepository = processedEventRepository;
+		this.meterRegistry = meterRegistry;
+		this.bucketCount = bucketCount;
+		this.bucketMillis = bucketMillis;
+		this.bucketCapacity = bucketCapacity;
+		this.retentionHours = retentionHours;
+		this.clock = clock;
+		for (String stream : List.of(MATCHED, ORDER_CREATED, ORDER_BOOK_SYNCED)) {
+			counters.put(stream, registerCounters(stream));
+		}
+	}
+
+	public boolean isDuplicate(final String stream, final UUID eventId) {
+		final boolean duplicate = window(stream).contains(eventId);
+		final CheckCounters checks = counters(stream);
+		(duplicate ? checks.memoryHit() : checks.memoryMiss()).increment();
+		return duplicate;
+	}
+
+	/**
+	 * 메모리 윈도우에서 이미 처리된 이벤트를 제외한다. (배치 안의 중복도 제외)
+	 */
+	public <T> List<T> filterNew(final String stream, final List<T> events, final Function<T, UUID> idExtractor) {
+		final UuidWindowSet window = window(stream);
+		final Set<UUID> seen = new HashSet<>(events.size());
+		final List<T> fresh = new ArrayList<>(events.size());
+		for (T event : events) {
+			final UUID id = idExtractor.apply(event);
+			if (!window.contains(id) && seen.add(id)) {
+				fresh.add(event);
+			}
+		}
+		final CheckCounters checks = counters(stream);
+		count(checks.memoryHit(), events.size() - fresh.size());
+		count(checks.memoryMiss(), fresh.size());
+		return fresh;
+	}
+
+	/**
+	 * processed_event 테이블 기준으로 처리된 적 없는 이벤트만 남기고 ID를 기록한다.
+	 * 호출 측 트랜잭션이 롤백되면 기록도 함께 롤백된다.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public <T> List<T> claim(final String stream, final List<T> events, final Function<T, UUID> idExtractor) {
+		final Set<UUID> existing = processedEventRepository.findExisting(events.stream().map(idExtractor).toList());
+		final List<T> claimed = events.stream()
+				.filter(event -> !existing.contains(idExtractor.apply(event)))
+				.toList();
+		processedEventRepository.saveAll(claimed.stream().map(idExtractor).toList());
+		final CheckCounters checks = counters(stream);
+		count(checks.durableHit(), events.size() - claimed.size());
+		count(checks.durableMiss(), claimed.size());
+		return claimed;
+	}
+
+	/**
+	 * 처리가 끝난 이벤트를 메모리 윈도우에 기록
+	 */
+	public void markProcessed(final String stream, final Collection<UUID> eventIds) {
+		final UuidWindowSet window = window(stream);
+		eventIds.forEach(window::add);
+	}
+
+	public void markProcessed(final String stream, final UUID eventId) {
+		window(stream).add(eventId);
+	}
+
+	/**
+	 * 보관 기간이 지난 처리 이력 삭제
+	 */
+	@Scheduled(cron = "${event.dedup.purge-cron:0 30 * * * *}")
+	public void purgeProcessedEvents() {
+		final int deleted = processedEventRepository.deleteBefore(LocalDateTime.now().minusHours(retentionHours));
+		log.info("처리 이력 {}건 삭제", deleted);
+	}
+
+	private UuidWindowSet window(final String stream) {
+		return windows.computeIfAbsent(stream,
+				key -> new UuidWindowSet(bucketCount, bucketMillis, bucketCapacity, clock));
+	}
+
+	/**
+	 * 스트림별 검사 카운터 (알려진 스트림은 생성 시 등록하고, 그 외 스트림은 처음 검사할 때 한 번 등록)
+	 */
+	private CheckCounters counters(final String stream) {
+		return counters.computeIfAbsent(stream, this::registerCounters);
+	}
+
+	private CheckCounters registerCounters(final String stream) {
+		return new CheckCounters(
+				registerCounter(stream, "memory", "hit"),
+				registerCounter(stream, "memory", "miss"),
+				registerCounter(stream, "durable", "hit"),
+				registerCounter(stream, "durable", "miss"));
+	}
+
+	private Counter registerCounter(final String stream, final String layer, final String result) {
+		return Counter.builder("event.dedup.checks")
+				.description("이벤트 중복 검사 횟수 (hit: 중복)")
+				.tag("stream", stream)
+				.tag("layer", layer)
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+
+	private static void count(final Counter counter, final int amount) {
+		if (amount > 0) {
+			counter.increment(amount);
+		}
+	}
+
+	private record CheckCounters(Counter memoryHit, Counter memoryMiss, Counter durableHit, Counter durableMiss) {
+	}
+}
@@ -0,0 +1,28 @@
+package com.onseju.orderservice.events.dedup;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 처리 완료된 이벤트 ID (중복 처리 방지용 유니크 키)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "processed_event")
+public class ProcessedEvent {
+
+	@Id
+	@Column(length = 36)
+	private String eventId;
+
+	@Column(nullable = false)
+	private LocalDateTime processedDateTime;
+}
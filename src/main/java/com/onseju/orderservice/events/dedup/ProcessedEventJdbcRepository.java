@@ -0,0 +1,65 @@
+package com.onseju.orderservice.events.dedup;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ProcessedEventJdbcRepository implements ProcessedEventRepository {
+
+	private static final String FIND_EXISTING_SQL = """
+			SELECT event_id FROM processed_event WHERE event_id IN (:eventIds)
+			""";
+
+	private static final String INSERT_SQL = """
+			INSERT INTO processed_event (event_id, processed_date_time) VALUES (?, ?)
+			""";
+
+	private static final String DELETE_BEFORE_SQL = """
+			DELETE FROM processed_event WHERE processed_date_time < ?
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	@Override
+	public Set<UUID> findExisting(final Collection<UUID> eventIds) {
+		if (eventIds.isEmpty()) {
+			return Set.of();
+		}
+		final List<String> existing = namedParameterJdbcTemplate.queryForList(FIND_EXISTING_SQL,
+				Map.of("eventIds", eventIds.stream().map(UUID::toString).toList()), String.class);
+		final Set<UUID> result = new HashSet<>(existing.size());
+		existing.forEach(id -> result.add(UUID.fromString(id)));
+		return result;
+	}
+
+	@Override
+	public void saveAll(final Collection<UUID> eventIds) {
+		if (eventIds.isEmpty()) {
+			return;
+		}
+		final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_SQL, eventIds, eventIds.size(), (ps, eventId) -> {
+			ps.setString(1, eventId.toString());
+			ps.setTimestamp(2, now);
+		});
+	}
+
+	@Override
+	public int deleteBefore(final LocalDateTime dateTime) {
+		return jdbcTemplate.update(DELETE_BEFORE_SQL, Timestamp.valueOf(dateTime));
+	}
+}
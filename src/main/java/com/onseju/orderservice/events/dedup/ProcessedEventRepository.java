@@ -0,0 +1,15 @@
+package com.onseju.orderservice.events.dedup;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ProcessedEventRepository {
+
+	Set<UUID> findExisting(final Collection<UUID> eventIds);
+
+	void saveAll(final Collection<UUID> eventIds);
+
+	int deleteBefore(final LocalDateTime dateTime);
+}
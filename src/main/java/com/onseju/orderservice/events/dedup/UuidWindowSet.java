@@ -0,0 +1,147 @@
+package com.onseju.orderservice.events.dedup;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 버킷 기반의 고정 메모리 UUID 집합
+ * UUID를 (상위 64bit, 하위 64bit) primitive long 쌍으로 open addressing 배열에 저장하므로 객체 할당 없이 O(1)로 조회한다.
+ * 버킷은 bucketMillis가 지날 때만 넘기며, 가장 오래된 버킷을 비우고 재사용한다.
+ * 현재 버킷이 막 시작되었어도 윈도우(bucketCount * bucketMillis)를 모두 덮도록 버킷을 하나 더 둔다.
+ * 버킷이 절반 이상 차면 그 버킷의 슬롯을 두 배로 늘리고(윈도우 안의 ID를 버리지 않음), 재사용할 때 처음 크기로 되돌린다.
+ */
+final class UuidWindowSet {
+
+	private final long bucketMillis;
+	private final int bucketCapacity;
+	private final long[][] mostBits;
+	private final long[][] leastBits;
+	private final int[] sizes;
+	private final LongSupplier clock;
+
+	private int current;
+	private long currentStartedAt;
+
+	UuidWindowSet(final int bucketCount, final long bucketMillis, final int bucketCapacity, final LongSupplier clock) {
+		if (bucketCount < 1 || Integer.bitCount(bucketCapacity) != 1) {
+			throw new IllegalArgumentException("bucketCount must be positive and bucketCapacity a power of two");
+		}
+		this.bucketMillis = bucketMillis;
+		this.bucketCapacity = bucketCapacity;
+		this.mostBits = new long[bucketCount + 1][bucketCapacity];
+		this.leastBits = new long[bucketCount + 1][bucketCapacity];
+		this.sizes = new int[bucketCount + 1];
+		this.clock = clock;
+		this.currentStartedAt = clock.getAsLong();
+	}
+
+	synchronized boolean contains(final UUID id) {
+		advance();
+		final long msb = id.getMostSignificantBits();
+		final long lsb = id.getLeastSignificantBits();
+		for (int bucket = 0; bucket < sizes.length; bucket++) {
+			if (sizes[bucket] > 0 && indexOf(bucket, msb, lsb) >= 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	synchronized void add(final UUID id) {
+		advance();
+		final long msb = id.getMostSignificantBits();
+		final long lsb = id.getLeastSignificantBits();
+		if ((msb | lsb) == 0L) {
+			// 빈 슬롯 표시와 겹치는 nil UUID는 저장하지 않는다.
+			return;
+		}
+		for (int bucket = 0; bucket < sizes.length; bucket++) {
+			if (sizes[bucket] > 0 && indexOf(bucket, msb, lsb) >= 0) {
+				return;
+			}
+		}
+		if (sizes[current] >= mostBits[current].length >>> 1) {
+			grow(current);
+		}
+		insert(mostBits[current], leastBits[current], msb, lsb);
+		sizes[current]++;
+	}
+
+	private int indexOf(final int bucket, final long msb, final long lsb) {
+		final int mask = mostBits[bucket].length - 1;
+		int slot = hash(msb, lsb) & mask;
+		while (true) {
+			final long storedMsb = mostBits[bucket][slot];
+			final long storedLsb = leastBits[bucket][slot];
+			if ((storedMsb | storedLsb) == 0L) {
+				return -1;
+			}
+			if (storedMsb == msb && storedLsb == lsb) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+
+	/**
+	 * 경과 시간만큼 버킷을 넘긴다. (최대 버킷 수만큼)
+	 */
+	private void advance() {
+		final long now = clock.getAsLong();
+		for (int i = 0; i < sizes.length && now - currentStartedAt >= bucketMillis; i++) {
+			rotate();
+			currentStartedAt += bucketMillis;
+		}
+		if (now - currentStartedAt >= bucketMillis) {
+			currentStartedAt = now;
+		}
+	}
+
+	private void rotate() {
+		current = (current + 1) % sizes.length;
+		if (mostBits[current].length != bucketCapacity) {
+			mostBits[current] = new long[bucketCapacity];
+			leastBits[current] = new long[bucketCapacity];
+		} else {
+			Arrays.fill(mostBits[current], 0L);
+			Arrays.fill(leastBits[current], 0L);
+		}
+		sizes[current] = 0;
+	}
+
+	/**
+	 * 버킷 슬롯을 두 배로 늘리고 저장된 ID를 다시 배치한다.
+	 */
+	private void grow(final int bucket) {
+		final long[] oldMostBits = mostBits[bucket];
+		final long[] oldLeastBits = leastBits[bucket];
+		final long[] newMostBits = new long[oldMostBits.length << 1];
+		final long[] newLeastBits = new long[oldLeastBits.length << 1];
+		for (int slot = 0; slot < oldMostBits.length; slot++) {
+			if ((oldMostBits[slot] | oldLeastBits[slot]) != 0L) {
+				insert(newMostBits, newLeastBits, oldMostBits[slot], oldLeastBits[slot]);
+			}
+		}
+		mostBits[bucket] = newMostBits;
+		leastBits[bucket] = newLeastBits;
+	}
+
+	private static void insert(final long[] mostBits, final long[] leastBits, final long msb, final long lsb) {
+		final int mask = mostBits.length - 1;
+		int slot = hash(msb, lsb) & mask;
+		while ((mostBits[slot] | leastBits[slot]) != 0L) {
+			slot = (slot + 1) & mask;
+		}
+		mostBits[slot] = msb;
+		leastBits[slot] = lsb;
+	}
+
+	private static int hash(final long msb, final long lsb) {
+		long h = msb ^ Long.rotateLeft(lsb, 32);
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		return (int) h;
+	}
+}
@@ -1,5 +1,6 @@
 package com.onseju.orderservice.events.listener;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.boot.context.event.ApplicationReadyEvent;
@@ -33,11 +34,17 @@ public class ApplicationReadyEventListener {
 	}
 
 	@EventListener(ApplicationReadyEvent.class)
-	@Order(2)
+	@Order(0)
 	public void initializeChartData() {
-		// 모든 종목 캔들 데이터 초기화
-		chartService.initializeAllCompanyCandleData();
-		chartDataInitialized.set(true);
+		// 차트 데이터 준비는 종가와 무관하므로 종가 설정과 동시에 별도 스레드에서 진행
+		CompletableFuture.runAsync(chartService::initializeAllCompanyCandleData)
+				.whenComplete((result, e) -> {
+					if (e != null) {
+						log.error("차트 데이터 초기화 실패", e);
+						return;
+					}
+					chartDataInitialized.set(true);
+				});
 	}
 
 	/**
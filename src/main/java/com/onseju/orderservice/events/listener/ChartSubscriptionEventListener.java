@@ -0,0 +1,49 @@
+package com.onseju.orderservice.events.listener;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import com.onseju.orderservice.chart.service.ChartService;
+import com.onseju.orderservice.chart.service.ChartSubscriptionRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 구독 이벤트로 차트 관리 대상 종목을 갱신한다.
+ * 종목의 첫 구독 시 캔들을 현재 시간까지 만들어 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChartSubscriptionEventListener {
+
+	private final ChartSubscriptionRegistry chartSubscriptionRegistry;
+	private final ChartService chartService;
+
+	@EventListener
+	public void handleSubscribe(final SessionSubscribeEvent event) {
+		final StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		final String destination = accessor.getDestination();
+		if (chartSubscriptionRegistry.subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), destination)) {
+			final String companyCode = ChartSubscriptionRegistry.extractCompanyCode(destination);
+			log.debug("차트 구독 시작: 종목코드={}", companyCode);
+			chartService.updateCandles(companyCode);
+		}
+	}
+
+	@EventListener
+	public void handleUnsubscribe(final SessionUnsubscribeEvent event) {
+		final StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		chartSubscriptionRegistry.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+	}
+
+	@EventListener
+	public void handleDisconnect(final SessionDisconnectEvent event) {
+		chartSubscriptionRegistry.disconnect(event.getSessionId());
+	}
+}
@@ -1,19 +1,21 @@
 package com.onseju.orderservice.events.listener;
 
-import com.onseju.orderservice.tradehistory.service.TradeHistoryNotificationService;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.stereotype.Component;
 
-import com.onseju.orderservice.chart.service.ChartService;
 import com.onseju.orderservice.events.MatchedEvent;
 import com.onseju.orderservice.events.OrderBookSyncedEvent;
+import com.onseju.orderservice.events.dedup.EventDeduplicator;
+import com.onseju.orderservice.events.pipeline.MatchedEventPipeline;
 import com.onseju.orderservice.global.config.RabbitMQConfig;
-import com.onseju.orderservice.order.dto.AfterTradeOrderDto;
-import com.onseju.orderservice.order.mapper.OrderMapper;
 import com.onseju.orderservice.order.service.OrderService;
-import com.onseju.orderservice.tradehistory.domain.TradeHistory;
-import com.onseju.orderservice.tradehistory.mapper.TradeHistoryMapper;
-import com.onseju.orderservice.tradehistory.service.TradeHistoryService;
+import com.rabbitmq.client.Channel;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,43 +29,33 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class MatchedEventListener {
 
-	private final TradeHistoryService tradeHistoryService;
-	private final TradeHistoryMapper tradeHistoryMapper;
+	private final MatchedEventPipeline matchedEventPipeline;
 
 	private final OrderService orderService;
-	private final OrderMapper orderMapper;
 
-	private final ChartService chartService;
+	private final EventDeduplicator eventDeduplicator;
 
-	private final TradeHistoryNotificationService tradeHistoryNotificationService;
+	private final MessageConverter messageConverter;
 
 	/**
-	 * 주문 매칭 이벤트 처리
-	 * 매칭 엔진에서 매칭이 발생하면 거래 내역 생성
+	 * 주문 매칭 이벤트 일괄 처리
+	 * 리스너는 파이프라인 링 버퍼에 슬롯을 확보해 필드만 복사하고, DB 반영/차트/알림은 파이프라인 단계가 처리한다.
+	 * 배치의 모든 이벤트가 커밋(또는 실패)되면 반영된 메시지는 ack 하고, 반영에 실패한 메시지만
+	 * 일시적인 실패(주문 미저장, DB 장애)면 재전달, 그 외에는 reject 한다.
 	 */
-	@RabbitListener(queues = RabbitMQConfig.MATCHING_RESULT_QUEUE)
-	public void handleOrderMatched(final MatchedEvent event) {
-		// 체결 내역 저장
-		final TradeHistory tradeHistory = tradeHistoryMapper.toEntity(event);
-		tradeHistoryService.saveTradeHistory(tradeHistory);
-
-		// 메모리에 거래 내역 저장 및 차트 업데이트
-		chartService.processNewTrade(tradeHistory);
-
-		// 주문 내역에서 남은 양 차감
-		final AfterTradeOrderDto buyOrder =
-				orderMapper.toAfterTradeOrderDto(event.buyOrderId(), event.quantity());
-		final AfterTradeOrderDto sellOrder =
-				orderMapper.toAfterTradeOrderDto(event.sellOrderId(), event.quantity());
-
-		orderService.updateRemainingQuantity(buyOrder);
-		orderService.updateRemainingQuantity(sellOrder);
-
-		// 매칭 후, 사용자 업데이트 이벤트 발행
-		orderService.publishUserUpdateEvent(event);
-
-		// 사용자에게 체결 완료 알람 발송
-		tradeHistoryNotificationService.sendNotification(event);
+	@RabbitListener(queues = RabbitMQConfig.MATCHING_RESULT_QUEUE,
+			containerFactory = RabbitMQConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+	public void handleOrderMatched(final List<Message> messages, final Channel channel) {
+		final MessageBatch<MatchedEvent> batch =
+				MessageBatch.convert(messages, channel, messageConverter, MatchedEvent.class);
+		log.debug("MatchedEvent batch received: {}", batch.payloads().size());
+		try {
+			final Map<UUID, Throwable> failures = matchedEventPipeline.publish(batch.payloads()).join();
+			batch.complete(event -> failures.get(event.id()));
+		} catch (Exception e) {
+			log.error("체결 이벤트 반영 실패: {}건", batch.payloads().size(), e);
+			batch.failAll(e);
+		}
 	}
 
 	/**
@@ -71,6 +63,10 @@ public class MatchedEventListener {
 	 */
 	@RabbitListener(queues = RabbitMQConfig.ORDER_BOOK_SYNCED_QUEUE)
 	public void handleOrderBookSynced(final OrderBookSyncedEvent event) {
+		if (eventDeduplicator.isDuplicate(EventDeduplicator.ORDER_BOOK_SYNCED, event.id())) {
+			return;
+		}
 		orderService.broadcastOrderBookUpdate(event);
+		eventDeduplicator.markProcessed(EventDeduplicator.ORDER_BOOK_SYNCED, event.id());
 	}
 }
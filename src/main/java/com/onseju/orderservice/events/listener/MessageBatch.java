@@ -0,0 +1,104 @@
+package com.onseju.orderservice.events.listener;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import com.rabbitmq.client.Channel;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수동 ack 배치 리스너가 받은 메시지 묶음
+ * 메시지를 하나씩 변환해 변환에 실패한 메시지만 바로 reject 하고, 처리 결과에 따라 메시지별로 ack, 재전달, reject 한다.
+ * 일시적인 실패(RetryableFailures)는 큐에 다시 넣고, 그 외 실패만 재전달 없이 reject 해 해당 메시지만 DLX로 이동한다.
+ */
+@Slf4j
+public final class MessageBatch<T> {
+
+	private final Channel channel;
+	private final List<T> payloads;
+	private final long[] deliveryTags;
+
+	private MessageBatch(final Channel channel, final List<T> payloads, final long[] deliveryTags) {
+		this.channel = channel;
+		this.payloads = payloads;
+		this.deliveryTags = deliveryTags;
+	}
+
+	public static <T> MessageBatch<T> convert(final List<Message> messages, final Channel channel,
+			final MessageConverter messageConverter, final Class<T> type) {
+		final List<T> payloads = new ArrayList<>(messages.size());
+		final long[] deliveryTags = new long[messages.size()];
+		for (Message message : messages) {
+			final long deliveryTag = message.getMessageProperties().getDeliveryTag();
+			try {
+				// 생산자 타입 헤더 대신 리스너가 기대하는 타입으로 변환
+				message.getMessageProperties().setInferredArgumentType(type);
+				final T payload = type.cast(messageConverter.fromMessage(message));
+				deliveryTags[payloads.size()] = deliveryTag;
+				payloads.add(payload);
+			} catch (Exception e) {
+				log.error("메시지 변환 실패, DLX로 이동합니다. type: {}, deliveryTag: {}", type.getSimpleName(), deliveryTag, e);
+				reject(channel, deliveryTag);
+			}
+		}
+		return new MessageBatch<>(channel, payloads, deliveryTags);
+	}
+
+	public List<T> payloads() {
+		return payloads;
+	}
+
+	public void ackAll() {
+		complete(payload -> null);
+	}
+
+	public void failAll(final Throwable failure) {
+		complete(payload -> failure);
+	}
+
+	/**
+	 * 실패가 없는 메시지는 ack, 일시적인 실패는 재전달, 그 외 실패는 reject 한다.
+	 */
+	public void complete(final Function<T, Throwable> failureOf) {
+		for (int i = 0; i < payloads.size(); i++) {
+			final Throwable failure = failureOf.apply(payloads.get(i));
+			if (failure == null) {
+				ack(channel, deliveryTags[i]);
+			} else if (RetryableFailures.isRetryable(failure)) {
+				requeue(channel, deliveryTags[i]);
+			} else {
+				reject(channel, deliveryTags[i]);
+			}
+		}
+	}
+
+	private static void ack(final Channel channel, final long deliveryTag) {
+		try {
+			channel.basicAck(deliveryTag, false);
+		} catch (IOException e) {
+			log.error("메시지 ack 실패, 재전달될 수 있습니다. deliveryTag: {}", deliveryTag, e);
+		}
+	}
+
+	private static void requeue(final Channel channel, final long deliveryTag) {
+		try {
+			channel.basicNack(deliveryTag, false, true);
+		} catch (IOException e) {
+			log.error("메시지 재전달 요청 실패, 재전달될 수 있습니다. deliveryTag: {}", deliveryTag, e);
+		}
+	}
+
+	private static void reject(final Channel channel, final long deliveryTag) {
+		try {
+			channel.basicReject(deliveryTag, false);
+		} catch (IOException e) {
+			log.error("메시지 reject 실패, 재전달될 수 있습니다. deliveryTag: {}", deliveryTag, e);
+		}
+	}
+}
@@ -1,13 +1,21 @@
 package com.onseju.orderservice.events.listener;
 
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 import com.onseju.orderservice.events.OrderCreatedEvent;
+import com.onseju.orderservice.events.dedup.EventDeduplicator;
 import com.onseju.orderservice.global.config.RabbitMQConfig;
 import com.onseju.orderservice.order.domain.Order;
 import com.onseju.orderservice.order.mapper.OrderMapper;
 import com.onseju.orderservice.order.service.OrderService;
+import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.stereotype.Component;
 
 /**
@@ -21,11 +29,49 @@ public class OrderEventListener {
 
 	private final OrderService orderService;
 	private final OrderMapper orderMapper;
+	private final EventDeduplicator eventDeduplicator;
+	private final MessageConverter messageConverter;
+
+	/**
+	 * 주문 생성 이벤트 일괄 처리
+	 * 최대 batch-size 건 또는 receive-timeout 동안 모인 메시지를 한 트랜잭션으로 저장하고, 커밋 후 배치 전체를 ack 한다.
+	 * 일괄 저장이 실패하면 이벤트별로 다시 저장해, 실패한 메시지만 일시적인 실패면 재전달하고 그 외에는 reject 한다.
+	 */
+	@RabbitListener(queues = RabbitMQConfig.ORDER_CREATED_QUEUE,
+			containerFactory = RabbitMQConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+	public void handleOrderCreated(final List<Message> messages, final Channel channel) {
+		final MessageBatch<OrderCreatedEvent> batch =
+				MessageBatch.convert(messages, channel, messageConverter, OrderCreatedEvent.class);
+		log.debug("OrderCreatedEvent batch received: {}", batch.payloads().size());
+		try {
+			saveOrders(batch.payloads());
+			batch.ackAll();
+		} catch (Exception e) {
+			log.warn("주문 생성 이벤트 일괄 저장 실패, 이벤트별로 다시 저장합니다: {}건", batch.payloads().size(), e);
+			final Map<OrderCreatedEvent, Throwable> failures = new IdentityHashMap<>();
+			for (OrderCreatedEvent event : batch.payloads()) {
+				try {
+					saveOrders(List.of(event));
+				} catch (Exception ex) {
+					log.error("주문 생성 이벤트 저장 실패. eventId: {}", event.id(), ex);
+					failures.put(event, ex);
+				}
+			}
+			batch.complete(failures::get);
+		}
+	}
 
-	@RabbitListener(queues = RabbitMQConfig.ORDER_CREATED_QUEUE)
-	public void handleOrderCreated(final OrderCreatedEvent event) {
-		log.info("OrderCreatedEvent received: {}", event);
-		Order order = orderMapper.toEntity(event);
-		orderService.saveOrder(order);
+	private void saveOrders(final List<OrderCreatedEvent> events) {
+		final List<OrderCreatedEvent> fresh =
+				eventDeduplicator.filterNew(EventDeduplicator.ORDER_CREATED, events, OrderCreatedEvent::id);
+		if (fresh.isEmpty()) {
+			return;
+		}
+		final List<Order> orders = fresh.stream()
+				.map(orderMapper::toEntity)
+				.toList();
+		orderService.saveOrders(orders);
+		eventDeduplicator.markProcessed(EventDeduplicator.ORDER_CREATED,
+				fresh.stream().map(OrderCreatedEvent::id).toList());
 	}
 }
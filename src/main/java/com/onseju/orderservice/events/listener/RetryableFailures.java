@@ -0,0 +1,33 @@
+package com.onseju.orderservice.events.listener;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.transaction.TransactionException;
+
+import com.onseju.orderservice.order.exception.OrderNotFoundException;
+
+/**
+ * 메시지 처리 실패 분류
+ * 다시 받으면 성공할 수 있는 실패(DB 일시 장애, 락 대기 시간 초과, 아직 저장되지 않은 주문)는 재전달하고,
+ * 그 외(변환/검증 실패, 제약 조건 위반 등)는 다시 받아도 같은 결과이므로 DLX로 보낸다.
+ */
+final class RetryableFailures {
+
+	private RetryableFailures() {
+	}
+
+	static boolean isRetryable(final Throwable failure) {
+		for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+			if (cause instanceof OrderNotFoundException || cause instanceof TransactionException) {
+				return true;
+			}
+			if (cause instanceof DataAccessException) {
+				// 연결 실패는 NonTransient로 분류되지만 DB가 돌아오면 성공한다.
+				return !(cause instanceof NonTransientDataAccessException)
+						|| cause instanceof DataAccessResourceFailureException;
+			}
+		}
+		return false;
+	}
+}
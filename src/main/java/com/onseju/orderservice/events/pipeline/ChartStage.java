@@ -0,0 +1,39 @@
+package com.onseju.orderservice.events.pipeline;
+
+import java.util.concurrent.TimeUnit;
+
+import com.lmax.disruptor.EventHandler;
+import com.onseju.orderservice.chart.service.ChartService;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 차트 갱신 단계 (DB 반영 이후, 링 순서 = 종목별 수신 순서)
+ */
+@Slf4j
+final class ChartStage implements EventHandler<TradeEvent> {
+
+	private final ChartService chartService;
+	private final Timer latency;
+
+	ChartStage(final ChartService chartService, final Timer latency) {
+		this.chartService = chartService;
+		this.latency = latency;
+	}
+
+	@Override
+	public void onEvent(final TradeEvent slot, final long sequence, final boolean endOfBatch) {
+		if (!slot.settled) {
+			return;
+		}
+		final long startedAt = System.nanoTime();
+		try {
+			chartService.processNewTrade(slot.tradeHistory);
+		} catch (Exception e) {
+			log.error("차트 갱신 실패. event id: {}", slot.id, e);
+		} finally {
+			latency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+	}
+}
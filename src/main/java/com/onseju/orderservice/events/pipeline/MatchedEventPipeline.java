@@ -0,0 +1,166 @@
+package com.onseju.orderservice.events.pipeline;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventTranslatorTwoArg;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import com.onseju.orderservice.chart.service.ChartService;
+import com.onseju.orderservice.events.MatchedEvent;
+import com.onseju.orderservice.events.dedup.EventDeduplicator;
+import com.onseju.orderservice.order.service.OrderService;
+import com.onseju.orderservice.tradehistory.service.TradeHistoryNotificationService;
+import com.onseju.orderservice.tradehistory.service.TradeSettlementService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 체결 이벤트 단계별 파이프라인
+ *
+ * 종목 코드 해시로 고른 샤드마다 미리 할당된 링 버퍼(Disruptor)를 두고,
+ * 리스너는 슬롯을 확보해 필드만 복사한다. 각 샤드의 단계는 다음 순서로 동작한다.
+ *   settlement (DB 반영, 아웃박스 적재) -> chart, notification (병렬)
+ * 같은 종목은 항상 같은 샤드에서 링 순서대로 처리되므로 종목별 순서가 유지된다.
+ */
+@Slf4j
+@Component
+public class MatchedEventPipeline {
+
+	private static final String SETTLEMENT = "settlement";
+	private static final String CHART = "chart";
+	private static final String NOTIFICATION = "notification";
+
+	private static final EventTranslatorTwoArg<TradeEvent, MatchedEvent, PipelineBatch> TRANSLATOR =
+			(slot, sequence, event, batch) -> slot.copyFrom(event, batch);
+
+	private final Disruptor<TradeEvent>[] disruptors;
+	private final RingBuffer<TradeEvent>[] ringBuffers;
+
+	@SuppressWarnings("unchecked")
+	public MatchedEventPipeline(
+			final TradeSettlementService tradeSettlementService,
+			final OrderService orderService,
+			final EventDeduplicator eventDeduplicator,
+			final ChartService chartService,
+			final TradeHistoryNotificationService tradeHistoryNotificationService,
+			final MeterRegistry meterRegistry,
+			@Value("${rabbitmq.listener.matched-workers:4}") final int shards,
+			@Value("${rabbitmq.listener.matched-ring-size:4096}") final int ringSize
+	) {
+		if (shards < 1) {
+			throw new IllegalArgumentException("Shard count must be positive");
+		}
+		this.disruptors = new Disruptor[shards];
+		this.ringBuffers = new RingBuffer[shards];
+		final Timer settlementLatency = stageTimer(meterRegistry, SETTLEMENT);
+		final Timer chartLatency = stageTimer(meterRegistry, CHART);
+		final Timer notificationLatency = stageTimer(meterRegistry, NOTIFICATION);
+
+		for (int shard = 0; shard < shards; shard++) {
+			final Disruptor<TradeEvent> disruptor = new Disruptor<>(TradeEvent::new, ringSize,
+					new CustomizableThreadFactory("matched-pipeline-" + shard + "-"),
+					ProducerType.MULTI, new BlockingWaitStrategy());
+			final SettlementStage settlement =
+					new SettlementStage(tradeSettlementService, orderService, eventDeduplicator, settlementLatency);
+			final ChartStage chart = new ChartStage(chartService, chartLatency);
+			final NotificationStage notification =
+					new NotificationStage(tradeHistoryNotificationService, notificationLatency);
+			disruptor.handleEventsWith(settlement).then(chart, notification);
+
+			disruptors[shard] = disruptor;
+			ringBuffers[shard] = disruptor.start();
+			registerBacklog(meterRegistry, shard, SETTLEMENT, disruptor, settlement);
+			registerBacklog(meterRegistry, shard, CHART, disruptor, chart);
+			registerBacklog(meterRegistry, shard, NOTIFICATION, disruptor, notification);
+		}
+		log.info("Initialized matched event pipeline with {} shards, ring size {}", shards, ringSize);
+	}
+
+	/**
+	 * 이벤트를 샤드별 링 버퍼에 넣고, 모든 이벤트의 DB 반영(커밋)이 끝나면 반영에 실패한 이벤트 ID별 실패 원인으로 완료되는 future를 반환한다.
+	 * 차트 갱신과 알림은 기다리지 않는다.
+	 */
+	public CompletableFuture<Map<UUID, Throwable>> publish(final List<MatchedEvent> events) {
+		final int[] counts = new int[ringBuffers.length];
+		for (MatchedEvent event : events) {
+			counts[shardOf(event.companyCode())]++;
+		}
+		final PipelineBatch[] batches = new PipelineBatch[ringBuffers.length];
+		@SuppressWarnings("unchecked")
+		final CompletableFuture<Map<UUID, Throwable>>[] futures = new CompletableFuture[countNonZero(counts)];
+		for (int shard = 0, f = 0; shard < counts.length; shard++) {
+			if (counts[shard] > 0) {
+				batches[shard] = new PipelineBatch(counts[shard]);
+				futures[f++] = batches[shard].future();
+			}
+		}
+
+		for (MatchedEvent event : events) {
+			final int shard = shardOf(event.companyCode());
+			ringBuffers[shard].publishEvent(TRANSLATOR, event, batches[shard]);
+		}
+		return CompletableFuture.allOf(futures).thenApply(ignored -> {
+			final Map<UUID, Throwable> failures = new HashMap<>();
+			for (CompletableFuture<Map<UUID, Throwable>> future : futures) {
+				failures.putAll(future.join());
+			}
+			return failures;
+		});
+	}
+
+	int shardOf(final String companyCode) {
+		return Math.floorMod(companyCode.hashCode(), ringBuffers.length);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		for (Disruptor<TradeEvent> disruptor : disruptors) {
+			disruptor.shutdown();
+		}
+	}
+
+	private static int countNonZero(final int[] counts) {
+		int nonZero = 0;
+		for (int count : counts) {
+			if (count > 0) {
+				nonZero++;
+			}
+		}
+		return nonZero;
+	}
+
+	private static Timer stageTimer(final MeterRegistry meterRegistry, final String stage) {
+		return Timer.builder("pipeline.stage.latency")
+				.description("체결 파이프라인 단계별 처리 시간 (settlement는 배치 단위)")
+				.tag("pipeline", "matched")
+				.tag("stage", stage)
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+
+	private static void registerBacklog(final MeterRegistry meterRegistry, final int shard, final String stage,
+			final Disruptor<TradeEvent> disruptor, final EventHandler<TradeEvent> handler) {
+		Gauge.builder("pipeline.stage.backlog", disruptor,
+						d -> d.getRingBuffer().getCursor() - d.getSequenceValueFor(handler))
+				.description("체결 파이프라인 단계별 미처리 슬롯 수")
+				.tag("pipeline", "matched")
+				.tag("stage", stage)
+				.tag("shard", String.valueOf(shard))
+				.register(meterRegistry);
+	}
+}
@@ -0,0 +1,39 @@
+package com.onseju.orderservice.events.pipeline;
+
+import java.util.concurrent.TimeUnit;
+
+import com.lmax.disruptor.EventHandler;
+import com.onseju.orderservice.tradehistory.service.TradeHistoryNotificationService;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 체결 알림 단계 (DB 반영 이후, 차트 단계와 병렬)
+ */
+@Slf4j
+final class NotificationStage implements EventHandler<TradeEvent> {
+
+	private final TradeHistoryNotificationService tradeHistoryNotificationService;
+	private final Timer latency;
+
+	NotificationStage(final TradeHistoryNotificationService tradeHistoryNotificationService, final Timer latency) {
+		this.tradeHistoryNotificationService = tradeHistoryNotificationService;
+		this.latency = latency;
+	}
+
+	@Override
+	public void onEvent(final TradeEvent slot, final long sequence, final boolean endOfBatch) {
+		if (!slot.settled) {
+			return;
+		}
+		final long startedAt = System.nanoTime();
+		try {
+			tradeHistoryNotificationService.sendNotification(slot.event, slot.buyOrder, slot.sellOrder);
+		} catch (Exception e) {
+			log.error("체결 알림 발송 실패. event id: {}", slot.id, e);
+		} finally {
+			latency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+	}
+}
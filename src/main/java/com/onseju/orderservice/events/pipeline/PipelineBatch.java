@@ -0,0 +1,37 @@
+package com.onseju.orderservice.events.pipeline;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 리스너가 한 샤드에 넣은 이벤트 묶음의 커밋 완료 신호
+ * 모든 이벤트가 반영되거나 실패하면 반영에 실패한 이벤트 ID별 실패 원인으로 완료된다.
+ * remaining, failures는 해당 샤드의 반영 단계 스레드만 변경한다. (링 버퍼 publish가 리스너의 초기화를 가시화)
+ */
+final class PipelineBatch {
+
+	private final CompletableFuture<Map<UUID, Throwable>> future = new CompletableFuture<>();
+	private final Map<UUID, Throwable> failures = new HashMap<>();
+	private int remaining;
+
+	PipelineBatch(final int size) {
+		this.remaining = size;
+	}
+
+	void settled() {
+		if (--remaining == 0) {
+			future.complete(failures);
+		}
+	}
+
+	void failed(final UUID eventId, final Throwable failure) {
+		failures.put(eventId, failure);
+		settled();
+	}
+
+	CompletableFuture<Map<UUID, Throwable>> future() {
+		return future;
+	}
+}
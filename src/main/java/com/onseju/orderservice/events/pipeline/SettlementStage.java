@@ -0,0 +1,110 @@
+package com.onseju.orderservice.events.pipeline;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.lmax.disruptor.EventHandler;
+import com.onseju.orderservice.events.MatchedEvent;
+import com.onseju.orderservice.events.dedup.EventDeduplicator;
+import com.onseju.orderservice.order.cache.ActiveOrder;
+import com.onseju.orderservice.order.service.OrderService;
+import com.onseju.orderservice.tradehistory.dto.SettlementResult;
+import com.onseju.orderservice.tradehistory.service.TradeSettlementService;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 반영 단계
+ * 링 버퍼에서 한 번에 읽힌 슬롯(endOfBatch까지)을 모아 하나의 트랜잭션으로 반영한다.
+ * (거래 내역 insert, 주문 수량 차감, 사용자 업데이트 이벤트 아웃박스 적재)
+ * 일괄 반영이 실패하면 이벤트별로 다시 반영해, 실패한 이벤트만 실패 원인과 함께 알린다.
+ */
+@Slf4j
+final class SettlementStage implements EventHandler<TradeEvent> {
+
+	private final TradeSettlementService tradeSettlementService;
+	private final OrderService orderService;
+	private final EventDeduplicator eventDeduplicator;
+	private final Timer latency;
+	private final List<TradeEvent> pending = new ArrayList<>();
+
+	SettlementStage(
+			final TradeSettlementService tradeSettlementService,
+			final OrderService orderService,
+			final EventDeduplicator eventDeduplicator,
+			final Timer latency
+	) {
+		this.tradeSettlementService = tradeSettlementService;
+		this.orderService = orderService;
+		this.eventDeduplicator = eventDeduplicator;
+		this.latency = latency;
+	}
+
+	@Override
+	public void onEvent(final TradeEvent slot, final long sequence, final boolean endOfBatch) {
+		pending.add(slot);
+		if (endOfBatch) {
+			final long startedAt = System.nanoTime();
+			try {
+				settle(pending);
+				pending.forEach(event -> event.batch.settled());
+			} catch (Exception e) {
+				log.warn("체결 이벤트 일괄 반영 실패, 이벤트별로 다시 반영합니다: {}건", pending.size(), e);
+				pending.forEach(this::settleOne);
+			} finally {
+				pending.clear();
+				latency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+
+	private void settleOne(final TradeEvent slot) {
+		try {
+			settle(List.of(slot));
+			slot.batch.settled();
+		} catch (Exception e) {
+			log.error("체결 이벤트 반영 실패. eventId: {}", slot.id, e);
+			slot.batch.failed(slot.id, e);
+		}
+	}
+
+	private void settle(final List<TradeEvent> batch) {
+		final Map<UUID, TradeEvent> slots = new HashMap<>(batch.size() * 2);
+		final List<MatchedEvent> received = new ArrayList<>(batch.size());
+		for (TradeEvent slot : batch) {
+			slot.event = slot.toMatchedEvent();
+			slots.putIfAbsent(slot.id, slot);
+			received.add(slot.event);
+		}
+
+		// 재전달된 이벤트 제외
+		final List<MatchedEvent> events =
+				eventDeduplicator.filterNew(EventDeduplicator.MATCHED, received, MatchedEvent::id);
+		if (events.isEmpty()) {
+			return;
+		}
+
+		// 체결 알림에 사용할 주문 정보 (차감으로 캐시에서 제거되기 전에 조회)
+		final Map<Long, ActiveOrder> orders = new HashMap<>();
+		for (MatchedEvent event : events) {
+			orders.computeIfAbsent(event.buyOrderId(), orderService::getActiveOrder);
+			orders.computeIfAbsent(event.sellOrderId(), orderService::getActiveOrder);
+		}
+
+		final SettlementResult result = tradeSettlementService.settle(events);
+		for (int i = 0; i < result.events().size(); i++) {
+			final TradeEvent slot = slots.get(result.events().get(i).id());
+			slot.settled = true;
+			slot.tradeHistory = result.tradeHistories().get(i);
+			slot.buyOrder = orders.get(slot.buyOrderId);
+			slot.sellOrder = orders.get(slot.sellOrderId);
+		}
+
+		eventDeduplicator.markProcessed(EventDeduplicator.MATCHED, events.stream().map(MatchedEvent::id).toList());
+	}
+}
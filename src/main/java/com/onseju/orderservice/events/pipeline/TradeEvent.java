@@ -0,0 +1,58 @@
+package com.onseju.orderservice.events.pipeline;
+
+import java.util.UUID;
+
+import com.onseju.orderservice.events.MatchedEvent;
+import com.onseju.orderservice.order.cache.ActiveOrder;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
+import com.onseju.orderservice.tradehistory.domain.TradeHistory;
+
+/**
+ * 링 버퍼에 미리 할당해 재사용하는 체결 이벤트 슬롯
+ * 리스너는 MatchedEvent의 필드를 복사만 하고, 이후 단계가 반영 결과(settled, 주문 스냅샷)를 채운다.
+ */
+final class TradeEvent {
+
+	UUID id;
+	String companyCode;
+	long buyOrderId;
+	Long buyAccountId;
+	long sellOrderId;
+	Long sellAccountId;
+	long quantity;
+	long price;
+	long tradeAt;
+
+	PipelineBatch batch;
+
+	// 반영 단계에서 채움
+	boolean settled;
+	MatchedEvent event;
+	TradeHistory tradeHistory;
+	ActiveOrder buyOrder;
+	ActiveOrder sellOrder;
+
+	void copyFrom(final MatchedEvent event, final PipelineBatch batch) {
+		this.id = event.id();
+		this.companyCode = event.companyCode();
+		this.buyOrderId = event.buyOrderId();
+		this.buyAccountId = event.buyAccountId();
+		this.sellOrderId = event.sellOrderId();
+		this.sellAccountId = event.sellAccountId();
+		this.quantity = event.quantity().value();
+		this.price = event.price().value();
+		this.tradeAt = event.tradeAt();
+		this.batch = batch;
+		this.settled = false;
+		this.event = null;
+		this.tradeHistory = null;
+		this.buyOrder = null;
+		this.sellOrder = null;
+	}
+
+	MatchedEvent toMatchedEvent() {
+		return new MatchedEvent(id, companyCode, buyOrderId, buyAccountId, sellOrderId, sellAccountId,
+				Quantity.of(quantity), new Price(price), tradeAt);
+	}
+}
@@ -1,47 +1,160 @@
 package com.onseju.orderservice.events.publisher;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 
 import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 
 import com.onseju.orderservice.events.exception.EventPublisherFailException;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 파이프라인 방식의 이벤트 발행
+ * 메시지마다 confirm을 기다리지 않고, 최대 maxOutstandingConfirms 건까지 confirm 대기 상태로 연속 전송한다.
+ * confirm이 도착하면 해당 메시지의 future를 비동기로 완료한다.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public abstract class AbstractEventPublisher<T> implements EventPublisher<T> {
     private static final int OPERATION_TIMEOUT_SECONDS = 10;
 
     protected final RabbitTemplate rabbitTemplate;
+    private final Executor publishExecutor;
+    private final Semaphore confirmWindow;
+
+    protected AbstractEventPublisher(RabbitTemplate rabbitTemplate, Executor publishExecutor,
+            int maxOutstandingConfirms) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.publishExecutor = publishExecutor;
+        this.confirmWindow = new Semaphore(maxOutstandingConfirms);
+    }
 
     public CompletableFuture<Void> publishEvent(T event) {
-        return CompletableFuture.runAsync(() -> {
+        return CompletableFuture.supplyAsync(() -> {
             validateEvent(event);
-            doPublish(event);
-        }).orTimeout(OPERATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return doPublish(event);
+        }, publishExecutor)
+                .thenCompose(Function.identity())
+                .orTimeout(OPERATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 제한 시간이 지나면 전송을 멈추고, 그때까지 앞에서부터 연속으로 confirm 된 이벤트 수로 완료한다.
+     * (일부 confirm이 늦어도 이미 confirm 된 앞쪽 이벤트는 전송 완료로 셀 수 있다)
+     */
+    public CompletableFuture<Integer> publishEvents(List<T> events) {
+        if (events.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        final AtomicReferenceArray<CompletableFuture<Void>> sent = new AtomicReferenceArray<>(events.size());
+        final AtomicBoolean stopped = new AtomicBoolean();
+        return CompletableFuture.supplyAsync(() -> publishInOrder(events, sent, stopped), publishExecutor)
+                .thenCompose(Function.identity())
+                .completeOnTimeout(null, OPERATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .thenApply(ignored -> {
+                    stopped.set(true);
+                    return confirmedPrefix(sent);
+                });
+    }
+
+    /**
+     * 호출 스레드에서 순서대로 전송하고, 앞선 메시지가 실패하거나 제한 시간이 지나면 이후 메시지는 보내지 않는다.
+     * (confirm 대기 자리는 배치 전체가 같은 창을 공유한다)
+     */
+    private CompletableFuture<Void> publishInOrder(List<T> events,
+            AtomicReferenceArray<CompletableFuture<Void>> sent, AtomicBoolean stopped) {
+        final AtomicBoolean failed = new AtomicBoolean();
+        for (int i = 0; i < events.size() && !failed.get() && !stopped.get(); i++) {
+            final T event = events.get(i);
+            CompletableFuture<Void> future;
+            try {
+                validateEvent(event);
+                future = doPublish(event);
+            } catch (Exception e) {
+                log.error("이벤트 발행 중 오류 발생, 이후 이벤트 전송을 중단합니다: {}", e.getMessage());
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((result, ex) -> {
+                if (ex != null) {
+                    failed.set(true);
+                }
+            });
+            sent.set(i, future);
+        }
+
+        final List<CompletableFuture<?>> handled = new ArrayList<>(events.size());
+        for (int i = 0; i < sent.length() && sent.get(i) != null; i++) {
+            handled.add(sent.get(i).handle((result, ex) -> null));
+        }
+        return CompletableFuture.allOf(handled.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * 앞에서부터 연속으로 confirm 된 메시지 수 (보내지 않았거나 confirm 대기 중인 메시지에서 멈춘다)
+     */
+    private static int confirmedPrefix(AtomicReferenceArray<CompletableFuture<Void>> sent) {
+        int confirmed = 0;
+        while (confirmed < sent.length()) {
+            final CompletableFuture<Void> future = sent.get(confirmed);
+            if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+                break;
+            }
+            confirmed++;
+        }
+        return confirmed;
     }
 
     protected abstract void validateEvent(T event);
-    protected abstract void doPublish(T event);
+    protected abstract CompletableFuture<Void> doPublish(T event);
 
-    protected void sendMessage(String exchange, String routingKey,
+    /**
+     * 메시지를 전송하고 broker confirm 시 완료되는 future를 반환한다.
+     * confirm 대기 중인 메시지가 가득 차면 자리가 날 때까지 전송을 멈춘다.
+     */
+    protected CompletableFuture<Void> sendMessage(String exchange, String routingKey,
             T event, String correlationId) {
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        try {
+            if (!confirmWindow.tryAcquire(OPERATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.error("confirm 대기 메시지가 가득 차 발행에 실패했습니다. correlationId: {}", correlationId);
+                result.completeExceptionally(new EventPublisherFailException());
+                return result;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(new EventPublisherFailException());
+            return result;
+        }
+
         try {
             CorrelationData correlation = new CorrelationData(correlationId);
             rabbitTemplate.convertAndSend(exchange, routingKey, event, correlation);
 
-            CorrelationData.Confirm confirm = correlation.getFuture().get();
-
-            if (confirm == null || !confirm.isAck()) {
-                throw new EventPublisherFailException();
-            }
+            correlation.getFuture()
+                    .orTimeout(OPERATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .whenComplete((confirm, throwable) -> {
+                        confirmWindow.release();
+                        if (throwable != null || confirm == null || !confirm.isAck()) {
+                            log.error("메시지 발행 confirm 실패: {}, correlationId: {}",
+                                    throwable != null ? throwable.getMessage() : confirm, correlationId);
+                            result.completeExceptionally(new EventPublisherFailException());
+                            return;
+                        }
+                        result.complete(null);
+                    });
         } catch (Exception e) {
+            confirmWindow.release();
             log.error("메시지 발행 오류 발생: {}, correlationId: {}", e.getMessage(), correlationId);
-            throw new EventPublisherFailException();
+            result.completeExceptionally(new EventPublisherFailException());
         }
+        return result;
     }
 }
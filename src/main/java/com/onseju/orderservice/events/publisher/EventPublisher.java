@@ -1,7 +1,12 @@
 package com.onseju.orderservice.events.publisher;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 public interface EventPublisher<T> {
     CompletableFuture<Void> publishEvent(T event);
+
+    // 여러 이벤트를 한 스레드에서 순서대로 연속 전송하고, 첫 실패 이후는 보내지 않는다.
+    // 모든 confirm이 도착하거나 제한 시간이 지나면 앞에서부터 연속으로 confirm 된 이벤트 수로 완료
+    CompletableFuture<Integer> publishEvents(List<T> events);
 }
\ No newline at end of file
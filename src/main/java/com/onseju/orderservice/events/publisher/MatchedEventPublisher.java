@@ -1,6 +1,11 @@
 package com.onseju.orderservice.events.publisher;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.onseju.orderservice.events.MatchedEvent;
@@ -13,8 +18,12 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class MatchedEventPublisher extends AbstractEventPublisher<MatchedEvent> {
 
-    public MatchedEventPublisher(RabbitTemplate rabbitTemplate) {
-        super(rabbitTemplate);
+    public MatchedEventPublisher(
+            RabbitTemplate rabbitTemplate,
+            @Qualifier("eventPublishExecutor") Executor eventPublishExecutor,
+            @Value("${rabbitmq.publisher.max-outstanding-confirms:256}") int maxOutstandingConfirms
+    ) {
+        super(rabbitTemplate, eventPublishExecutor, maxOutstandingConfirms);
     }
 
     @Override
@@ -25,18 +34,19 @@ public class MatchedEventPublisher extends AbstractEventPublisher<MatchedEvent>
     }
 
     @Override
-    protected void doPublish(MatchedEvent event) {
-        try {
-            publishUpdateUserEventToUserService(event);
-        } catch (Exception ex) {
-            log.error("체결 완료 이벤트 발행 중 오류 발생. event id: {}", event.id(), ex);
-            throw new MatchedEventPublisherFailException();
-        }
+    protected CompletableFuture<Void> doPublish(MatchedEvent event) {
+        return publishUpdateUserEventToUserService(event).handle((result, ex) -> {
+            if (ex != null) {
+                log.error("체결 완료 이벤트 발행 중 오류 발생. event id: {}", event.id(), ex);
+                throw new MatchedEventPublisherFailException();
+            }
+            return result;
+        });
     }
 
 
-    private void publishUpdateUserEventToUserService(MatchedEvent event) {
-        sendMessage(
+    private CompletableFuture<Void> publishUpdateUserEventToUserService(MatchedEvent event) {
+        return sendMessage(
             RabbitMQConfig.ONSEJU_EXCHANGE,
             RabbitMQConfig.USER_UPDATE_KEY,
             event,
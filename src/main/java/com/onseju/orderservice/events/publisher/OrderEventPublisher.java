@@ -1,6 +1,11 @@
 package com.onseju.orderservice.events.publisher;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.onseju.orderservice.events.OrderCreatedEvent;
@@ -13,8 +18,12 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class OrderEventPublisher extends AbstractEventPublisher<OrderCreatedEvent> {
 
-    public OrderEventPublisher(RabbitTemplate rabbitTemplate) {
-        super(rabbitTemplate);
+    public OrderEventPublisher(
+            RabbitTemplate rabbitTemplate,
+            @Qualifier("eventPublishExecutor") Executor eventPublishExecutor,
+            @Value("${rabbitmq.publisher.max-outstanding-confirms:256}") int maxOutstandingConfirms
+    ) {
+        super(rabbitTemplate, eventPublishExecutor, maxOutstandingConfirms);
     }
 
     @Override
@@ -25,18 +34,22 @@ public class OrderEventPublisher extends AbstractEventPublisher<OrderCreatedEven
     }
 
     @Override
-    protected void doPublish(OrderCreatedEvent event) {
-        try {
-            publishOrderCreatedEventToOrderService(event);
-            publishOrderCreatedEventToMatchingEngine(event);
-        } catch (Exception ex) {
-            log.error("주문 이벤트 발행 중 오류 발생. event id: {}", event.id(), ex);
-            throw new OrderEventPublisherFailException();
-        }
+    protected CompletableFuture<Void> doPublish(OrderCreatedEvent event) {
+        // 두 메시지를 연속으로 전송한 뒤 confirm을 함께 기다린다.
+        return CompletableFuture.allOf(
+                publishOrderCreatedEventToOrderService(event),
+                publishOrderCreatedEventToMatchingEngine(event)
+        ).handle((result, ex) -> {
+            if (ex != null) {
+                log.error("주문 이벤트 발행 중 오류 발생. event id: {}", event.id(), ex);
+                throw new OrderEventPublisherFailException();
+            }
+            return result;
+        });
     }
 
-    private void publishOrderCreatedEventToOrderService(OrderCreatedEvent event) {
-        sendMessage(
+    private CompletableFuture<Void> publishOrderCreatedEventToOrderService(OrderCreatedEvent event) {
+        return sendMessage(
             RabbitMQConfig.ONSEJU_EXCHANGE,
             RabbitMQConfig.ORDER_CREATED_KEY,
             event,
@@ -44,8 +57,8 @@ public class OrderEventPublisher extends AbstractEventPublisher<OrderCreatedEven
         );
     }
 
-    private void publishOrderCreatedEventToMatchingEngine(OrderCreatedEvent event) {
-        sendMessage(
+    private CompletableFuture<Void> publishOrderCreatedEventToMatchingEngine(OrderCreatedEvent event) {
+        return sendMessage(
             RabbitMQConfig.ONSEJU_MATCHING_EXCHANGE,
             RabbitMQConfig.MATCHING_REQUEST_KEY,
             event,
@@ -21,9 +21,9 @@ import com.onseju.orderservice.grpc.OrderValidationServiceGrpc;
 public class GrpcConfig {
 
 	@Bean
-	public OrderValidationServiceGrpc.OrderValidationServiceBlockingStub orderValidationStub(
+	public OrderValidationServiceGrpc.OrderValidationServiceFutureStub orderValidationFutureStub(
 		GrpcChannelFactory grpcChannelFactory) {
-		return OrderValidationServiceGrpc.newBlockingStub(
+		return OrderValidationServiceGrpc.newFutureStub(
 			grpcChannelFactory.createChannel("user-service"));
 	}
 
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
@@ -11,15 +13,19 @@ import org.springframework.amqp.core.Declarable;
 import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -64,6 +70,9 @@ public class RabbitMQConfig {
         Map.entry(USER_UPDATE_QUEUE, ONSEJU_EXCHANGE + ":" + USER_UPDATE_KEY)
     );
 
+	// 배치 수신 리스너 컨테이너
+	public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchListenerContainerFactory";
+
 	private static final long MESSAGE_TTL = 10000; // 10초
 
 	@Value("${spring.rabbitmq.host}")
@@ -151,6 +160,38 @@ public class RabbitMQConfig {
         return rabbitTemplate;
 	}
 
+	/**
+	 * 배치 수신 리스너 컨테이너
+	 * batch-size 건이 모이거나 receive-timeout이 지나면 List로 전달하고, 리스너가 메시지별로 ack/reject 한다. (MessageBatch)
+	 * 한 메시지의 실패로 배치 전체가 재전달되거나 DLX로 가지 않도록, 실패한 메시지만
+	 * 일시적인 실패면 큐에 다시 넣고, 그 외에는 재전달 없이 reject 한다.
+	 */
+	@Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+	public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+			SimpleRabbitListenerContainerFactoryConfigurer configurer,
+			ConnectionFactory connectionFactory,
+			@Value("${rabbitmq.listener.batch-size:200}") int batchSize,
+			@Value("${rabbitmq.listener.receive-timeout-ms:50}") long receiveTimeoutMillis
+	) {
+		SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+		configurer.configure(factory, connectionFactory);
+		factory.setMessageConverter(jsonMessageConverter());
+		factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+		factory.setDefaultRequeueRejected(false);
+		factory.setBatchListener(true);
+		factory.setConsumerBatchEnabled(true);
+		factory.setBatchSize(batchSize);
+		factory.setPrefetchCount(batchSize);
+		factory.setReceiveTimeout(receiveTimeoutMillis);
+		return factory;
+	}
+
+	// 이벤트 발행 전용 Executor (공용 ForkJoinPool과 분리)
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService eventPublishExecutor(@Value("${rabbitmq.publisher.threads:4}") int threads) {
+		return Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("event-publish-"));
+	}
+
 	@Bean
     public ConnectionFactory connectionFactory() {
         CachingConnectionFactory connectionFactory = new CachingConnectionFactory();
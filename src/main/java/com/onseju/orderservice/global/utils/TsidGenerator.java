@@ -1,95 +1,116 @@
 package com.onseju.orderservice.global.utils;
 
-import java.security.SecureRandom;
 import java.time.Clock;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.github.f4b6a3.tsid.TsidFactory;
-
-import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * TSID 형식(42bit 시간 + 10bit 노드 + 12bit 카운터)의 ID 생성기
+ *
+ * 스레드마다 같은 밀리초 안의 연속된 카운터 구간(블록)을 한 번에 예약하고,
+ * 블록 안에서는 스레드 로컬 카운터만 증가시켜 primitive long으로 반환한다.
+ * 공유 상태(cursor)에 대한 CAS는 블록을 새로 예약할 때만 발생한다.
+ */
 @Slf4j
 @Component
 public class TsidGenerator {
 
-    private TsidFactory tsidFactory;
-    private final Queue<Long> idPool = new ConcurrentLinkedQueue<>();
+    // tsid-creator와 같은 기준 시각 (2020-01-01T00:00:00Z)
+    static final long TSID_EPOCH = Instant.parse("2020-01-01T00:00:00Z").toEpochMilli();
 
-    @Value("${tsid.node-id:1}")
-    private int nodeId;
+    private static final int NODE_BITS = 10;
+    private static final int COUNTER_BITS = 12;
+    private static final int MAX_NODE = (1 << NODE_BITS) - 1;
+    private static final int COUNTER_SIZE = 1 << COUNTER_BITS;
+    private static final long COUNTER_MASK = COUNTER_SIZE - 1;
 
-    @Value("${tsid.use-secure-random:false}")
-    private boolean useSecureRandom;
+    private final long nodeBits;
+    private final int blockSize;
+    private final Clock clock;
 
-    @Value("${tsid.batch-size:1000}")
-    private int batchSize;
+    // 마지막으로 예약된 (시간 << 12 | 카운터) 위치
+    private final AtomicLong cursor = new AtomicLong();
+    private final ThreadLocal<Block> localBlock = ThreadLocal.withInitial(Block::new);
 
-    @PostConstruct
-    public void init() {
-        validateNodeId();
-        initializeTsidFactory();
-        log.info("Initialized TsidGenerator with nodeId: {}, useSecureRandom: {}", nodeId, useSecureRandom);
+    public TsidGenerator(
+            @Value("${tsid.node-id:1}") int nodeId,
+            @Value("${tsid.batch-size:1000}") int blockSize
+    ) {
+        this(nodeId, blockSize, Clock.systemUTC());
     }
 
-    private void validateNodeId() {
-        if (nodeId < 0 || nodeId > 1023) {
+    TsidGenerator(int nodeId, int blockSize, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE) {
             throw new IllegalArgumentException("Node ID must be between 0 and 1023");
         }
-    }
-
-    private void initializeTsidFactory() {
-        TsidFactory.Builder builder = TsidFactory.builder()
-            .withNode(nodeId)
-            .withClock(Clock.systemUTC());
-
-        if (useSecureRandom) {
-            builder.withRandom(new SecureRandom());
+        if (blockSize < 1 || blockSize > COUNTER_SIZE) {
+            throw new IllegalArgumentException("Block size must be between 1 and " + COUNTER_SIZE);
         }
-
-        this.tsidFactory = builder.build();
+        this.nodeBits = (long) nodeId << COUNTER_BITS;
+        this.blockSize = blockSize;
+        this.clock = clock;
+        log.info("Initialized TsidGenerator with nodeId: {}, blockSize: {}", nodeId, blockSize);
     }
 
     /**
      * 새로운 ID를 생성합니다.
-     * ID 풀이 비어있으면 자동으로 채워집니다.
+     * 스레드의 블록이 소진되면 새 블록을 예약합니다.
      */
-    public Long nextId() {
-        Long id = idPool.poll();
-        if (id == null) {
-            refillPool();
-            id = idPool.poll();
+    public long nextId() {
+        final Block block = localBlock.get();
+        if (block.next == block.end) {
+            reserve(block);
         }
-        return id;
+        return toId(block.next++);
     }
 
     /**
      * 지정된 수만큼의 ID를 생성합니다.
      */
-    public List<Long> nextIds(int size) {
-        List<Long> ids = new ArrayList<>(size);
+    public long[] nextIds(int size) {
+        final long[] ids = new long[size];
+        final Block block = localBlock.get();
         for (int i = 0; i < size; i++) {
-            ids.add(nextId());
+            if (block.next == block.end) {
+                reserve(block);
+            }
+            ids[i] = toId(block.next++);
         }
         return ids;
     }
 
     /**
-     * ID 풀을 리필합니다.
-     * 스레드 안전을 위해 synchronized 사용
+     * 현재 시각 이후의 카운터 구간을 예약합니다.
+     * 한 밀리초의 카운터 범위를 넘지 않도록 부족하면 다음 밀리초로 넘어갑니다.
      */
-    private synchronized void refillPool() {
-        if (idPool.isEmpty()) {
-            for (int i = 0; i < batchSize; i++) {
-                idPool.offer(tsidFactory.create().toLong());
+    private void reserve(Block block) {
+        final long now = (clock.millis() - TSID_EPOCH) << COUNTER_BITS;
+        long current;
+        long start;
+        do {
+            current = cursor.get();
+            start = Math.max(current, now);
+            if ((start & COUNTER_MASK) + blockSize > COUNTER_SIZE) {
+                start = ((start >>> COUNTER_BITS) + 1) << COUNTER_BITS;
             }
-            log.debug("Refilled ID pool with {} new IDs", batchSize);
-        }
+        } while (!cursor.compareAndSet(current, start + blockSize));
+
+        block.next = start;
+        block.end = start + blockSize;
+    }
+
+    private long toId(long position) {
+        final long time = position >>> COUNTER_BITS;
+        return (time << (NODE_BITS + COUNTER_BITS)) | nodeBits | (position & COUNTER_MASK);
+    }
+
+    private static final class Block {
+        private long next;
+        private long end;
     }
-}
\ No newline at end of file
+}
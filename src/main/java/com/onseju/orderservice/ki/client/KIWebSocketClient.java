@@ -36,6 +36,8 @@ import com.onseju.orderservice.chart.service.ChartService;
 import com.onseju.orderservice.global.utils.TsidGenerator;
 import com.onseju.orderservice.ki.dto.KIStockDto;
 import com.onseju.orderservice.ki.dto.KIStockHogaDto;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 import com.onseju.orderservice.order.domain.Type;
 import com.onseju.orderservice.order.dto.BeforeTradeOrderDto;
 import com.onseju.orderservice.order.service.OrderService;
@@ -346,8 +348,8 @@ public class KIWebSocketClient {
 					.companyCode(stockCode)
 					.sellOrderId(sellOrderId)
 					.buyOrderId(buyOrderId)
-					.price(BigDecimal.valueOf(stockData.getCurrentPrice()))
-					.quantity(BigDecimal.valueOf(stockData.getAccVolume()))
+					.price(Price.of(BigDecimal.valueOf(stockData.getCurrentPrice())))
+					.quantity(Quantity.of((long) stockData.getAccVolume()))
 					.tradeTime(now)
 					.build();
 
@@ -364,42 +366,42 @@ public class KIWebSocketClient {
 		try {
 			final KIStockHogaDto stockData = parseKisHogaData(payload);
 
+			final List<BeforeTradeOrderDto> dtos = new ArrayList<>(20);
+
 			// 매도 호가
 			for (int i = 0; i < 10; i++) {
-				final BigDecimal price = stockData.askPrices().get(i);
-				final BigDecimal quantity = stockData.askRemains().get(i);
-
-				final BeforeTradeOrderDto dto = BeforeTradeOrderDto.builder()
-						.companyCode(stockData.stockCode())
-						.type(Type.LIMIT_SELL.name())
-						.totalQuantity(quantity)
-						.price(price)
-						.memberId(1L)
-						.build();
-
-				orderService.placeOrder(dto);
+				dtos.add(toHogaOrder(stockData, Type.LIMIT_SELL,
+						stockData.askPrices().get(i), stockData.askRemains().get(i)));
 			}
 
 			// 매수 호가
 			for (int i = 0; i < 10; i++) {
-				final BigDecimal price = stockData.bidPrices().get(i);
-				final BigDecimal quantity = stockData.bidRemains().get(i);
-
-				final BeforeTradeOrderDto dto = BeforeTradeOrderDto.builder()
-						.companyCode(stockData.stockCode())
-						.type(Type.LIMIT_BUY.name())
-						.totalQuantity(quantity)
-						.price(price)
-						.memberId(1L)
-						.build();
-
-				orderService.placeOrder(dto);
+				dtos.add(toHogaOrder(stockData, Type.LIMIT_BUY,
+						stockData.bidPrices().get(i), stockData.bidRemains().get(i)));
 			}
+
+			// 20개 호가를 일괄 접수 (user-service 검증 및 이벤트 발행 1회)
+			orderService.placeOrders(dtos);
 		} catch (Exception e) {
 			log.error("Error handling hoga data message: {}", e.getMessage());
 		}
 	}
 
+	private BeforeTradeOrderDto toHogaOrder(
+			final KIStockHogaDto stockData,
+			final Type type,
+			final Price price,
+			final Quantity quantity
+	) {
+		return BeforeTradeOrderDto.builder()
+				.companyCode(stockData.stockCode())
+				.type(type.name())
+				.totalQuantity(quantity)
+				.price(price)
+				.memberId(1L)
+				.build();
+	}
+
 	/**
 	 * 주식 데이터 파싱
 	 */
@@ -478,27 +480,27 @@ public class KIWebSocketClient {
 			final String[] fields = sections[3].split("\\^");
 
 			// 매도호가(ASKP) 설정 (1-10)
-			final List<BigDecimal> askPrices = new ArrayList<>();
+			final List<Price> askPrices = new ArrayList<>();
 			for (int i = 0; i < 10; i++) {
-				askPrices.add(new BigDecimal(fields[3 + i]));
+				askPrices.add(Price.of(new BigDecimal(fields[3 + i])));
 			}
 
 			// 매수호가(BIDP) 설정 (1-10)
-			final List<BigDecimal> bidPrices = new ArrayList<>();
+			final List<Price> bidPrices = new ArrayList<>();
 			for (int i = 0; i < 10; i++) {
-				bidPrices.add(new BigDecimal(fields[13 + i]));
+				bidPrices.add(Price.of(new BigDecimal(fields[13 + i])));
 			}
 
 			// 매도호가 잔량(ASKP_RSQN) 설정 (1-10)
-			final List<BigDecimal> askRemains = new ArrayList<>();
+			final List<Quantity> askRemains = new ArrayList<>();
 			for (int i = 0; i < 10; i++) {
-				askRemains.add(new BigDecimal(fields[23 + i]));
+				askRemains.add(Quantity.of(new BigDecimal(fields[23 + i])));
 			}
 
 			// 매수호가 잔량(BIDP_RSQN) 설정 (1-10)
-			final List<BigDecimal> bidRemains = new ArrayList<>();
+			final List<Quantity> bidRemains = new ArrayList<>();
 			for (int i = 0; i < 10; i++) {
-				bidRemains.add(new BigDecimal(fields[33 + i]));
+				bidRemains.add(Quantity.of(new BigDecimal(fields[33 + i])));
 			}
 
 			return KIStockHogaDto.builder()
@@ -1,8 +1,10 @@
 package com.onseju.orderservice.ki.dto;
 
-import java.math.BigDecimal;
 import java.util.List;
 
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
+
 import lombok.Builder;
 
 @Builder
@@ -13,10 +15,10 @@ public record KIStockHogaDto(
 		String hourClassCode,      // 시간 구분 코드 (장중, 장전예상 등)
 
 		// 호가 정보
-		List<BigDecimal> askPrices,   // 매도호가 1-10
-		List<BigDecimal> bidPrices,    // 매수호가 1-10
-		List<BigDecimal> askRemains,     // 매도호가 잔량 1-10
-		List<BigDecimal> bidRemains,     // 매수호가 잔량 1-10
+		List<Price> askPrices,   // 매도호가 1-10
+		List<Price> bidPrices,    // 매수호가 1-10
+		List<Quantity> askRemains,     // 매도호가 잔량 1-10
+		List<Quantity> bidRemains,     // 매수호가 잔량 1-10
 
 		// 총 잔량 정보
 		Long totalAskRemain,       // 총 매도호가 잔량
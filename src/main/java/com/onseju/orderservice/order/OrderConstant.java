@@ -7,7 +7,8 @@ import lombok.Getter;
 @Getter
 public enum OrderConstant {
 
-    CLOSING_PRICE_LIMIT(30);
+    CLOSING_PRICE_LIMIT(30),
+    MAX_BATCH_ORDER_SIZE(500);
 
     private final Integer value;
 }
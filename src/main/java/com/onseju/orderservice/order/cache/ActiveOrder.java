@@ -0,0 +1,43 @@
+package com.onseju.orderservice.order.cache;
+
+import com.onseju.orderservice.order.domain.Order;
+import com.onseju.orderservice.order.domain.OrderStatus;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
+import com.onseju.orderservice.order.domain.Type;
+
+/**
+ * 캐시에 보관하는 미체결 주문 스냅샷 (불변)
+ */
+public record ActiveOrder(
+		Long id,
+		String companyCode,
+		Type type,
+		Price price,
+		Quantity remainingQuantity,
+		OrderStatus status,
+		Long accountId
+) {
+
+	public static ActiveOrder from(final Order order) {
+		return new ActiveOrder(
+				order.getId(),
+				order.getCompanyCode(),
+				order.getType(),
+				order.getPrice(),
+				order.getRemainingQuantity(),
+				order.getStatus(),
+				order.getAccountId()
+		);
+	}
+
+	public ActiveOrder fill(final Quantity quantity) {
+		final Quantity remaining = remainingQuantity.subtractOrZero(quantity);
+		return new ActiveOrder(id, companyCode, type, price, remaining,
+				remaining.isZero() ? OrderStatus.COMPLETE : status, accountId);
+	}
+
+	public boolean isActive() {
+		return status == OrderStatus.ACTIVE;
+	}
+}
@@ -0,0 +1,69 @@
+package com.onseju.orderservice.order.cache;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.onseju.orderservice.order.domain.Order;
+import com.onseju.orderservice.order.domain.Quantity;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 미체결(ACTIVE) 주문 캐시
+ * 주문 접수/저장 시 적재하고, 체결 시 남은 수량을 갱신하며, COMPLETE가 되면 제거한다.
+ * 체결 처리와 체결 알림이 같은 주문을 DB에서 반복 조회하지 않도록 한다.
+ */
+@Component
+public class ActiveOrderCache {
+
+	private final Cache<Long, ActiveOrder> cache;
+
+	public ActiveOrderCache(
+			@Value("${order.cache.max-size:100000}") final long maxSize,
+			final MeterRegistry meterRegistry
+	) {
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "activeOrders");
+	}
+
+	public void put(final Order order) {
+		put(ActiveOrder.from(order));
+	}
+
+	public void put(final ActiveOrder order) {
+		if (order.isActive()) {
+			cache.put(order.id(), order);
+		}
+	}
+
+	public void putAll(final Collection<Order> orders) {
+		orders.forEach(this::put);
+	}
+
+	public Optional<ActiveOrder> get(final Long orderId) {
+		return Optional.ofNullable(cache.getIfPresent(orderId));
+	}
+
+	/**
+	 * 체결 수량을 반영한다. 남은 수량이 0이 되면 캐시에서 제거한다.
+	 */
+	public void applyFill(final Long orderId, final Quantity quantity) {
+		cache.asMap().computeIfPresent(orderId, (id, order) -> {
+			final ActiveOrder filled = order.fill(quantity);
+			return filled.isActive() ? filled : null;
+		});
+	}
+
+	public long size() {
+		return cache.estimatedSize();
+	}
+}
@@ -1,50 +1,403 @@
 package com.onseju.orderservice.order.client;
 
-import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
-import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
 
-import com.onseju.orderservice.grpc.GrpcValidateResponse;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.onseju.orderservice.grpc.GrpcValidateBatchRequest;
+import com.onseju.orderservice.grpc.GrpcValidateBatchResponse;
 import com.onseju.orderservice.grpc.GrpcValidateRequest;
+import com.onseju.orderservice.grpc.GrpcValidateResponse;
 import com.onseju.orderservice.grpc.OrderValidationServiceGrpc;
 import com.onseju.orderservice.order.dto.BeforeTradeOrderDto;
 import com.onseju.orderservice.order.dto.OrderValidationResponse;
 
-import lombok.AllArgsConstructor;
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.Status;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 
-@AllArgsConstructor
+/**
+ * user-service 주문 검증 클라이언트
+ * 동시에 들어온 검증 요청을 최대 maxBatchSize 건, maxLinger 동안 모아 ValidateOrders 한 번으로 전송한다.
+ * user-service가 ValidateOrders를 지원하지 않으면(UNIMPLEMENTED) 기억해 두고, batchReprobe 동안은 바로 단건 RPC로 전송한다.
+ */
+@Slf4j
 @Service
 public class UserServiceClient {
 
-	@GrpcClient("order-service")
-	private OrderValidationServiceGrpc.OrderValidationServiceBlockingStub orderValidationServiceBlockingStub;
+	private final OrderValidationServiceGrpc.OrderValidationServiceFutureStub orderValidationServiceFutureStub;
+	private final int maxBatchSize;
+	private final long maxLingerNanos;
+	private final long deadlineMillis;
+	private final long batchReprobeNanos;
+
+	// 배치 RPC 미지원 여부와 다시 배치 RPC를 시도할 시각 (System.nanoTime 기준)
+	private volatile boolean batchUnsupported;
+	private volatile long batchReprobeAt;
+
+	private final BlockingQueue<PendingValidation> pendingQueue = new LinkedBlockingQueue<>();
+	private final Thread dispatcher;
+	private volatile boolean running = true;
+
+	private final Timer successTimer;
+	private final Timer failureTimer;
+	private final DistributionSummary batchSizeSummary;
+
+	public UserServiceClient(
+			final OrderValidationServiceGrpc.OrderValidationServiceFutureStub orderValidationServiceFutureStub,
+			@Value("${user-service.validation.max-batch-size:64}") final int maxBatchSize,
+			@Value("${user-service.validation.max-linger-ms:1}") final long maxLingerMillis,
+			@Value("${user-service.validation.deadline-ms:3000}") final long deadlineMillis,
+			@Value("${user-service.validation.batch-reprobe-ms:60000}") final long batchReprobeMillis,
+			final MeterRegistry meterRegistry
+	) {
+		if (maxBatchSize < 1) {
+			throw new IllegalArgumentException("maxBatchSize must be positive");
+		}
+		this.orderValidationServiceFutureStub = orderValidationServiceFutureStub;
+		this.maxBatchSize = maxBatchSize;
+		this.maxLingerNanos = TimeUnit.MILLISECONDS.toNanos(maxLingerMillis);
+		this.deadlineMillis = deadlineMillis;
+		this.batchReprobeNanos = TimeUnit.MILLISECONDS.toNanos(batchReprobeMillis);
+
+		this.successTimer = Timer.builder("order.validation.latency")
+				.tag("result", "success")
+				.register(meterRegistry);
+		this.failureTimer = Timer.builder("order.validation.latency")
+				.tag("result", "failure")
+				.register(meterRegistry);
+		this.batchSizeSummary = DistributionSummary.builder("order.validation.batch.size")
+				.register(meterRegistry);
+		Gauge.builder("order.validation.queue.size", pendingQueue, BlockingQueue::size)
+				.register(meterRegistry);
+
+		this.dispatcher = new Thread(this::dispatchLoop, "order-validation-dispatcher");
+		this.dispatcher.setDaemon(true);
+		this.dispatcher.start();
+	}
 
 	public OrderValidationResponse validateOrder(BeforeTradeOrderDto dto) {
+		return join(validateOrderAsync(dto));
+	}
+
+	/**
+	 * 비동기 주문 검증
+	 * 호출 스레드의 gRPC Context에 deadline이 있으면 설정값과 비교해 더 이른 쪽을 사용한다.
+	 * 반환된 future는 deadline이 지나면 응답이 없어도 TimeoutException으로 완료된다.
+	 */
+	public CompletableFuture<OrderValidationResponse> validateOrderAsync(final BeforeTradeOrderDto dto) {
+		return validateOrderAsync(dto, resolveDeadline());
+	}
+
+	public CompletableFuture<OrderValidationResponse> validateOrderAsync(
+			final BeforeTradeOrderDto dto,
+			final Deadline deadline
+	) {
+		final CompletableFuture<OrderValidationResponse> future = new CompletableFuture<>();
+		if (!running) {
+			future.completeExceptionally(new IllegalStateException("주문 검증 클라이언트가 종료되었습니다."));
+			return future;
+		}
+
+		final long startedAt = System.nanoTime();
+		future.whenComplete((response, throwable) ->
+				(throwable == null ? successTimer : failureTimer)
+						.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
+
+		future.orTimeout(Math.max(deadline.timeRemaining(TimeUnit.MILLISECONDS), 0), TimeUnit.MILLISECONDS);
+
+		final PendingValidation pending = new PendingValidation(toRequest(dto), deadline, future);
+		pendingQueue.add(pending);
+		// 넣는 사이 종료되었다면 dispatcher가 이미 큐를 비웠을 수 있으므로 직접 실패 처리한다.
+		if (!running && pendingQueue.remove(pending)) {
+			future.completeExceptionally(new IllegalStateException("주문 검증 클라이언트가 종료되었습니다."));
+		}
+		return future;
+	}
+
+	/**
+	 * 여러 주문을 ValidateOrders 한 번으로 검증 (응답은 요청과 같은 순서)
+	 */
+	public List<OrderValidationResponse> validateOrders(final List<BeforeTradeOrderDto> dtos) {
+		if (dtos.isEmpty()) {
+			return List.of();
+		}
+		if (!batchSupported()) {
+			return validateEach(dtos);
+		}
+
+		final GrpcValidateBatchRequest.Builder request = GrpcValidateBatchRequest.newBuilder();
+		dtos.forEach(dto -> request.addRequests(toRequest(dto)));
+		batchSizeSummary.record(dtos.size());
+
+		final long startedAt = System.nanoTime();
+		try {
+			final GrpcValidateBatchResponse response = orderValidationServiceFutureStub
+					.withDeadline(resolveDeadline())
+					.validateOrders(request.build())
+					.get();
+			if (response.getResponsesCount() != dtos.size()) {
+				throw new IllegalStateException(
+						"배치 검증 응답 수가 요청 수와 다릅니다: " + response.getResponsesCount() + "/" + dtos.size());
+			}
+			successTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+			markBatchSupported();
+			return response.getResponsesList().stream()
+					.map(this::toResponse)
+					.toList();
+		} catch (ExecutionException e) {
+			// 배치 RPC를 지원하지 않는 user-service에는 단건 요청을 동시에 전송한다.
+			if (Status.fromThrowable(e.getCause()).getCode() == Status.Code.UNIMPLEMENTED) {
+				markBatchUnsupported();
+				return validateEach(dtos);
+			}
+			failureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+			throw new RuntimeException("gRPC 서비스 통신 오류", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("gRPC 서비스 통신 오류", e);
+		} catch (Exception e) {
+			failureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+			throw new RuntimeException("gRPC 서비스 통신 오류", e);
+		}
+	}
+
+	/**
+	 * 단건 요청을 동시에 전송하고 모든 응답을 기다린다. (응답은 요청과 같은 순서)
+	 */
+	private List<OrderValidationResponse> validateEach(final List<BeforeTradeOrderDto> dtos) {
+		final List<CompletableFuture<OrderValidationResponse>> futures = dtos.stream()
+				.map(this::validateOrderAsync)
+				.toList();
+		return futures.stream()
+				.map(this::join)
+				.toList();
+	}
+
+	/**
+	 * 배치 RPC를 사용할지 여부
+	 * 미지원으로 기억된 동안은 false이고, 다시 시도할 시각이 지나면 한 번 배치 RPC로 확인한다.
+	 */
+	private boolean batchSupported() {
+		if (!batchUnsupported) {
+			return true;
+		}
+		final long now = System.nanoTime();
+		if (now - batchReprobeAt < 0) {
+			return false;
+		}
+		// 확인 결과가 오기 전의 요청은 단건으로 보낸다.
+		batchReprobeAt = now + batchReprobeNanos;
+		return true;
+	}
+
+	private void markBatchUnsupported() {
+		batchReprobeAt = System.nanoTime() + batchReprobeNanos;
+		if (!batchUnsupported) {
+			batchUnsupported = true;
+			log.warn("user-service가 배치 검증 RPC를 지원하지 않아 단건 RPC로 전송합니다.");
+		}
+	}
+
+	private void markBatchSupported() {
+		if (batchUnsupported) {
+			batchUnsupported = false;
+			log.info("user-service 배치 검증 RPC를 다시 사용합니다.");
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		running = false;
+		dispatcher.interrupt();
+	}
 
+	/**
+	 * 설정된 deadline과 호출 스레드 gRPC Context의 deadline 중 더 이른 쪽
+	 */
+	private Deadline resolveDeadline() {
+		final Deadline deadline = Deadline.after(deadlineMillis, TimeUnit.MILLISECONDS);
+		final Deadline contextDeadline = Context.current().getDeadline();
+		return contextDeadline == null ? deadline : deadline.minimum(contextDeadline);
+	}
+
+	private OrderValidationResponse join(final CompletableFuture<OrderValidationResponse> future) {
 		try {
+			return future.join();
+		} catch (CompletionException e) {
+			throw new RuntimeException("gRPC 서비스 통신 오류", e.getCause());
+		} catch (Exception e) {
+			throw new RuntimeException("gRPC 서비스 통신 오류", e);
+		}
+	}
 
-			GrpcValidateRequest request = GrpcValidateRequest.newBuilder()
+	private GrpcValidateRequest toRequest(final BeforeTradeOrderDto dto) {
+		return GrpcValidateRequest.newBuilder()
 				.setCompanyCode(dto.companyCode())
 				.setType(dto.type())
 				.setTotalQuantity(dto.totalQuantity().toPlainString())
 				.setPrice(dto.price().toPlainString())
 				.setMemberId(dto.memberId())
 				.build();
+	}
 
-			GrpcValidateResponse response = orderValidationServiceBlockingStub.validateOrder(request);
+	private void dispatchLoop() {
+		final List<PendingValidation> batch = new ArrayList<>(maxBatchSize);
+		while (running) {
+			try {
+				final PendingValidation first = pendingQueue.take();
+				batch.add(first);
+				collectBatch(batch);
+				send(List.copyOf(batch));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				// 모으는 중에 꺼낸 요청은 큐에 없으므로 비우기 전에 실패 처리한다.
+				failRemaining(batch);
+				break;
+			} catch (Exception e) {
+				log.error("주문 검증 배치 전송 실패", e);
+				batch.forEach(pending -> pending.future().completeExceptionally(e));
+			} finally {
+				batch.clear();
+			}
+		}
+		failRemaining(batch);
+	}
 
-			// gRPC 응답을 ValidateResponse 객체로 변환
-			OrderValidationResponse validateResponse = OrderValidationResponse.builder()
-				.accountId(response.getAccountId())
-				.result(response.getResult())
-				.build();
+	/**
+	 * 큐에 쌓인 요청을 가져오고, 배치가 차지 않았으면 maxLinger 동안 추가 요청을 기다린다.
+	 */
+	private void collectBatch(final List<PendingValidation> batch) throws InterruptedException {
+		final long lingerDeadline = System.nanoTime() + maxLingerNanos;
+		pendingQueue.drainTo(batch, maxBatchSize - batch.size());
+		while (batch.size() < maxBatchSize) {
+			final long remaining = lingerDeadline - System.nanoTime();
+			if (remaining <= 0) {
+				return;
+			}
+			final PendingValidation next = pendingQueue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null) {
+				return;
+			}
+			batch.add(next);
+			pendingQueue.drainTo(batch, maxBatchSize - batch.size());
+		}
+	}
 
-			return validateResponse;
-		} catch (Exception e) {
-			throw new RuntimeException("gRPC 서비스 통신 오류", e);
+	private void send(final List<PendingValidation> batch) {
+		final List<PendingValidation> live = new ArrayList<>(batch.size());
+		for (PendingValidation pending : batch) {
+			if (pending.deadline().isExpired()) {
+				pending.future().completeExceptionally(Status.DEADLINE_EXCEEDED.asRuntimeException());
+			} else {
+				live.add(pending);
+			}
+		}
+		if (live.isEmpty()) {
+			return;
+		}
+
+		batchSizeSummary.record(live.size());
+		if (live.size() == 1 || !batchSupported()) {
+			live.forEach(this::sendSingle);
+			return;
+		}
+		sendBatch(live);
+	}
+
+	private void sendSingle(final PendingValidation pending) {
+		final ListenableFuture<GrpcValidateResponse> call = orderValidationServiceFutureStub
+				.withDeadline(pending.deadline())
+				.validateOrder(pending.request());
+
+		Futures.addCallback(call, new FutureCallback<>() {
+			@Override
+			public void onSuccess(final GrpcValidateResponse response) {
+				pending.future().complete(toResponse(response));
+			}
+
+			@Override
+			public void onFailure(final Throwable t) {
+				pending.future().completeExceptionally(t);
+			}
+		}, MoreExecutors.directExecutor());
+	}
+
+	private void sendBatch(final List<PendingValidation> batch) {
+		final GrpcValidateBatchRequest.Builder request = GrpcValidateBatchRequest.newBuilder();
+		Deadline earliest = batch.get(0).deadline();
+		for (PendingValidation pending : batch) {
+			request.addRequests(pending.request());
+			earliest = earliest.minimum(pending.deadline());
 		}
+
+		final ListenableFuture<GrpcValidateBatchResponse> call = orderValidationServiceFutureStub
+				.withDeadline(earliest)
+				.validateOrders(request.build());
+
+		Futures.addCallback(call, new FutureCallback<>() {
+			@Override
+			public void onSuccess(final GrpcValidateBatchResponse response) {
+				if (response.getResponsesCount() != batch.size()) {
+					final IllegalStateException e = new IllegalStateException(
+							"배치 검증 응답 수가 요청 수와 다릅니다: " + response.getResponsesCount() + "/" + batch.size());
+					batch.forEach(pending -> pending.future().completeExceptionally(e));
+					return;
+				}
+				markBatchSupported();
+				for (int i = 0; i < batch.size(); i++) {
+					batch.get(i).future().complete(toResponse(response.getResponses(i)));
+				}
+			}
+
+			@Override
+			public void onFailure(final Throwable t) {
+				// 배치 RPC를 지원하지 않는 user-service에는 단건 요청으로 전송한다.
+				if (Status.fromThrowable(t).getCode() == Status.Code.UNIMPLEMENTED) {
+					markBatchUnsupported();
+					batch.forEach(UserServiceClient.this::sendSingle);
+					return;
+				}
+				batch.forEach(pending -> pending.future().completeExceptionally(t));
+			}
+		}, MoreExecutors.directExecutor());
 	}
 
+	private OrderValidationResponse toResponse(final GrpcValidateResponse response) {
+		return OrderValidationResponse.builder()
+				.accountId(response.getAccountId())
+				.result(response.getResult())
+				.build();
+	}
 
+	private void failRemaining(final List<PendingValidation> batch) {
+		pendingQueue.drainTo(batch);
+		final IllegalStateException e = new IllegalStateException("주문 검증 클라이언트가 종료되었습니다.");
+		batch.forEach(pending -> pending.future().completeExceptionally(e));
+	}
 
+	private record PendingValidation(
+			GrpcValidateRequest request,
+			Deadline deadline,
+			CompletableFuture<OrderValidationResponse> future
+	) {
+	}
 }
@@ -1,5 +1,7 @@
 package com.onseju.orderservice.order.controller;
 
+import java.util.List;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -10,7 +12,9 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.onseju.orderservice.global.response.ApiResponse;
 import com.onseju.orderservice.global.security.UserDetailsImpl;
+import com.onseju.orderservice.order.controller.request.BatchOrderRequest;
 import com.onseju.orderservice.order.controller.request.OrderRequest;
+import com.onseju.orderservice.order.controller.resposne.BatchOrderResponse;
 import com.onseju.orderservice.order.controller.resposne.OrderResponse;
 import com.onseju.orderservice.order.dto.BeforeTradeOrderDto;
 import com.onseju.orderservice.order.service.OrderService;
@@ -29,14 +33,31 @@ public class OrderController {
 			@RequestBody final OrderRequest request,
 			@AuthenticationPrincipal final UserDetailsImpl user
 	) {
-		final BeforeTradeOrderDto dto = BeforeTradeOrderDto.builder()
+		final BeforeTradeOrderDto dto = toDto(request, user.getMember().getId());
+		ApiResponse<OrderResponse> response = orderService.placeOrder(dto);
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+
+	@PostMapping("/batch")
+	public ResponseEntity<ApiResponse<BatchOrderResponse>> receivedBatch(
+			@RequestBody final BatchOrderRequest request,
+			@AuthenticationPrincipal final UserDetailsImpl user
+	) {
+		final Long memberId = user.getMember().getId();
+		final List<BeforeTradeOrderDto> dtos = request.orders().stream()
+				.map(order -> toDto(order, memberId))
+				.toList();
+		ApiResponse<BatchOrderResponse> response = orderService.placeOrders(dtos);
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+
+	private BeforeTradeOrderDto toDto(final OrderRequest request, final Long memberId) {
+		return BeforeTradeOrderDto.builder()
 				.companyCode(request.companyCode())
 				.type(request.type().name())
 				.totalQuantity(request.totalQuantity())
 				.price(request.price())
-				.memberId(user.getMember().getId())
+				.memberId(memberId)
 				.build();
-		ApiResponse<OrderResponse> response = orderService.placeOrder(dto);
-		return ResponseEntity.status(HttpStatus.OK).body(response);
 	}
 }
@@ -0,0 +1,8 @@
+package com.onseju.orderservice.order.controller.request;
+
+import java.util.List;
+
+public record BatchOrderRequest(
+		List<OrderRequest> orders
+) {
+}
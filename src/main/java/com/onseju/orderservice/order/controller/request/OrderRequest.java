@@ -1,7 +1,7 @@
 package com.onseju.orderservice.order.controller.request;
 
-import java.math.BigDecimal;
-
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 import com.onseju.orderservice.order.domain.Type;
 
 import lombok.Builder;
@@ -10,7 +10,7 @@ import lombok.Builder;
 public record OrderRequest(
 		String companyCode,
 		Type type,
-		BigDecimal totalQuantity,
-		BigDecimal price
+		Quantity totalQuantity,
+		Price price
 ) {
 }
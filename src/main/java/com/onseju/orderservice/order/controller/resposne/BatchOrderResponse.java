@@ -0,0 +1,10 @@
+package com.onseju.orderservice.order.controller.resposne;
+
+import java.util.List;
+
+public record BatchOrderResponse(
+		List<OrderResultResponse> results,
+		int acceptedCount,
+		int rejectedCount
+) {
+}
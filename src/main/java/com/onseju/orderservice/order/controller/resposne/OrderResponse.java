@@ -1,8 +1,9 @@
 package com.onseju.orderservice.order.controller.resposne;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 import com.onseju.orderservice.order.domain.Type;
 
 import lombok.Builder;
@@ -12,7 +13,7 @@ public record OrderResponse (
 		Long id,
 		String companyCode,
 		Type type,
-		BigDecimal totalQuantity,
-		BigDecimal price
+		Quantity totalQuantity,
+		Price price
 ) {
 }
\ No newline at end of file
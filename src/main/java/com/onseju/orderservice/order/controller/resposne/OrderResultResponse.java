@@ -0,0 +1,20 @@
+package com.onseju.orderservice.order.controller.resposne;
+
+/**
+ * 일괄 주문 중 개별 주문의 접수 결과 (index는 요청 목록의 순서)
+ */
+public record OrderResultResponse(
+		int index,
+		boolean accepted,
+		OrderResponse order,
+		String message
+) {
+
+	public static OrderResultResponse accepted(final int index, final OrderResponse order) {
+		return new OrderResultResponse(index, true, order, null);
+	}
+
+	public static OrderResultResponse rejected(final int index, final String message) {
+		return new OrderResultResponse(index, false, null, message);
+	}
+}
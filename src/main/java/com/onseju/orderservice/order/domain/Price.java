@@ -0,0 +1,74 @@
+package com.onseju.orderservice.order.domain;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * 고정 소수점 가격 (1/100원 단위 long)
+ * 가격 연산은 long으로 처리하고, BigDecimal은 JSON, DB, gRPC 경계에서만 생성한다.
+ */
+@JsonSerialize(using = Price.Serializer.class)
+public record Price(long value) implements Comparable<Price> {
+
+	public static final int SCALE = 2;
+	public static final long ONE_WON = 100L;
+	public static final Price ZERO = new Price(0L);
+
+	@JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+	public static Price of(final BigDecimal price) {
+		return new Price(price.movePointRight(SCALE).longValueExact());
+	}
+
+	public static Price ofWon(final long won) {
+		return new Price(Math.multiplyExact(won, ONE_WON));
+	}
+
+	/**
+	 * 원 단위 미만 금액이 없는지 확인
+	 */
+	public boolean isWholeWon() {
+		return value % ONE_WON == 0;
+	}
+
+	public long toWon() {
+		return value / ONE_WON;
+	}
+
+	public double doubleValue() {
+		return (double) value / ONE_WON;
+	}
+
+	public BigDecimal toBigDecimal() {
+		return BigDecimal.valueOf(value, SCALE);
+	}
+
+	public String toPlainString() {
+		return toBigDecimal().stripTrailingZeros().toPlainString();
+	}
+
+	@Override
+	public int compareTo(final Price other) {
+		return Long.compare(value, other.value);
+	}
+
+	/**
+	 * 기존 BigDecimal 직렬화와 같은 숫자 형식으로 기록한다. (1000.00 -> 1000)
+	 */
+	public static class Serializer extends JsonSerializer<Price> {
+		@Override
+		public void serialize(final Price price, final JsonGenerator gen, final SerializerProvider serializers)
+				throws IOException {
+			if (price.isWholeWon()) {
+				gen.writeNumber(price.toWon());
+			} else {
+				gen.writeNumber(price.toBigDecimal());
+			}
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package com.onseju.orderservice.order.domain;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Price <-> DECIMAL 컬럼 변환 (기존 스키마 유지)
+ */
+@Converter(autoApply = true)
+public class PriceConverter implements AttributeConverter<Price, BigDecimal> {
+
+	@Override
+	public BigDecimal convertToDatabaseColumn(final Price price) {
+		return price == null ? null : price.toBigDecimal();
+	}
+
+	@Override
+	public Price convertToEntityAttribute(final BigDecimal value) {
+		return value == null ? null : Price.of(value);
+	}
+}
@@ -0,0 +1,65 @@
+package com.onseju.orderservice.order.domain;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * 주문/체결 수량 (주 단위 long)
+ */
+@JsonSerialize(using = Quantity.Serializer.class)
+public record Quantity(long value) implements Comparable<Quantity> {
+
+	public static final Quantity ZERO = new Quantity(0L);
+
+	@JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+	public static Quantity of(final BigDecimal quantity) {
+		return of(quantity.longValueExact());
+	}
+
+	public static Quantity of(final long quantity) {
+		return quantity == 0L ? ZERO : new Quantity(quantity);
+	}
+
+	/**
+	 * 수량 차감 (0 미만으로 내려가지 않음)
+	 */
+	public Quantity subtractOrZero(final Quantity quantity) {
+		final long remaining = value - quantity.value;
+		return remaining <= 0L ? ZERO : new Quantity(remaining);
+	}
+
+	public boolean isZero() {
+		return value == 0L;
+	}
+
+	public int intValue() {
+		return (int) value;
+	}
+
+	public BigDecimal toBigDecimal() {
+		return BigDecimal.valueOf(value);
+	}
+
+	public String toPlainString() {
+		return Long.toString(value);
+	}
+
+	@Override
+	public int compareTo(final Quantity other) {
+		return Long.compare(value, other.value);
+	}
+
+	public static class Serializer extends JsonSerializer<Quantity> {
+		@Override
+		public void serialize(final Quantity quantity, final JsonGenerator gen, final SerializerProvider serializers)
+				throws IOException {
+			gen.writeNumber(quantity.value());
+		}
+	}
+}
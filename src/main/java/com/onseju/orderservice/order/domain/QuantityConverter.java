@@ -0,0 +1,23 @@
+package com.onseju.orderservice.order.domain;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Quantity <-> DECIMAL 컬럼 변환 (기존 스키마 유지)
+ */
+@Converter(autoApply = true)
+public class QuantityConverter implements AttributeConverter<Quantity, BigDecimal> {
+
+	@Override
+	public BigDecimal convertToDatabaseColumn(final Quantity quantity) {
+		return quantity == null ? null : quantity.toBigDecimal();
+	}
+
+	@Override
+	public Quantity convertToEntityAttribute(final BigDecimal value) {
+		return value == null ? null : Quantity.of(value);
+	}
+}
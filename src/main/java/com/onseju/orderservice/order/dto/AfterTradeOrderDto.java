@@ -1,12 +1,12 @@
 package com.onseju.orderservice.order.dto;
 
-import java.math.BigDecimal;
+import com.onseju.orderservice.order.domain.Quantity;
 
 import lombok.Builder;
 
 @Builder
 public record AfterTradeOrderDto(
 		Long orderId,
-		BigDecimal quantity
+		Quantity quantity
 ) {
 }
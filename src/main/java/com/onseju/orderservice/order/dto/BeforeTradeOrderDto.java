@@ -1,16 +1,15 @@
 package com.onseju.orderservice.order.dto;
 
-import com.onseju.orderservice.order.domain.Type;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 import lombok.Builder;
 
-import java.math.BigDecimal;
-
 @Builder
 public record BeforeTradeOrderDto(
 		String companyCode,
 		String type,
-		BigDecimal totalQuantity,
-		BigDecimal price,
+		Quantity totalQuantity,
+		Price price,
 		Long memberId
 ) {
 }
@@ -1,13 +1,14 @@
 package com.onseju.orderservice.order.dto;
 
-import java.math.BigDecimal;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 
 /**
  * 호가창의 가격 레벨 데이터 (가격별 주문 정보)
  */
 public record PriceLevelDto(
-		BigDecimal price,      // 가격
-		BigDecimal quantity,   // 수량 합계
+		Price price,           // 가격
+		Quantity quantity,     // 수량 합계
 		Integer orderCount     // 주문 건수
 ) {
 }
@@ -0,0 +1,11 @@
+package com.onseju.orderservice.order.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.onseju.orderservice.global.exception.BaseException;
+
+public class BatchOrderSizeExceededException extends BaseException {
+	public BatchOrderSizeExceededException() {
+		super("한 번에 접수할 수 있는 주문 수를 초과했습니다.", HttpStatus.BAD_REQUEST);
+	}
+}
@@ -1,6 +1,5 @@
 package com.onseju.orderservice.order.mapper;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -9,6 +8,7 @@ import org.springframework.stereotype.Component;
 import com.onseju.orderservice.events.OrderCreatedEvent;
 import com.onseju.orderservice.order.domain.Order;
 import com.onseju.orderservice.order.domain.OrderStatus;
+import com.onseju.orderservice.order.domain.Quantity;
 import com.onseju.orderservice.order.domain.Type;
 import com.onseju.orderservice.order.dto.AfterTradeOrderDto;
 import com.onseju.orderservice.order.dto.BeforeTradeOrderDto;
@@ -58,7 +58,7 @@ public class OrderMapper {
 				.build();
 	}
 
-	public AfterTradeOrderDto toAfterTradeOrderDto(final Long orderId, final BigDecimal quantity) {
+	public AfterTradeOrderDto toAfterTradeOrderDto(final Long orderId, final Quantity quantity) {
 		return AfterTradeOrderDto.builder()
 				.orderId(orderId)
 				.quantity(quantity)
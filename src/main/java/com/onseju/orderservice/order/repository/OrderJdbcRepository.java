@@ -0,0 +1,96 @@
+package com.onseju.orderservice.order.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.onseju.orderservice.order.domain.Order;
+import com.onseju.orderservice.order.dto.AfterTradeOrderDto;
+import com.onseju.orderservice.order.exception.OrderNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 JDBC 배치 저장소
+ * 주문 ID(TSID)가 미리 발급되어 있으므로 JPA merge(select 후 insert) 대신 JDBC 배치 insert로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderJdbcRepository {
+
+	// 같은 메시지가 재전달되어도 배치 전체가 실패하지 않도록 이미 저장된 주문은 무시한다.
+	private static final String INSERT_SQL = """
+			INSERT INTO orders (order_id, company_code, type, total_quantity, remaining_quantity, status, price,
+			                    account_id, timestamp, created_date_time, updated_date_time)
+			VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+			ON DUPLICATE KEY UPDATE order_id = order_id
+			""";
+
+	/**
+	 * 남은 수량을 한 번의 UPDATE로 차감 (0 미만으로 내려가지 않음)
+	 * status를 먼저 대입해 MySQL(좌->우 대입)과 표준 SQL 모두 차감 전 수량 기준으로 평가되도록 한다.
+	 */
+	private static final String DECREASE_REMAINING_SQL = """
+			UPDATE orders
+			SET status = CASE WHEN remaining_quantity <= ? THEN 'COMPLETE' ELSE status END,
+			    remaining_quantity = GREATEST(remaining_quantity - ?, 0),
+			    updated_date_time = ?
+			WHERE order_id = ?
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void batchInsert(final List<Order> orders) {
+		final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_SQL, orders, orders.size(),
+				(ps, order) -> bind(ps, order, now));
+	}
+
+	private void bind(final PreparedStatement ps, final Order order, final Timestamp now) throws SQLException {
+		ps.setLong(1, order.getId());
+		ps.setString(2, order.getCompanyCode());
+		ps.setString(3, order.getType().name());
+		ps.setBigDecimal(4, order.getTotalQuantity().toBigDecimal());
+		ps.setBigDecimal(5, order.getRemainingQuantity().toBigDecimal());
+		ps.setString(6, order.getStatus().name());
+		ps.setBigDecimal(7, order.getPrice().toBigDecimal());
+		ps.setLong(8, order.getAccountId());
+		ps.setLong(9, order.getTimestamp());
+		ps.setTimestamp(10, now);
+		ps.setTimestamp(11, now);
+	}
+
+	public void decreaseRemainingQuantity(final AfterTradeOrderDto dto) {
+		final int updated = jdbcTemplate.update(DECREASE_REMAINING_SQL, ps ->
+				bindDecrease(ps, dto, Timestamp.valueOf(LocalDateTime.now())));
+		if (updated == 0) {
+			throw new OrderNotFoundException();
+		}
+	}
+
+	public void batchDecreaseRemainingQuantity(final List<AfterTradeOrderDto> dtos) {
+		final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		final int[][] results = jdbcTemplate.batchUpdate(DECREASE_REMAINING_SQL, dtos, dtos.size(),
+				(ps, dto) -> bindDecrease(ps, dto, now));
+		for (int[] batch : results) {
+			for (int updated : batch) {
+				if (updated == 0) {
+					throw new OrderNotFoundException();
+				}
+			}
+		}
+	}
+
+	private void bindDecrease(final PreparedStatement ps, final AfterTradeOrderDto dto, final Timestamp now)
+			throws SQLException {
+		ps.setBigDecimal(1, dto.quantity().toBigDecimal());
+		ps.setBigDecimal(2, dto.quantity().toBigDecimal());
+		ps.setTimestamp(3, now);
+		ps.setLong(4, dto.orderId());
+	}
+}
@@ -2,6 +2,7 @@ package com.onseju.orderservice.order.repository;
 
 
 import com.onseju.orderservice.order.domain.Order;
+import com.onseju.orderservice.order.dto.AfterTradeOrderDto;
 import com.onseju.orderservice.order.exception.OrderNotFoundException;
 import com.onseju.orderservice.order.service.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,12 +16,21 @@ import java.util.Optional;
 public class OrderRepositoryImpl implements OrderRepository {
 
 	private final OrderJpaRepository orderJpaRepository;
+	private final OrderJdbcRepository orderJdbcRepository;
 
 	@Override
 	public Order save(final Order order) {
 		return orderJpaRepository.save(order);
 	}
 
+	@Override
+	public void saveAll(final List<Order> orders) {
+		if (orders.isEmpty()) {
+			return;
+		}
+		orderJdbcRepository.batchInsert(orders);
+	}
+
 	@Override
 	public Optional<Order> findById(final Long id) {
 		return orderJpaRepository.findById(id);
@@ -37,4 +47,17 @@ public class OrderRepositoryImpl implements OrderRepository {
 	public List<Order> findByMemberId(Long memberId) {
 		return orderJpaRepository.findByAccountId(memberId);
 	}
+
+	@Override
+	public void decreaseRemainingQuantity(final AfterTradeOrderDto dto) {
+		orderJdbcRepository.decreaseRemainingQuantity(dto);
+	}
+
+	@Override
+	public void decreaseRemainingQuantities(final List<AfterTradeOrderDto> dtos) {
+		if (dtos.isEmpty()) {
+			return;
+		}
+		orderJdbcRepository.batchDecreaseRemainingQuantity(dtos);
+	}
 }
@@ -1,33 +1,41 @@
 package com.onseju.orderservice.order.service;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import com.onseju.orderservice.company.service.ClosingPriceService;
 import com.onseju.orderservice.company.service.repository.CompanyRepository;
 import com.onseju.orderservice.events.MatchedEvent;
 import com.onseju.orderservice.events.OrderBookSyncedEvent;
 import com.onseju.orderservice.events.OrderCreatedEvent;
-import com.onseju.orderservice.events.publisher.EventPublisher;
+import com.onseju.orderservice.global.exception.BaseException;
 import com.onseju.orderservice.global.response.ApiResponse;
 import com.onseju.orderservice.global.utils.TsidGenerator;
 import com.onseju.orderservice.order.OrderConstant;
+import com.onseju.orderservice.order.cache.ActiveOrder;
+import com.onseju.orderservice.order.cache.ActiveOrderCache;
 import com.onseju.orderservice.order.client.UserServiceClient;
+import com.onseju.orderservice.order.controller.resposne.BatchOrderResponse;
 import com.onseju.orderservice.order.controller.resposne.OrderResponse;
+import com.onseju.orderservice.order.controller.resposne.OrderResultResponse;
 import com.onseju.orderservice.order.domain.Order;
+import com.onseju.orderservice.order.domain.Type;
 import com.onseju.orderservice.order.dto.AfterTradeOrderDto;
 import com.onseju.orderservice.order.dto.BeforeTradeOrderDto;
 import com.onseju.orderservice.order.dto.OrderValidationResponse;
+import com.onseju.orderservice.order.exception.BatchOrderSizeExceededException;
 import com.onseju.orderservice.order.exception.OrderNotValidateException;
-import com.onseju.orderservice.order.exception.PriceOutOfRangeException;
 import com.onseju.orderservice.order.mapper.OrderMapper;
 import com.onseju.orderservice.order.service.repository.OrderRepository;
-import com.onseju.orderservice.order.service.validator.OrderValidator;
+import com.onseju.orderservice.order.service.validator.PriceValidationEngine;
+import com.onseju.orderservice.outbox.service.OutboxService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,76 +47,121 @@ public class OrderService {
 
 	private final OrderRepository orderRepository;
 	private final CompanyRepository companyRepository;
-	private final EventPublisher<OrderCreatedEvent> orderEventPublisher;
-	private final EventPublisher<MatchedEvent> matchedEventPublisher;
+	private final OutboxService outboxService;
 	private final UserServiceClient userServiceClient;
 	private final OrderMapper orderMapper;
 	private final TsidGenerator tsidGenerator;
-	private final ClosingPriceService closingPriceService;
+	private final PriceValidationEngine priceValidationEngine;
+	private final ActiveOrderCache activeOrderCache;
 
 	private final SimpMessagingTemplate messagingTemplate;
 
 	@Transactional
 	public ApiResponse<OrderResponse> placeOrder(final BeforeTradeOrderDto dto) {
-		// 주문 유효성 검증
-		validateOrder(dto.price(), dto.companyCode());
+		// 주문 유효성 검증 (호가 단위 및 전날 종가 기준 가격 범위)
+		priceValidationEngine.validate(dto.companyCode(), dto.price());
 
 		// 계좌 및 보유 주식 검증(REST 요청)
 		Long accountId = getAccountIdFromUserService(dto);
 
-		// 주문 생성 이벤트 발행
+		// 주문 생성 이벤트 발행 (아웃박스 적재 후 릴레이가 전송)
 		final Long orderId = tsidGenerator.nextId();
 		final Order order = orderMapper.toEntity(orderId, dto, accountId);
 		final OrderCreatedEvent event = orderMapper.toEvent(order);
-		orderEventPublisher.publishEvent(event);
-
-		OrderResponse orderResponse = OrderResponse.builder()
-				.id(order.getId())
-				.companyCode(order.getCompanyCode())
-				.type(order.getType())
-				.totalQuantity(order.getTotalQuantity())
-				.price(order.getPrice())
-				.build();
+		outboxService.appendOrderCreatedEvents(List.of(event));
+		afterCommit(() -> activeOrderCache.put(order));
 
 		return new ApiResponse<>(
 				"주문 접수 성공",
-				orderResponse,
+				toOrderResponse(order),
 				HttpStatus.OK.value());
 	}
 
 	/**
-	 * 주문 유효성 검증
+	 * 주문 일괄 접수
+	 * 가격 검증 -> user-service 배치 검증(1회) -> ID 일괄 발급 -> 이벤트 일괄 발행 순으로 처리하며,
+	 * 개별 주문의 검증 실패는 해당 주문의 결과로만 반환한다. (필수 값이 빠진 주문도 가격 검증 전에 거절한다)
 	 */
-	private void validateOrder(final BigDecimal price, final String companyCode) {
-		// 호가 단위 검증
-		OrderValidator validator = OrderValidator.getUnitByPrice(price);
-		validator.isValidPrice(price);
-
-		// 전날 종가 검증
-		final BigDecimal closingPrice = closingPriceService.getClosingPrice(companyCode);
+	@Transactional
+	public ApiResponse<BatchOrderResponse> placeOrders(final List<BeforeTradeOrderDto> dtos) {
+		if (dtos.size() > OrderConstant.MAX_BATCH_ORDER_SIZE.getValue()) {
+			throw new BatchOrderSizeExceededException();
+		}
+		final OrderResultResponse[] results = new OrderResultResponse[dtos.size()];
+
+		// 호가 단위 및 가격 제한 범위 검증
+		final List<Integer> pricedIndexes = new ArrayList<>(dtos.size());
+		for (int i = 0; i < dtos.size(); i++) {
+			final BeforeTradeOrderDto dto = dtos.get(i);
+			try {
+				if (!hasRequiredFields(dto)) {
+					throw new OrderNotValidateException();
+				}
+				priceValidationEngine.validate(dto.companyCode(), dto.price());
+				pricedIndexes.add(i);
+			} catch (BaseException e) {
+				results[i] = OrderResultResponse.rejected(i, e.getMessage());
+			}
+		}
 
-		if (!isWithinClosingPriceRange(closingPrice, price)) {
-			throw new PriceOutOfRangeException();
+		// 계좌 및 보유 주식 검증 (배치 gRPC 1회)
+		final List<OrderValidationResponse> validations = userServiceClient.validateOrders(
+				pricedIndexes.stream().map(dtos::get).toList());
+
+		final List<Integer> acceptedIndexes = new ArrayList<>(pricedIndexes.size());
+		final List<Long> accountIds = new ArrayList<>(pricedIndexes.size());
+		for (int k = 0; k < pricedIndexes.size(); k++) {
+			final int index = pricedIndexes.get(k);
+			final OrderValidationResponse validation = validations.get(k);
+			if (!Boolean.TRUE.equals(validation.result())) {
+				results[index] = OrderResultResponse.rejected(index, "유효하지 않은 주문입니다.");
+				continue;
+			}
+			acceptedIndexes.add(index);
+			accountIds.add(validation.accountId());
 		}
-	}
 
-	private boolean isWithinClosingPriceRange(final BigDecimal closingPrice, final BigDecimal price) {
-		final BigDecimal percentageDivisor = new BigDecimal(100);
-		final BigDecimal priceLimit = BigDecimal.valueOf(OrderConstant.CLOSING_PRICE_LIMIT.getValue());
+		// 주문 생성 이벤트 일괄 발행 (아웃박스 적재 후 릴레이가 전송)
+		final long[] orderIds = tsidGenerator.nextIds(acceptedIndexes.size());
+		final List<Order> orders = new ArrayList<>(acceptedIndexes.size());
+		final List<OrderCreatedEvent> events = new ArrayList<>(acceptedIndexes.size());
+		for (int k = 0; k < acceptedIndexes.size(); k++) {
+			final int index = acceptedIndexes.get(k);
+			final Order order = orderMapper.toEntity(orderIds[k], dtos.get(index), accountIds.get(k));
+			orders.add(order);
+			events.add(orderMapper.toEvent(order));
+			results[index] = OrderResultResponse.accepted(index, toOrderResponse(order));
+		}
+		outboxService.appendOrderCreatedEvents(events);
+		afterCommit(() -> activeOrderCache.putAll(orders));
 
-		final BigDecimal lowerBound = calculatePriceLimit(closingPrice, percentageDivisor, priceLimit.negate());
-		final BigDecimal upperBound = calculatePriceLimit(closingPrice, percentageDivisor, priceLimit);
+		return new ApiResponse<>(
+				"주문 일괄 접수 성공",
+				new BatchOrderResponse(List.of(results), acceptedIndexes.size(), dtos.size() - acceptedIndexes.size()),
+				HttpStatus.OK.value());
+	}
 
-		return price.compareTo(lowerBound) >= 0 && price.compareTo(upperBound) <= 0;
+	/**
+	 * 일괄 접수 주문의 필수 값 확인 (주문 하나의 누락 값이 배치 전체를 실패시키지 않도록)
+	 */
+	private static boolean hasRequiredFields(final BeforeTradeOrderDto dto) {
+		return dto != null
+				&& dto.companyCode() != null
+				&& dto.totalQuantity() != null
+				&& dto.price() != null
+				&& dto.memberId() != null
+				&& dto.type() != null
+				&& Arrays.stream(Type.values()).anyMatch(type -> type.name().equals(dto.type()));
 	}
 
-	private BigDecimal calculatePriceLimit(
-			final BigDecimal closingPrice,
-			final BigDecimal percentageDivisor,
-			final BigDecimal priceLimit
-	) {
-		return closingPrice.multiply(new BigDecimal(100).add(priceLimit))
-				.divide(percentageDivisor, RoundingMode.HALF_UP);
+	private OrderResponse toOrderResponse(final Order order) {
+		return OrderResponse.builder()
+				.id(order.getId())
+				.companyCode(order.getCompanyCode())
+				.type(order.getType())
+				.totalQuantity(order.getTotalQuantity())
+				.price(order.getPrice())
+				.build();
 	}
 
 	// 외부의 user-service와 rest 통신
@@ -124,13 +177,23 @@ public class OrderService {
 	}
 
 	/**
-	 * 주문 예약 수량 업데이트
+	 * 주문 조회 (미체결 주문 캐시 -> DB 순)
+	 */
+	public ActiveOrder getActiveOrder(final Long orderId) {
+		return activeOrderCache.get(orderId).orElseGet(() -> {
+			final ActiveOrder order = ActiveOrder.from(orderRepository.getById(orderId));
+			activeOrderCache.put(order);
+			return order;
+		});
+	}
+
+	/**
+	 * 여러 주문의 예약 수량을 한 번의 배치 UPDATE로 업데이트
 	 */
 	@Transactional
-	public void updateRemainingQuantity(final AfterTradeOrderDto dto) {
-		final Order order = orderRepository.getById(dto.orderId());
-		order.decreaseRemainingQuantity(dto.quantity());
-		orderRepository.save(order);
+	public void updateRemainingQuantities(final List<AfterTradeOrderDto> dtos) {
+		orderRepository.decreaseRemainingQuantities(dtos);
+		afterCommit(() -> dtos.forEach(dto -> activeOrderCache.applyFill(dto.orderId(), dto.quantity())));
 	}
 
 	/**
@@ -141,14 +204,35 @@ public class OrderService {
 	}
 
 	/**
-	 * 매칭 후, 사용자 업데이트 이벤트 발행
+	 * 매칭 후, 사용자 업데이트 이벤트 일괄 발행 (아웃박스 적재 후 릴레이가 전송)
 	 */
-	public void publishUserUpdateEvent(final MatchedEvent event) {
-		matchedEventPublisher.publishEvent(event);
+	@Transactional
+	public void publishUserUpdateEvents(final List<MatchedEvent> events) {
+		outboxService.appendUserUpdateEvents(events);
 	}
 
+	/**
+	 * 주문 일괄 저장 (하나의 트랜잭션, JDBC 배치 insert)
+	 */
 	@Transactional
-	public void saveOrder(final Order order) {
-		orderRepository.save(order);
+	public void saveOrders(final List<Order> orders) {
+		orderRepository.saveAll(orders);
+		afterCommit(() -> activeOrderCache.putAll(orders));
+	}
+
+	/**
+	 * 트랜잭션이 커밋된 뒤 캐시 변경 (롤백되면 반영하지 않고, 트랜잭션 밖이면 바로 반영)
+	 */
+	private static void afterCommit(final Runnable cacheUpdate) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			cacheUpdate.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				cacheUpdate.run();
+			}
+		});
 	}
 }
@@ -1,6 +1,7 @@
 package com.onseju.orderservice.order.service.repository;
 
 import com.onseju.orderservice.order.domain.Order;
+import com.onseju.orderservice.order.dto.AfterTradeOrderDto;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,9 +10,15 @@ public interface OrderRepository {
 
 	Order save(final Order order);
 
+	void saveAll(final List<Order> orders);
+
 	Optional<Order> findById(final Long id);
 
 	Order getById(final Long id);
 
 	List<Order> findByMemberId(Long memberId);
+
+	void decreaseRemainingQuantity(final AfterTradeOrderDto dto);
+
+	void decreaseRemainingQuantities(final List<AfterTradeOrderDto> dtos);
 }
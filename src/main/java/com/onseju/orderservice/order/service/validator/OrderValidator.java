@@ -5,75 +5,70 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
 
 @Slf4j
 @RequiredArgsConstructor
 public enum OrderValidator {
 
-	UNIT_1(                                // ~ 2,000원 미만
-			new BigDecimal("0"),
-			new BigDecimal("2000"),
-			new BigDecimal("1")
-	),
-	UNIT_5(                            // 2,000원 ~ 5,000원
-			new BigDecimal("2000"),
-			new BigDecimal("5000"),
-			new BigDecimal("5")
-	),
-	UNIT_10(                            // 5,000원 ~ 20,000원
-			new BigDecimal("5000"),
-			new BigDecimal("20000"),
-			new BigDecimal("10")
-	),
-	UNIT_50(                            // 20,000원 ~ 50,000원
-			new BigDecimal("20000"),
-			new BigDecimal("50000"),
-			new BigDecimal("50")
-	),
-	UNIT_100(                            // 50,000원 ~ 200,000원
-			new BigDecimal("50000"),
-			new BigDecimal("200000"),
-			new BigDecimal("100")
-	),
-	UNIT_500(                            // 200,000원 ~ 500,000원
-			new BigDecimal("200000"),
-			new BigDecimal("500000"),
-			new BigDecimal("500")
-	),
-	UNIT_1000(                            // 500,000원 이상
-			new BigDecimal("500000"),
-			new BigDecimal(Integer.MAX_VALUE),
-			new BigDecimal("1000")
-	);
+	UNIT_1(0L, 2_000L, 1L),                        // ~ 2,000원 미만
+	UNIT_5(2_000L, 5_000L, 5L),                    // 2,000원 ~ 5,000원
+	UNIT_10(5_000L, 20_000L, 10L),                 // 5,000원 ~ 20,000원
+	UNIT_50(20_000L, 50_000L, 50L),                // 20,000원 ~ 50,000원
+	UNIT_100(50_000L, 200_000L, 100L),             // 50,000원 ~ 200,000원
+	UNIT_500(200_000L, 500_000L, 500L),            // 200,000원 ~ 500,000원
+	UNIT_1000(500_000L, Integer.MAX_VALUE, 1000L); // 500,000원 이상
 
-	private final BigDecimal minPrice;
-	private final BigDecimal maxPrice;
-	private final BigDecimal unit;
+	// values()는 호출마다 배열을 복사하므로 한 번만 생성해 재사용
+	private static final OrderValidator[] UNITS = values();
+	private static final BigDecimal MAX_PRICE = BigDecimal.valueOf(Integer.MAX_VALUE);
+
+	private final long minPrice;
+	private final long maxPrice;
+	private final long unit;
 
 	// 지정가 주문 가격 범위 유효성 검증
 	public static OrderValidator getUnitByPrice(final BigDecimal price) {
-		return Arrays.stream(values())
-				.filter(unit ->
-						price.compareTo(unit.minPrice) >= 0 &&
-								price.compareTo(unit.maxPrice) < 0
-				)
-				.findFirst()
-				.orElseThrow(() ->
-						new OrderPriceQuotationException("주문 가격이 유효하지 않습니다.")
-				);
+		if (price.signum() < 0 || price.compareTo(MAX_PRICE) >= 0) {
+			throw new OrderPriceQuotationException("주문 가격이 유효하지 않습니다.");
+		}
+		return getUnitByPrice(price.longValue());
+	}
+
+	/**
+	 * 원 단위 정수 가격으로 호가 단위 조회 (객체 할당 없음)
+	 */
+	public static OrderValidator getUnitByPrice(final long price) {
+		if (price < 0 || price >= UNIT_1000.maxPrice) {
+			throw new OrderPriceQuotationException("주문 가격이 유효하지 않습니다.");
+		}
+
+		for (int i = UNITS.length - 1; i > 0; i--) {
+			if (price >= UNITS[i].minPrice) {
+				return UNITS[i];
+			}
+		}
+		return UNIT_1;
 	}
 
 	// 지정가 주문 가격 견젹 유효성 검증
 	public void isValidPrice(final BigDecimal price) {
-		if (!(price.remainder(unit)
-				.compareTo(BigDecimal.ZERO) == 0)) {
+		final long wonPrice;
+		try {
+			wonPrice = price.longValueExact();
+		} catch (ArithmeticException e) {
+			throw new OrderPriceQuotationException("주문 가격이 호가 단위에 맞지 않습니다.");
+		}
+		isValidPrice(wonPrice);
+	}
+
+	public void isValidPrice(final long price) {
+		if (price % unit != 0) {
 			throw new OrderPriceQuotationException("주문 가격이 호가 단위에 맞지 않습니다.");
 		}
 
-		log.debug("주문 가격 견적 유효성 검증. Price: {}, Unit: {}",
-				price.toPlainString(),
-				this.unit.toPlainString());
+		if (log.isDebugEnabled()) {
+			log.debug("주문 가격 견적 유효성 검증. Price: {}, Unit: {}", price, unit);
+		}
 	}
 
 }
@@ -0,0 +1,54 @@
+package com.onseju.orderservice.order.service.validator;
+
+import org.springframework.stereotype.Component;
+
+import com.onseju.orderservice.company.domain.PriceBand;
+import com.onseju.orderservice.company.exception.CompanyNotFound;
+import com.onseju.orderservice.company.service.ClosingPriceService;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.exception.OrderPriceQuotationException;
+import com.onseju.orderservice.order.exception.PriceOutOfRangeException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 가격 검증 엔진
+ * 가격을 원 단위 정수로 변환한 뒤 호가 단위 테이블과 미리 계산된 가격 제한 범위로 검증한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceValidationEngine {
+
+	private final ClosingPriceService closingPriceService;
+
+	public void validate(final String companyCode, final Price price) {
+		validate(companyCode, toWonPrice(price));
+	}
+
+	public void validate(final String companyCode, final long price) {
+		// 호가 단위 검증
+		OrderValidator.getUnitByPrice(price).isValidPrice(price);
+
+		// 전날 종가 기준 가격 제한 범위 검증
+		final PriceBand priceBand = closingPriceService.getPriceBand(companyCode);
+		if (priceBand == null) {
+			throw new CompanyNotFound();
+		}
+		if (!priceBand.contains(price)) {
+			throw new PriceOutOfRangeException();
+		}
+	}
+
+	/**
+	 * 원 단위 이하의 가격은 어떤 호가 단위에도 맞지 않으므로 변환 단계에서 거절한다.
+	 */
+	private long toWonPrice(final Price price) {
+		if (price.value() < 0) {
+			throw new OrderPriceQuotationException("주문 가격이 유효하지 않습니다.");
+		}
+		if (!price.isWholeWon()) {
+			throw new OrderPriceQuotationException("주문 가격이 호가 단위에 맞지 않습니다.");
+		}
+		return price.toWon();
+	}
+}
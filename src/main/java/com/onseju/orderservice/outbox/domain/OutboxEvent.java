@@ -0,0 +1,60 @@
+package com.onseju.orderservice.outbox.domain;
+
+import java.time.LocalDateTime;
+
+import com.onseju.orderservice.global.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 트랜잭셔널 아웃박스 이벤트
+ * 비즈니스 데이터와 같은 트랜잭션에서 저장하고, 릴레이가 브로커로 전송한 뒤 sentDateTime을 기록한다.
+ * 릴레이는 전송 전에 claimedBy/claimedUntil로 이벤트를 임대해, 다른 인스턴스가 같은 이벤트를 동시에 보내지 않게 한다.
+ */
+@Entity
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_event", indexes = @Index(name = "idx_outbox_event_sent", columnList = "sentDateTime, outbox_event_id"))
+public class OutboxEvent extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "outbox_event_id")
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private OutboxEventType type;
+
+	@Column(nullable = false)
+	private String eventId;
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	private LocalDateTime sentDateTime;
+
+	private String claimedBy;
+
+	private LocalDateTime claimedUntil;
+
+	/**
+	 * 다른 릴레이가 아직 유효하게 임대 중인지 여부
+	 */
+	public boolean isClaimedByOther(final String relayId, final LocalDateTime now) {
+		return claimedBy != null && !claimedBy.equals(relayId) && claimedUntil != null && claimedUntil.isAfter(now);
+	}
+}
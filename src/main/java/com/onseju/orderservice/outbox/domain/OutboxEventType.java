@@ -0,0 +1,6 @@
+package com.onseju.orderservice.outbox.domain;
+
+public enum OutboxEventType {
+	ORDER_CREATED,
+	USER_UPDATE
+}
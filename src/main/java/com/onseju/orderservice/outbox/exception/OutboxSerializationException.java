@@ -0,0 +1,12 @@
+package com.onseju.orderservice.outbox.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.onseju.orderservice.global.exception.BaseException;
+
+public class OutboxSerializationException extends BaseException {
+
+	public OutboxSerializationException() {
+		super("ORDER SERVICE - 아웃박스 이벤트 직렬화 실패", HttpStatus.INTERNAL_SERVER_ERROR);
+	}
+}
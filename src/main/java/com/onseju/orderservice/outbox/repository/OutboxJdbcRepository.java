@@ -0,0 +1,103 @@
+package com.onseju.orderservice.outbox.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.onseju.orderservice.outbox.domain.OutboxEvent;
+import com.onseju.orderservice.outbox.domain.OutboxEventType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스 JDBC 저장소
+ * 적재는 배치 insert, 전송 완료 표시는 IN 절 UPDATE 한 번으로 처리한다.
+ * 미전송 이벤트 조회는 FOR UPDATE NOWAIT로 잠근다. SKIP LOCKED는 다른 인스턴스가 뒤쪽 이벤트를 먼저 보내게 되어 순서가 섞인다.
+ * 잠금은 임대 기록까지만 유지하는 READ COMMITTED 트랜잭션에서 잡으므로 갭 락이 없어 주문 적재 INSERT를 막지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxJdbcRepository {
+
+	private static final String INSERT_SQL = """
+			INSERT INTO outbox_event (type, event_id, payload, created_date_time, updated_date_time)
+			VALUES (?, ?, ?, ?, ?)
+			""";
+
+	private static final String CLAIM_PENDING_SQL = """
+			SELECT outbox_event_id, type, event_id, payload, claimed_by, claimed_until
+			FROM outbox_event
+			WHERE sent_date_time IS NULL
+			ORDER BY outbox_event_id
+			LIMIT ?
+			FOR UPDATE NOWAIT
+			""";
+
+	private static final String LEASE_SQL = """
+			UPDATE outbox_event
+			SET claimed_by = :claimedBy, claimed_until = :claimedUntil
+			WHERE outbox_event_id IN (:ids)
+			""";
+
+	private static final String MARK_SENT_SQL = """
+			UPDATE outbox_event
+			SET sent_date_time = :sentDateTime, updated_date_time = :sentDateTime
+			WHERE outbox_event_id IN (:ids)
+			""";
+
+	private static final String DELETE_SENT_SQL = """
+			DELETE FROM outbox_event
+			WHERE sent_date_time IS NOT NULL AND sent_date_time < ?
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	public void batchInsert(final List<OutboxEvent> events) {
+		final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+			ps.setString(1, event.getType().name());
+			ps.setString(2, event.getEventId());
+			ps.setString(3, event.getPayload());
+			ps.setTimestamp(4, now);
+			ps.setTimestamp(5, now);
+		});
+	}
+
+	public List<OutboxEvent> claimPending(final int limit) {
+		return jdbcTemplate.query(CLAIM_PENDING_SQL, (rs, rowNum) -> OutboxEvent.builder()
+				.id(rs.getLong("outbox_event_id"))
+				.type(OutboxEventType.valueOf(rs.getString("type")))
+				.eventId(rs.getString("event_id"))
+				.payload(rs.getString("payload"))
+				.claimedBy(rs.getString("claimed_by"))
+				.claimedUntil(toLocalDateTime(rs.getTimestamp("claimed_until")))
+				.build(), limit);
+	}
+
+	public void lease(final List<Long> ids, final String relayId, final LocalDateTime claimedUntil) {
+		namedParameterJdbcTemplate.update(LEASE_SQL, Map.of(
+				"ids", ids,
+				"claimedBy", relayId,
+				"claimedUntil", Timestamp.valueOf(claimedUntil)));
+	}
+
+	public void markSent(final List<Long> ids, final LocalDateTime sentDateTime) {
+		namedParameterJdbcTemplate.update(MARK_SENT_SQL, Map.of(
+				"ids", ids,
+				"sentDateTime", Timestamp.valueOf(sentDateTime)));
+	}
+
+	public int deleteSentBefore(final LocalDateTime dateTime) {
+		return jdbcTemplate.update(DELETE_SENT_SQL, Timestamp.valueOf(dateTime));
+	}
+
+	private static LocalDateTime toLocalDateTime(final Timestamp timestamp) {
+		return timestamp == null ? null : timestamp.toLocalDateTime();
+	}
+}
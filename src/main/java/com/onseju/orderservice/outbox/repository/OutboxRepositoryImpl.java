@@ -0,0 +1,52 @@
+package com.onseju.orderservice.outbox.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.onseju.orderservice.outbox.domain.OutboxEvent;
+import com.onseju.orderservice.outbox.service.repository.OutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxRepositoryImpl implements OutboxRepository {
+
+	private final OutboxJdbcRepository outboxJdbcRepository;
+
+	@Override
+	public void saveAll(final List<OutboxEvent> events) {
+		if (events.isEmpty()) {
+			return;
+		}
+		outboxJdbcRepository.batchInsert(events);
+	}
+
+	@Override
+	public List<OutboxEvent> claimPending(final int limit) {
+		return outboxJdbcRepository.claimPending(limit);
+	}
+
+	@Override
+	public void lease(final List<Long> ids, final String relayId, final LocalDateTime claimedUntil) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		outboxJdbcRepository.lease(ids, relayId, claimedUntil);
+	}
+
+	@Override
+	public void markSent(final List<Long> ids, final LocalDateTime sentDateTime) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		outboxJdbcRepository.markSent(ids, sentDateTime);
+	}
+
+	@Override
+	public int deleteSentBefore(final LocalDateTime dateTime) {
+		return outboxJdbcRepository.deleteSentBefore(dateTime);
+	}
+}
@@ -0,0 +1,182 @@
+package com.onseju.orderservice.outbox.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onseju.orderservice.events.MatchedEvent;
+import com.onseju.orderservice.events.OrderCreatedEvent;
+import com.onseju.orderservice.events.publisher.EventPublisher;
+import com.onseju.orderservice.outbox.domain.OutboxEvent;
+import com.onseju.orderservice.outbox.domain.OutboxEventType;
+import com.onseju.orderservice.outbox.service.repository.OutboxRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 릴레이
+ * 미전송 이벤트를 batch-size 건씩 짧은 트랜잭션에서 잠그고 읽어 lease-ms 동안 임대(claim)한 뒤,
+ * DB 트랜잭션 밖에서 이벤트 종류별로 ID 순서대로 한 스레드에서 연속 전송(파이프라인)하고,
+ * 첫 실패 전까지 confirm 된 이벤트만 한 번의 UPDATE로 전송 완료 처리한다. 실패 이후 이벤트는 다음 주기에 순서대로 다시 보낸다.
+ * 다른 인스턴스가 임대 중인 이벤트 앞까지만 임대하므로 앞선 이벤트가 전송 중이면 건너뛰어 ID 순서가 섞이지 않는다.
+ * 브로커가 느려도 DB 잠금은 임대 기록까지만 유지되어 주문 적재를 막지 않는다.
+ * 전송 후 완료 표시 전에 중단되거나 임대가 만료되면 재전송될 수 있으므로 소비 측은 이벤트 ID로 중복을 걸러야 한다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+	private final OutboxRepository outboxRepository;
+	private final EventPublisher<OrderCreatedEvent> orderEventPublisher;
+	private final EventPublisher<MatchedEvent> matchedEventPublisher;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate claimTransaction;
+	private final int batchSize;
+	private final long leaseMillis;
+	private final long retentionHours;
+	private final String relayId = UUID.randomUUID().toString();
+
+	public OutboxRelay(
+			final OutboxRepository outboxRepository,
+			final EventPublisher<OrderCreatedEvent> orderEventPublisher,
+			final EventPublisher<MatchedEvent> matchedEventPublisher,
+			final ObjectMapper objectMapper,
+			final TransactionTemplate transactionTemplate,
+			@Value("${outbox.relay.batch-size:1000}") final int batchSize,
+			@Value("${outbox.relay.lease-ms:60000}") final long leaseMillis,
+			@Value("${outbox.relay.retention-hours:24}") final long retentionHours
+	) {
+		this.outboxRepository = outboxRepository;
+		this.orderEventPublisher = orderEventPublisher;
+		this.matchedEventPublisher = matchedEventPublisher;
+		this.objectMapper = objectMapper;
+		// 잠금 조회가 갭 락을 잡지 않도록 READ COMMITTED로 임대한다.
+		this.claimTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+		this.claimTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+		this.batchSize = batchSize;
+		this.leaseMillis = leaseMillis;
+		this.retentionHours = retentionHours;
+	}
+
+	/**
+	 * 미전송 이벤트가 batch-size보다 적게 남을 때까지 반복해서 전송한다.
+	 */
+	@Scheduled(fixedDelayString = "${outbox.relay.interval-ms:100}")
+	public void relay() {
+		int relayed;
+		do {
+			relayed = relayBatch();
+		} while (relayed == batchSize);
+	}
+
+	/**
+	 * 한 배치를 임대하고 전송한 뒤 전송 완료 처리한 건수를 반환한다.
+	 * 다른 인스턴스가 앞선 이벤트를 전송 중이면 0을 반환한다.
+	 */
+	int relayBatch() {
+		final List<OutboxEvent> claimed;
+		try {
+			claimed = claimTransaction.execute(status -> claim());
+		} catch (CannotAcquireLockException e) {
+			log.debug("다른 인스턴스가 아웃박스 이벤트를 임대 중입니다.");
+			return 0;
+		}
+		if (claimed == null || claimed.isEmpty()) {
+			return 0;
+		}
+
+		// 종류별로 목적지가 다르므로 종류 안에서만 ID 순서를 지킨다.
+		final List<OutboxEvent> orderCreated = new ArrayList<>();
+		final List<OutboxEvent> userUpdate = new ArrayList<>();
+		for (OutboxEvent event : claimed) {
+			(event.getType() == OutboxEventType.ORDER_CREATED ? orderCreated : userUpdate).add(event);
+		}
+		final CompletableFuture<Integer> orderCreatedSent = publishInOrder(orderCreated, OrderCreatedEvent.class,
+				orderEventPublisher);
+		final CompletableFuture<Integer> userUpdateSent = publishInOrder(userUpdate, MatchedEvent.class,
+				matchedEventPublisher);
+
+		final List<Long> sentIds = new ArrayList<>(claimed.size());
+		sentIds.addAll(confirmedIds(orderCreated, orderCreatedSent));
+		sentIds.addAll(confirmedIds(userUpdate, userUpdateSent));
+		// 전송 완료 표시는 트랜잭션 없이 UPDATE 한 번으로 바로 커밋한다.
+		outboxRepository.markSent(sentIds, LocalDateTime.now());
+
+		// 실패한 이벤트가 있으면 다음 주기까지 기다린다.
+		return sentIds.size() == claimed.size() ? claimed.size() : 0;
+	}
+
+	/**
+	 * 앞쪽 미전송 이벤트를 잠그고, 다른 인스턴스가 임대 중인 이벤트 앞까지 임대한다. (claimTransaction 안에서 호출)
+	 */
+	private List<OutboxEvent> claim() {
+		final LocalDateTime now = LocalDateTime.now();
+		final List<OutboxEvent> claimed = new ArrayList<>();
+		for (OutboxEvent event : outboxRepository.claimPending(batchSize)) {
+			if (event.isClaimedByOther(relayId, now)) {
+				break;
+			}
+			claimed.add(event);
+		}
+		outboxRepository.lease(claimed.stream().map(OutboxEvent::getId).toList(), relayId,
+				now.plus(Duration.ofMillis(leaseMillis)));
+		return claimed;
+	}
+
+	/**
+	 * 역직렬화에 실패한 이벤트 앞까지만 순서대로 전송한다.
+	 */
+	private <T> CompletableFuture<Integer> publishInOrder(final List<OutboxEvent> events, final Class<T> type,
+			final EventPublisher<T> publisher) {
+		if (events.isEmpty()) {
+			return CompletableFuture.completedFuture(0);
+		}
+		final List<T> payloads = new ArrayList<>(events.size());
+		for (OutboxEvent event : events) {
+			try {
+				payloads.add(objectMapper.readValue(event.getPayload(), type));
+			} catch (JsonProcessingException e) {
+				log.error("아웃박스 이벤트 역직렬화 실패. eventId: {}", event.getEventId(), e);
+				break;
+			}
+		}
+		return publisher.publishEvents(payloads);
+	}
+
+	private List<Long> confirmedIds(final List<OutboxEvent> events, final CompletableFuture<Integer> sent) {
+		int confirmed;
+		try {
+			confirmed = sent.join();
+		} catch (CompletionException e) {
+			confirmed = 0;
+		}
+		if (confirmed < events.size()) {
+			log.warn("아웃박스 이벤트 전송 실패, 다음 주기에 재시도합니다. eventId: {}", events.get(confirmed).getEventId());
+		}
+		return events.subList(0, confirmed).stream()
+				.map(OutboxEvent::getId)
+				.toList();
+	}
+
+	/**
+	 * 보관 기간이 지난 전송 완료 이벤트 삭제
+	 */
+	@Scheduled(cron = "${outbox.relay.purge-cron:0 0 * * * *}")
+	public void purgeSent() {
+		final int deleted = outboxRepository.deleteSentBefore(LocalDateTime.now().minusHours(retentionHours));
+		log.info("전송 완료된 아웃박스 이벤트 {}건 삭제", deleted);
+	}
+}
@@ -0,0 +1,56 @@
+package com.onseju.orderservice.outbox.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onseju.orderservice.events.MatchedEvent;
+import com.onseju.orderservice.events.OrderCreatedEvent;
+import com.onseju.orderservice.outbox.domain.OutboxEvent;
+import com.onseju.orderservice.outbox.domain.OutboxEventType;
+import com.onseju.orderservice.outbox.exception.OutboxSerializationException;
+import com.onseju.orderservice.outbox.service.repository.OutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스 적재 서비스
+ * 호출 측 트랜잭션에 참여해 이벤트를 저장하며, 실제 발행은 OutboxRelay가 담당한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+	private final OutboxRepository outboxRepository;
+	private final ObjectMapper objectMapper;
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void appendOrderCreatedEvents(final List<OrderCreatedEvent> events) {
+		outboxRepository.saveAll(events.stream()
+				.map(event -> toOutboxEvent(OutboxEventType.ORDER_CREATED, event.id().toString(), event))
+				.toList());
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void appendUserUpdateEvents(final List<MatchedEvent> events) {
+		outboxRepository.saveAll(events.stream()
+				.map(event -> toOutboxEvent(OutboxEventType.USER_UPDATE, event.id().toString(), event))
+				.toList());
+	}
+
+	private OutboxEvent toOutboxEvent(final OutboxEventType type, final String eventId, final Object event) {
+		try {
+			return OutboxEvent.builder()
+					.type(type)
+					.eventId(eventId)
+					.payload(objectMapper.writeValueAsString(event))
+					.build();
+		} catch (JsonProcessingException e) {
+			throw new OutboxSerializationException();
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.onseju.orderservice.outbox.service.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.onseju.orderservice.outbox.domain.OutboxEvent;
+
+public interface OutboxRepository {
+
+	void saveAll(final List<OutboxEvent> events);
+
+	/**
+	 * 가장 오래된 미전송 이벤트 limit건을 ID 순서로 잠그고 조회한다. (짧은 트랜잭션 안에서 호출)
+	 * 다른 트랜잭션이 잠근 행을 만나면 기다리지 않고 CannotAcquireLockException을 던진다.
+	 */
+	List<OutboxEvent> claimPending(final int limit);
+
+	/**
+	 * 이벤트를 relayId 릴레이에 claimedUntil까지 임대한다.
+	 */
+	void lease(final List<Long> ids, final String relayId, final LocalDateTime claimedUntil);
+
+	void markSent(final List<Long> ids, final LocalDateTime sentDateTime);
+
+	int deleteSentBefore(final LocalDateTime dateTime);
+}
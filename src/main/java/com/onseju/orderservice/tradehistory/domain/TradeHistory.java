@@ -1,8 +1,8 @@
 package com.onseju.orderservice.tradehistory.domain;
 
-import java.math.BigDecimal;
-
 import com.onseju.orderservice.global.entity.BaseEntity;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -39,10 +39,10 @@ public class TradeHistory extends BaseEntity {
 	private Long buyOrderId;
 
 	@Column(nullable = false)
-	private BigDecimal price;    // 체결 가격
+	private Price price;    // 체결 가격
 
 	@Column(nullable = false)
-	private BigDecimal quantity; // 체결 수량
+	private Quantity quantity; // 체결 수량
 
 	@Column(nullable = false)
 	private Long tradeTime; // 체결 시간
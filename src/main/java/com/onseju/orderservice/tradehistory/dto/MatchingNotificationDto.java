@@ -1,17 +1,18 @@
 package com.onseju.orderservice.tradehistory.dto;
 
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 import com.onseju.orderservice.order.domain.Type;
 import lombok.Builder;
 
-import java.math.BigDecimal;
 
 @Builder
 public record MatchingNotificationDto(
         Long orderId,
         String companyCode,
         Type type,
-        BigDecimal price,
-        BigDecimal quantity,
+        Price price,
+        Quantity quantity,
         Long createdAt
 ) {
 }
@@ -0,0 +1,15 @@
+package com.onseju.orderservice.tradehistory.dto;
+
+import java.util.List;
+
+import com.onseju.orderservice.events.MatchedEvent;
+import com.onseju.orderservice.tradehistory.domain.TradeHistory;
+
+/**
+ * 체결 반영 결과 (중복 제외 후 실제로 반영된 이벤트와 거래 내역, 같은 순서)
+ */
+public record SettlementResult(
+		List<MatchedEvent> events,
+		List<TradeHistory> tradeHistories
+) {
+}
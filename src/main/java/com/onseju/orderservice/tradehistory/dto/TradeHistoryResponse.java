@@ -1,9 +1,10 @@
 package com.onseju.orderservice.tradehistory.dto;
 
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 import com.onseju.orderservice.order.domain.Type;
 import lombok.Builder;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Builder
@@ -11,8 +12,8 @@ public record TradeHistoryResponse(
 		Long orderId,
 		String companyCode,
 		Type type,
-		BigDecimal price,
-		BigDecimal quantity,
+		Price price,
+		Quantity quantity,
 		LocalDateTime createdAt
 ) {
 }
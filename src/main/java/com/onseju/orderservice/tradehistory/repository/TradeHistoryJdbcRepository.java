@@ -0,0 +1,74 @@
+package com.onseju.orderservice.tradehistory.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
+import com.onseju.orderservice.tradehistory.domain.TradeHistory;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 체결 내역 JDBC 배치 저장소
+ * IDENTITY 전략에서는 Hibernate가 insert 배치를 사용하지 않으므로 JDBC 배치 insert로 저장한다.
+ * 시작 시 차트 준비용 대량 조회도 엔티티 영속성 컨텍스트를 거치지 않도록 JDBC로 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TradeHistoryJdbcRepository {
+
+	private static final String INSERT_SQL = """
+			INSERT INTO trade_history (company_code, sell_order_id, buy_order_id, price, quantity, trade_time,
+			                           created_date_time, updated_date_time)
+			VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+			""";
+
+	private static final String FIND_RECENT_OF_ALL_COMPANIES_SQL = """
+			SELECT trade_history_id, company_code, sell_order_id, buy_order_id, price, quantity, trade_time
+			FROM (
+				SELECT t.*, ROW_NUMBER() OVER (PARTITION BY company_code ORDER BY trade_time DESC) AS rn
+				FROM trade_history t
+			) ranked
+			WHERE rn <= ?
+			ORDER BY company_code, trade_time
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void batchInsert(final List<TradeHistory> tradeHistories) {
+		final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_SQL, tradeHistories, tradeHistories.size(),
+				(ps, tradeHistory) -> bind(ps, tradeHistory, now));
+	}
+
+	public List<TradeHistory> findRecentTradesOfAllCompanies(final int limitPerCompany) {
+		return jdbcTemplate.query(FIND_RECENT_OF_ALL_COMPANIES_SQL, (rs, rowNum) -> TradeHistory.builder()
+				.id(rs.getLong("trade_history_id"))
+				.companyCode(rs.getString("company_code"))
+				.sellOrderId(rs.getLong("sell_order_id"))
+				.buyOrderId(rs.getLong("buy_order_id"))
+				.price(Price.of(rs.getBigDecimal("price")))
+				.quantity(Quantity.of(rs.getBigDecimal("quantity")))
+				.tradeTime(rs.getLong("trade_time"))
+				.build(), limitPerCompany);
+	}
+
+	private void bind(final PreparedStatement ps, final TradeHistory tradeHistory, final Timestamp now)
+			throws SQLException {
+		ps.setString(1, tradeHistory.getCompanyCode());
+		ps.setLong(2, tradeHistory.getSellOrderId());
+		ps.setLong(3, tradeHistory.getBuyOrderId());
+		ps.setBigDecimal(4, tradeHistory.getPrice().toBigDecimal());
+		ps.setBigDecimal(5, tradeHistory.getQuantity().toBigDecimal());
+		ps.setLong(6, tradeHistory.getTradeTime());
+		ps.setTimestamp(7, now);
+		ps.setTimestamp(8, now);
+	}
+}
@@ -24,16 +24,17 @@ public interface TradeHistoryJpaRepository extends JpaRepository<TradeHistory, L
 
 	/**
 	 * 회사별 총 거래액 조회
+	 * price, quantity는 컨버터가 적용된 값 타입이므로 컬럼 연산은 네이티브 쿼리로 처리한다.
 	 */
-	@Query("SELECT t.companyCode, SUM(t.price * t.quantity) as totalAmount " +
-		"FROM TradeHistory t GROUP BY t.companyCode ORDER BY totalAmount DESC")
+	@Query(value = "SELECT t.company_code, SUM(t.price * t.quantity) as totalAmount " +
+		"FROM trade_history t GROUP BY t.company_code ORDER BY totalAmount DESC", nativeQuery = true)
 	List<Object[]> findTotalTradeAmountByCompany(Pageable pageable);
 
 	/**
 	 * 회사별 평균 가격 조회
 	 */
-	@Query("SELECT t.companyCode, AVG(t.price) as avgPrice " +
-		"FROM TradeHistory t GROUP BY t.companyCode ORDER BY avgPrice DESC")
+	@Query(value = "SELECT t.company_code, AVG(t.price) as avgPrice " +
+		"FROM trade_history t GROUP BY t.company_code ORDER BY avgPrice DESC", nativeQuery = true)
 	List<Object[]> findTradeAvgPriceByCompany(Pageable pageable);
 
 	/**
@@ -15,12 +15,21 @@ import java.util.List;
 public class TradeHistoryRepositoryImpl implements TradeHistoryRepository {
 
 	private final TradeHistoryJpaRepository tradeHistoryJpaRepository;
+	private final TradeHistoryJdbcRepository tradeHistoryJdbcRepository;
 
 	@Override
 	public TradeHistory save(final TradeHistory tradeHistory) {
 		return tradeHistoryJpaRepository.save(tradeHistory);
 	}
 
+	@Override
+	public void saveAll(final List<TradeHistory> tradeHistories) {
+		if (tradeHistories.isEmpty()) {
+			return;
+		}
+		tradeHistoryJdbcRepository.batchInsert(tradeHistories);
+	}
+
 	@Override
 	public List<String> findDistinctCompanyCodes() {
 		return tradeHistoryJpaRepository.findDistinctCompanyCodes();
@@ -31,6 +40,11 @@ public class TradeHistoryRepositoryImpl implements TradeHistoryRepository {
 		return tradeHistoryJpaRepository.findRecentTradesByCompanyCode(companyCode, PageRequest.of(0, limit));
 	}
 
+	@Override
+	public List<TradeHistory> findRecentTradesOfAllCompanies(final int limitPerCompany) {
+		return tradeHistoryJdbcRepository.findRecentTradesOfAllCompanies(limitPerCompany);
+	}
+
 	/**
 	 * 회사별 총 거래액 조회
 	 */
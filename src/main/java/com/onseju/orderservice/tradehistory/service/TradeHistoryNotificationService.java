@@ -3,8 +3,7 @@ package com.onseju.orderservice.tradehistory.service;
 import com.onseju.orderservice.events.MatchedEvent;
 import com.onseju.orderservice.grpc.MemberReaderServiceGrpc;
 import com.onseju.orderservice.order.client.MemberReaderClient;
-import com.onseju.orderservice.order.domain.Order;
-import com.onseju.orderservice.order.repository.OrderRepositoryImpl;
+import com.onseju.orderservice.order.cache.ActiveOrder;
 import com.onseju.orderservice.tradehistory.dto.MatchingNotificationDto;
 import com.onseju.orderservice.tradehistory.dto.ReadMemberDto;
 import com.onseju.orderservice.tradehistory.repository.SseEmitterRepository;
@@ -25,7 +24,6 @@ public class TradeHistoryNotificationService extends MemberReaderServiceGrpc.Mem
     private static final Long NOTIFICATION_TIME_OUT = 60L * 60 * 60 * 60;
 
     private final SseEmitterRepository orderNotificationRepository;
-    private final OrderRepositoryImpl orderRepository;
     private final MemberReaderClient memberReaderClient;
 
     public SseEmitter subscribe(Long memberId) {
@@ -33,41 +31,42 @@ public class TradeHistoryNotificationService extends MemberReaderServiceGrpc.Mem
         return orderNotificationRepository.save(memberId, emitter);
     }
 
+    /**
+     * 체결 알림 발송
+     * 주문 정보는 호출 측에서 미체결 주문 캐시를 통해 조회해 전달한다.
+     */
     @Async
-    public void sendNotification(final MatchedEvent event) {
+    public void sendNotification(final MatchedEvent event, final ActiveOrder buyOrder, final ActiveOrder sellOrder) {
         log.info("Sending matched event {}", event);
         try {
-            log.info("Sending matched event {}", event);
-            sendNotificationToSellOrder(event);
-            sendNotificationToBuyOrder(event);
+            sendNotificationToSellOrder(event, sellOrder);
+            sendNotificationToBuyOrder(event, buyOrder);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private void sendNotificationToSellOrder(final MatchedEvent event) throws IOException {
-        Order sellOrder = orderRepository.getById(event.sellOrderId());
-        Long memberId = getAccountId(sellOrder.getAccountId());
+    private void sendNotificationToSellOrder(final MatchedEvent event, final ActiveOrder sellOrder) throws IOException {
+        Long memberId = getAccountId(sellOrder.accountId());
         Optional<SseEmitter> sellOrderEmitter = orderNotificationRepository.findByMemberId(memberId);
 
         if (sellOrderEmitter.isPresent()) {
             sellOrderEmitter.get().send(toMatchingNotificationDto(sellOrder, event));
         } else {
             System.err.println("SellOrderEmitter is null for memberId: "
-                    + sellOrder.getAccountId());
+                    + sellOrder.accountId());
         }
     }
 
-    private void sendNotificationToBuyOrder(final MatchedEvent event) throws IOException {
-        Order buyOrder = orderRepository.getById(event.buyOrderId());
-        Long memberId = getAccountId(buyOrder.getAccountId());
+    private void sendNotificationToBuyOrder(final MatchedEvent event, final ActiveOrder buyOrder) throws IOException {
+        Long memberId = getAccountId(buyOrder.accountId());
         Optional<SseEmitter> buyOrderEmitter = orderNotificationRepository.findByMemberId(memberId);
 
         if (buyOrderEmitter.isPresent()) {
             buyOrderEmitter.get().send(toMatchingNotificationDto(buyOrder, event));
         } else {
             System.err.println("BuyOrderEmitter is null for memberId: "
-                    + buyOrder.getAccountId());
+                    + buyOrder.accountId());
         }
     }
 
@@ -75,11 +74,11 @@ public class TradeHistoryNotificationService extends MemberReaderServiceGrpc.Mem
         return memberReaderClient.readMember(new ReadMemberDto(accountId)).memberId();
     }
 
-    private MatchingNotificationDto toMatchingNotificationDto(final Order order, final MatchedEvent event) {
+    private MatchingNotificationDto toMatchingNotificationDto(final ActiveOrder order, final MatchedEvent event) {
         return MatchingNotificationDto.builder()
-                .orderId(order.getId())
-                .companyCode(order.getCompanyCode())
-                .type(order.getType())
+                .orderId(order.id())
+                .companyCode(order.companyCode())
+                .type(order.type())
                 .price(event.price())
                 .quantity(event.quantity())
                 .createdAt(event.tradeAt())
@@ -35,6 +35,14 @@ public class TradeHistoryService {
 		log.info("거래 내역 저장");
 	}
 
+	/**
+	 * 거래 내역 일괄 저장 (JDBC 배치 insert)
+	 */
+	public void saveTradeHistories(final List<TradeHistory> tradeHistories) {
+		tradeHistoryRepository.saveAll(tradeHistories);
+		log.debug("거래 내역 일괄 저장: {}", tradeHistories.size());
+	}
+
 	public Collection<TradeHistoryResponse> getAllTradeHistory(Long memberId) {
 		List<Order> orders = orderRepository.findByMemberId(memberId);
 		return orders.stream()
@@ -0,0 +1,70 @@
+package com.onseju.orderservice.tradehistory.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.onseju.orderservice.events.MatchedEvent;
+import com.onseju.orderservice.events.dedup.EventDeduplicator;
+import com.onseju.orderservice.order.domain.Quantity;
+import com.onseju.orderservice.order.dto.AfterTradeOrderDto;
+import com.onseju.orderservice.order.service.OrderService;
+import com.onseju.orderservice.tradehistory.domain.TradeHistory;
+import com.onseju.orderservice.tradehistory.dto.SettlementResult;
+import com.onseju.orderservice.tradehistory.mapper.TradeHistoryMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 체결 결과 일괄 반영 서비스
+ * 여러 체결 이벤트를 하나의 트랜잭션에서 거래 내역 배치 insert와 주문별 수량 차감(주문당 UPDATE 1회)으로 반영하고,
+ * 사용자 업데이트 이벤트를 같은 트랜잭션에서 아웃박스에 적재한다.
+ * 이미 반영된 이벤트(processed_event)는 같은 트랜잭션 안에서 제외한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TradeSettlementService {
+
+	private final TradeHistoryService tradeHistoryService;
+	private final TradeHistoryMapper tradeHistoryMapper;
+	private final OrderService orderService;
+	private final EventDeduplicator eventDeduplicator;
+
+	@Transactional
+	public SettlementResult settle(final List<MatchedEvent> events) {
+		final List<MatchedEvent> claimed = eventDeduplicator.claim(EventDeduplicator.MATCHED, events, MatchedEvent::id);
+		if (claimed.isEmpty()) {
+			return new SettlementResult(List.of(), List.of());
+		}
+
+		final List<TradeHistory> tradeHistories = claimed.stream()
+				.map(tradeHistoryMapper::toEntity)
+				.toList();
+		tradeHistoryService.saveTradeHistories(tradeHistories);
+
+		orderService.updateRemainingQuantities(foldFills(claimed));
+		orderService.publishUserUpdateEvents(claimed);
+		return new SettlementResult(claimed, tradeHistories);
+	}
+
+	/**
+	 * 주문별 체결 수량 합산
+	 * 여러 배치가 동시에 처리될 때 행 잠금 순서가 같도록 주문 ID 순으로 정렬한다.
+	 */
+	static List<AfterTradeOrderDto> foldFills(final List<MatchedEvent> events) {
+		final Map<Long, Long> fills = new TreeMap<>();
+		for (MatchedEvent event : events) {
+			final long quantity = event.quantity().value();
+			fills.merge(event.buyOrderId(), quantity, Long::sum);
+			fills.merge(event.sellOrderId(), quantity, Long::sum);
+		}
+
+		final List<AfterTradeOrderDto> dtos = new ArrayList<>(fills.size());
+		fills.forEach((orderId, quantity) -> dtos.add(new AfterTradeOrderDto(orderId, Quantity.of(quantity))));
+		return dtos;
+	}
+}
@@ -11,10 +11,17 @@ public interface TradeHistoryRepository  {
 
 	TradeHistory save(final TradeHistory tradeHistory);
 
+	void saveAll(final List<TradeHistory> tradeHistories);
+
 	List<String> findDistinctCompanyCodes();
 
 	List<TradeHistory> findRecentTradesByCompanyCode(final String companyCode, final Integer limit);
 
+	/**
+	 * 종목별 최근 limit건 체결 내역을 한 번에 조회 (종목, 체결 시간 오름차순)
+	 */
+	List<TradeHistory> findRecentTradesOfAllCompanies(final int limitPerCompany);
+
 	List<Object[]> findTotalTradeAmountByCompany(Pageable pageable);
 
 	List<Object[]> findTradeAvgPriceByCompany(Pageable pageable);
@@ -0,0 +1,181 @@
+package com.onseju.orderservice.chart;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.onseju.orderservice.chart.domain.ClosedCandle;
+import com.onseju.orderservice.chart.domain.TimeFrame;
+import com.onseju.orderservice.chart.dto.CandleDto;
+import com.onseju.orderservice.chart.service.CandlePersistenceService;
+import com.onseju.orderservice.fake.FakeCandleHistoryRepository;
+import com.onseju.orderservice.fake.FakeCandleRepository;
+
+class CandlePersistenceServiceTest {
+
+	private static final String COMPANY_CODE = "005930";
+
+	FakeCandleRepository candleRepository;
+	FakeCandleHistoryRepository candleHistoryRepository;
+	CandlePersistenceService candlePersistenceService;
+
+	@BeforeEach
+	void setUp() {
+		candleRepository = new FakeCandleRepository();
+		candleHistoryRepository = new FakeCandleHistoryRepository();
+		candlePersistenceService = new CandlePersistenceService(candleRepository, candleHistoryRepository, 2);
+	}
+
+	@Test
+	@DisplayName("큐에 쌓인 캔들을 배치 단위로 모두 저장하고, 같은 캔들은 마지막 값으로 덮어쓴다.")
+	void flush() {
+		// given
+		candlePersistenceService.enqueue(List.of(candle(0L, 10_000L, 1L), candle(15L, 10_000L, 1L)));
+		candlePersistenceService.enqueue(List.of(candle(0L, 10_000L, 5L)));
+
+		// when
+		candlePersistenceService.flush();
+
+		// then
+		assertThat(candleRepository.findAll()).containsExactly(candle(0L, 10_000L, 5L), candle(15L, 10_000L, 1L));
+	}
+
+	@Test
+	@DisplayName("저장에 실패한 배치는 다음 저장 때 이후 캔들보다 먼저 다시 저장한다.")
+	void retryFailedBatchFirst() {
+		// given
+		FailingOnceCandleRepository failingRepository = new FailingOnceCandleRepository();
+		candlePersistenceService = new CandlePersistenceService(failingRepository, candleHistoryRepository, 2);
+		candlePersistenceService.enqueue(List.of(candle(0L, 10_000L, 1L)));
+		candlePersistenceService.flush();
+
+		// when
+		candlePersistenceService.enqueue(List.of(candle(0L, 10_000L, 7L)));
+		candlePersistenceService.flush();
+
+		// then
+		assertThat(failingRepository.findAll()).containsExactly(candle(0L, 10_000L, 7L));
+	}
+
+	@Test
+	@DisplayName("기준 시간 이전 캔들을 조회하고 저장되지 않은 빈 구간은 직전 종가로 채운다.")
+	void findCandlesBefore() {
+		// given
+		candlePersistenceService.enqueue(List.of(candle(0L, 10_000L, 1L), candle(45L, 11_000L, 2L),
+			candle(60L, 12_000L, 1L)));
+		candlePersistenceService.flush();
+
+		// when
+		List<CandleDto> candles = candlePersistenceService.findCandles(
+			COMPANY_CODE, TimeFrame.SECONDS_15, null, 60L, 10);
+
+		// then
+		assertThat(candles).extracting(CandleDto::time).containsExactly(0L, 15L, 30L, 45L);
+		assertThat(candles.get(1).close()).isEqualTo(100.0);
+		assertThat(candles.get(1).volume()).isZero();
+		assertThat(candles.get(3).close()).isEqualTo(110.0);
+	}
+
+	@Test
+	@DisplayName("시작 시간만 주면 시작 시간부터 빈 구간을 포함해 limit개까지 조회한다.")
+	void findCandlesFrom() {
+		// given
+		candleHistoryRepository.appendAll(List.of(candle(0L, 10_000L, 1L), candle(15L, 10_500L, 1L),
+			candle(60L, 11_000L, 2L), candle(90L, 12_000L, 1L)));
+
+		// when
+		List<CandleDto> candles = candlePersistenceService.findCandles(
+			COMPANY_CODE, TimeFrame.SECONDS_15, 15L, null, 3);
+
+		// then
+		assertThat(candles).extracting(CandleDto::time).containsExactly(15L, 30L, 45L);
+		assertThat(candles).extracting(CandleDto::close).containsExactly(105.0, 105.0, 105.0);
+	}
+
+	@Test
+	@DisplayName("기간 조회는 시작 시간 이상, 끝 시간 미만의 최근 캔들을 limit개까지 조회한다.")
+	void findCandlesBetween() {
+		// given
+		candleHistoryRepository.appendAll(List.of(candle(0L, 10_000L, 1L), candle(15L, 10_500L, 1L),
+			candle(30L, 11_000L, 2L), candle(45L, 12_000L, 1L), candle(60L, 13_000L, 1L)));
+
+		// when
+		List<CandleDto> candles = candlePersistenceService.findCandles(
+			COMPANY_CODE, TimeFrame.SECONDS_15, 15L, 60L, 2);
+
+		// then
+		assertThat(candles).extracting(CandleDto::time).containsExactly(30L, 45L);
+	}
+
+	@Test
+	@DisplayName("캔들 기록 파일에 없는 구간은 DB 캔들로 채워 조회한다.")
+	void findCandlesFallbackToDatabase() {
+		// given: 다른 서버에서 저장했거나 기록 파일이 생기기 전의 캔들
+		candleRepository.upsertAll(List.of(candle(0L, 10_000L, 1L), candle(15L, 10_500L, 1L)));
+		candleHistoryRepository.appendAll(List.of(candle(30L, 11_000L, 2L)));
+
+		// when
+		List<CandleDto> candles = candlePersistenceService.findCandles(
+			COMPANY_CODE, TimeFrame.SECONDS_15, null, 60L, 10);
+
+		// then
+		assertThat(candles).extracting(CandleDto::time).containsExactly(0L, 15L, 30L);
+		assertThat(candles).extracting(CandleDto::close).containsExactly(100.0, 105.0, 110.0);
+	}
+
+	@Test
+	@DisplayName("캔들 기록 파일 저장에 실패한 캔들은 다음 저장 때 다시 저장한다.")
+	void retryFailedHistory() {
+		// given
+		FailingOnceCandleHistoryRepository failingRepository = new FailingOnceCandleHistoryRepository();
+		candlePersistenceService = new CandlePersistenceService(candleRepository, failingRepository, 2);
+		candlePersistenceService.enqueue(List.of(candle(0L, 10_000L, 1L)));
+		candlePersistenceService.flush();
+
+		// when
+		candlePersistenceService.enqueue(List.of(candle(15L, 10_500L, 1L)));
+		candlePersistenceService.flush();
+
+		// then
+		assertThat(failingRepository.findFirst(COMPANY_CODE, TimeFrame.SECONDS_15, Long.MIN_VALUE, Long.MAX_VALUE, 10))
+			.containsExactly(candle(0L, 10_000L, 1L), candle(15L, 10_500L, 1L));
+		assertThat(candleRepository.findAll()).containsExactly(candle(0L, 10_000L, 1L), candle(15L, 10_500L, 1L));
+	}
+
+	private ClosedCandle candle(long time, long price, long volume) {
+		return new ClosedCandle(COMPANY_CODE, TimeFrame.SECONDS_15, time, price, price, price, price, volume);
+	}
+
+	private static class FailingOnceCandleRepository extends FakeCandleRepository {
+
+		private boolean failed;
+
+		@Override
+		public void upsertAll(Collection<ClosedCandle> candles) {
+			if (!failed) {
+				failed = true;
+				throw new IllegalStateException("DB 연결 실패");
+			}
+			super.upsertAll(candles);
+		}
+	}
+
+	private static class FailingOnceCandleHistoryRepository extends FakeCandleHistoryRepository {
+
+		private boolean failed;
+
+		@Override
+		public void appendAll(Collection<ClosedCandle> candles) {
+			if (!failed) {
+				failed = true;
+				throw new IllegalStateException("캔들 기록 파일 쓰기 실패");
+			}
+			super.appendAll(candles);
+		}
+	}
+}
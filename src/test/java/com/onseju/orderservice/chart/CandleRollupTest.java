@@ -0,0 +1,178 @@
+package com.onseju.orderservice.chart;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.onseju.orderservice.chart.domain.CandleRollup;
+import com.onseju.orderservice.chart.domain.ClosedCandle;
+import com.onseju.orderservice.chart.domain.TimeFrame;
+import com.onseju.orderservice.chart.dto.CandleDto;
+import com.onseju.orderservice.chart.dto.IndicatorDto;
+import com.onseju.orderservice.fake.FakeCandleRepository;
+
+class CandleRollupTest {
+
+	CandleRollup rollup;
+
+	@BeforeEach
+	void setUp() {
+		rollup = new CandleRollup("005930", 100);
+	}
+
+	@Test
+	@DisplayName("마감되지 않은 15초 캔들도 상위 타임프레임 캔들 조회에 반영된다.")
+	void liveCandleIncludesOpenChild() {
+		// given
+		rollup.applyTrade(0L, 10_000L, 1L);
+		rollup.applyTrade(20L, 12_000L, 2L);
+
+		// when
+		rollup.applyTrade(50L, 9_000L, 3L);
+
+		// then
+		List<CandleDto> candles = rollup.toCandles(TimeFrame.MINUTE_1);
+		assertThat(candles).hasSize(1);
+		CandleDto candle = candles.get(0);
+		assertThat(candle.time()).isEqualTo(0L);
+		assertThat(candle.open()).isEqualTo(100.0);
+		assertThat(candle.high()).isEqualTo(120.0);
+		assertThat(candle.low()).isEqualTo(90.0);
+		assertThat(candle.close()).isEqualTo(90.0);
+		assertThat(candle.volume()).isEqualTo(6);
+		assertThat(rollup.liveVolume(TimeFrame.MINUTE_1)).isEqualTo(6L);
+		assertThat(rollup.liveVolume(TimeFrame.SECONDS_15)).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("하위 캔들이 마감되면 상위 타임프레임에 새 캔들이 추가되고 빈 구간은 직전 종가로 채워진다.")
+	void rollUpAcrossPeriods() {
+		// given
+		rollup.applyTrade(0L, 10_000L, 1L);
+		rollup.applyTrade(30L, 11_000L, 1L);
+
+		// when
+		rollup.applyTrade(185L, 13_000L, 4L);
+
+		// then
+		List<CandleDto> minutes = rollup.toCandles(TimeFrame.MINUTE_1);
+		assertThat(minutes).extracting(CandleDto::time).containsExactly(0L, 60L, 120L, 180L);
+		assertThat(minutes.get(0).close()).isEqualTo(110.0);
+		assertThat(minutes.get(0).volume()).isEqualTo(2);
+		assertThat(minutes.get(1).open()).isEqualTo(110.0);
+		assertThat(minutes.get(1).volume()).isZero();
+		assertThat(minutes.get(3).open()).isEqualTo(130.0);
+		assertThat(minutes.get(3).volume()).isEqualTo(4);
+
+		List<CandleDto> fiveMinutes = rollup.toCandles(TimeFrame.MINUTE_5);
+		assertThat(fiveMinutes).hasSize(1);
+		assertThat(fiveMinutes.get(0).open()).isEqualTo(100.0);
+		assertThat(fiveMinutes.get(0).high()).isEqualTo(130.0);
+		assertThat(fiveMinutes.get(0).close()).isEqualTo(130.0);
+		assertThat(fiveMinutes.get(0).volume()).isEqualTo(6);
+	}
+
+	@Test
+	@DisplayName("현재 시간까지 진행하면 모든 타임프레임이 직전 종가 캔들로 이어진다.")
+	void advanceTo() {
+		// given
+		rollup.applyTrade(0L, 10_000L, 5L);
+
+		// when
+		rollup.advanceTo(7_200L);
+
+		// then
+		List<CandleDto> hours = rollup.toCandles(TimeFrame.HOUR_1);
+		assertThat(hours).extracting(CandleDto::time).containsExactly(0L, 3_600L, 7_200L);
+		assertThat(hours.get(0).volume()).isEqualTo(5);
+		assertThat(hours.get(2).close()).isEqualTo(100.0);
+		assertThat(hours.get(2).volume()).isZero();
+		assertThat(rollup.toCandles(TimeFrame.SECONDS_15).get(99).time()).isEqualTo(7_200L);
+	}
+
+	@Test
+	@DisplayName("마지막 캔들보다 이전 시간의 체결은 무시한다.")
+	void ignoreLateTrade() {
+		// given
+		rollup.applyTrade(60L, 10_000L, 1L);
+
+		// when
+		rollup.applyTrade(10L, 50_000L, 1L);
+
+		// then
+		assertThat(rollup.toCandles(TimeFrame.MINUTE_1).get(0).high()).isEqualTo(100.0);
+		assertThat(rollup.lastClose()).isEqualTo(10_000L);
+	}
+
+	@Test
+	@DisplayName("15초 캔들이 마감되면 마감된 캔들과 상위 타임프레임의 현재 캔들을 저장 대상으로 모은다.")
+	void drainClosedCandles() {
+		// given
+		rollup.applyTrade(0L, 10_000L, 1L);
+		assertThat(rollup.drainClosedCandles()).isEmpty();
+
+		// when
+		rollup.applyTrade(20L, 12_000L, 2L);
+
+		// then
+		List<ClosedCandle> closed = rollup.drainClosedCandles();
+		assertThat(closed).extracting(ClosedCandle::timeFrame).containsExactly(TimeFrame.values());
+		assertThat(closed).allSatisfy(candle -> {
+			assertThat(candle.companyCode()).isEqualTo("005930");
+			assertThat(candle.time()).isZero();
+			assertThat(candle.close()).isEqualTo(10_000L);
+			assertThat(candle.volume()).isEqualTo(1L);
+		});
+		assertThat(rollup.drainClosedCandles()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("저장된 캔들로 복원한 뒤 전체 거래를 다시 반영해도 이미 저장된 구간은 중복 집계되지 않는다.")
+	void restoreThenReplay() {
+		// given
+		long[][] trades = {{0L, 10_000L, 1L}, {20L, 12_000L, 2L}, {70L, 9_000L, 3L}, {80L, 9_500L, 1L}};
+		for (long[] trade : trades) {
+			rollup.applyTrade(trade[0], trade[1], trade[2]);
+		}
+		FakeCandleRepository candleRepository = new FakeCandleRepository();
+		candleRepository.upsertAll(rollup.drainClosedCandles());
+
+		// when
+		CandleRollup restored = new CandleRollup("005930", 100);
+		candleRepository.forEachRecent(100, candle -> restored.restore(candle.timeFrame(), candle.time(),
+			candle.open(), candle.high(), candle.low(), candle.close(), candle.volume()));
+		for (long[] trade : trades) {
+			restored.applyTrade(trade[0], trade[1], trade[2]);
+		}
+
+		// then
+		for (TimeFrame timeFrame : TimeFrame.values()) {
+			assertThat(restored.toCandles(timeFrame)).isEqualTo(rollup.toCandles(timeFrame));
+			assertThat(restored.liveVolume(timeFrame)).isEqualTo(rollup.liveVolume(timeFrame));
+		}
+	}
+
+	@Test
+	@DisplayName("상위 타임프레임 보조지표는 직전 캔들 마감 여부와 관계없이 현재 캔들까지 반영한다.")
+	void indicatorsIncludeLiveCandle() {
+		// given
+		rollup.applyTrade(0L, 10_000L, 1L);
+		double expectedEma = 100.0 + 2.0 / 21 * (110.0 - 100.0);
+
+		// when
+		rollup.applyTrade(60L, 11_000L, 1L);
+		IndicatorDto newPeriod = rollup.indicators(TimeFrame.MINUTE_1);
+		rollup.applyTrade(75L, 11_000L, 1L);
+		IndicatorDto rolledUp = rollup.indicators(TimeFrame.MINUTE_1);
+
+		// then
+		assertThat(newPeriod.time()).isEqualTo(60L);
+		assertThat(newPeriod.ema()).isCloseTo(expectedEma, within(1e-9));
+		assertThat(rolledUp.ema()).isCloseTo(expectedEma, within(1e-9));
+		assertThat(rolledUp.vwap()).isCloseTo((100.0 + 110.0 * 2) / 3, within(1e-9));
+	}
+}
@@ -0,0 +1,83 @@
+package com.onseju.orderservice.chart;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.onseju.orderservice.chart.domain.CandleSeries;
+import com.onseju.orderservice.chart.dto.CandleDto;
+
+class CandleSeriesTest {
+
+	@Test
+	@DisplayName("같은 캔들에 체결을 반영하면 고가, 저가, 종가, 거래량이 갱신된다.")
+	void updateLast() {
+		// given
+		CandleSeries series = new CandleSeries(3);
+		series.append(15L, 10_000L, 10_000L, 10_000L, 10_000L, 5L);
+
+		// when
+		series.updateLast(10_500L, 3L);
+		series.updateLast(9_800L, 2L);
+
+		// then
+		CandleDto candle = series.toCandles().get(0);
+		assertThat(candle.open()).isEqualTo(100.0);
+		assertThat(candle.high()).isEqualTo(105.0);
+		assertThat(candle.low()).isEqualTo(98.0);
+		assertThat(candle.close()).isEqualTo(98.0);
+		assertThat(candle.volume()).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("용량을 넘으면 가장 오래된 캔들이 밀려나고, 조회는 오래된 순서로 반환된다.")
+	void overwriteOldest() {
+		// given
+		CandleSeries series = new CandleSeries(3);
+
+		// when
+		for (long time = 1; time <= 5; time++) {
+			series.append(time, time, time, time, time, 0L);
+		}
+
+		// then
+		assertThat(series.size()).isEqualTo(3);
+		assertThat(series.lastTime()).isEqualTo(5L);
+		assertThat(series.toCandles()).extracting(CandleDto::time).containsExactly(3L, 4L, 5L);
+	}
+
+	@Test
+	@DisplayName("빈 구간은 직전 종가로 endTime 직전까지 채워진다.")
+	void fillUntil() {
+		// given
+		CandleSeries series = new CandleSeries(10);
+		series.append(0L, 100L, 200L, 50L, 150L, 7L);
+
+		// when
+		series.fillUntil(60L, 15L);
+
+		// then
+		List<CandleDto> candles = series.toCandles();
+		assertThat(candles).extracting(CandleDto::time).containsExactly(0L, 15L, 30L, 45L);
+		assertThat(candles.get(3).open()).isEqualTo(1.5);
+		assertThat(candles.get(3).high()).isEqualTo(1.5);
+		assertThat(candles.get(3).volume()).isZero();
+	}
+
+	@Test
+	@DisplayName("용량보다 긴 빈 구간은 최근 용량만큼만 채운다.")
+	void fillUntilCappedToCapacity() {
+		// given
+		CandleSeries series = new CandleSeries(3);
+		series.append(0L, 100L, 100L, 100L, 100L, 1L);
+
+		// when
+		series.fillUntil(1_000L, 1L);
+
+		// then
+		assertThat(series.toCandles()).extracting(CandleDto::time).containsExactly(997L, 998L, 999L);
+	}
+}
@@ -0,0 +1,96 @@
+package com.onseju.orderservice.chart;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onseju.orderservice.chart.domain.CandleRollup;
+import com.onseju.orderservice.chart.domain.ChartSnapshot;
+import com.onseju.orderservice.chart.dto.ChartResponseDto;
+import com.onseju.orderservice.chart.dto.EncodedChartHistory;
+import com.onseju.orderservice.chart.service.ChartHistoryCache;
+import com.onseju.orderservice.chart.service.ChartService;
+
+class ChartHistoryCacheTest {
+
+	private static final String COMPANY_CODE = "005930";
+
+	ChartService chartService;
+	ObjectMapper objectMapper;
+	ChartHistoryCache chartHistoryCache;
+	CandleRollup rollup;
+
+	@BeforeEach
+	void setUp() {
+		chartService = mock(ChartService.class);
+		objectMapper = new ObjectMapper();
+		chartHistoryCache = new ChartHistoryCache(chartService, objectMapper);
+		rollup = new CandleRollup(COMPANY_CODE, 100);
+		rollup.applyTrade(0L, 10_000L, 1L);
+	}
+
+	@Test
+	@DisplayName("스냅샷 버전이 같으면 직렬화한 바이트를 그대로 재사용한다.")
+	void reuseEncodedBytesForSameVersion() throws Exception {
+		// given
+		when(chartService.currentSnapshot(COMPANY_CODE)).thenReturn(ChartSnapshot.of(1L, rollup));
+
+		// when
+		EncodedChartHistory first = chartHistoryCache.get(COMPANY_CODE, "1m").orElseThrow();
+		EncodedChartHistory second = chartHistoryCache.get(COMPANY_CODE, "1m").orElseThrow();
+
+		// then
+		assertThat(second.body()).isSameAs(first.body());
+		assertThat(second.eTag()).isEqualTo(first.eTag());
+		ChartResponseDto decoded = objectMapper.readValue(first.body(), ChartResponseDto.class);
+		assertThat(decoded.timeCode()).isEqualTo("1m");
+		assertThat(decoded.candles()).hasSize(1);
+		assertThat(decoded.candles().get(0).close()).isEqualTo(100.0);
+	}
+
+	@Test
+	@DisplayName("스냅샷 버전이 바뀌면 다시 직렬화하고 ETag도 바뀐다.")
+	void reEncodeWhenVersionChanges() {
+		// given
+		when(chartService.currentSnapshot(COMPANY_CODE)).thenReturn(ChartSnapshot.of(1L, rollup));
+		EncodedChartHistory before = chartHistoryCache.get(COMPANY_CODE, "15m").orElseThrow();
+
+		// when
+		rollup.applyTrade(5L, 11_000L, 1L);
+		when(chartService.currentSnapshot(COMPANY_CODE)).thenReturn(ChartSnapshot.of(2L, rollup));
+		EncodedChartHistory after = chartHistoryCache.get(COMPANY_CODE, "15m").orElseThrow();
+
+		// then
+		assertThat(after.body()).isNotSameAs(before.body());
+		assertThat(after.eTag()).isNotEqualTo(before.eTag());
+		assertThat(after.version()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("캔들이 없으면 빈 값을 돌려준다.")
+	void emptyWhenNoCandles() {
+		// given
+		when(chartService.currentSnapshot(COMPANY_CODE)).thenReturn(null);
+
+		// when & then
+		assertThat(chartHistoryCache.get(COMPANY_CODE, "15m")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("If-None-Match는 여러 값, 약한 ETag, *를 허용한다.")
+	void matchIfNoneMatch() {
+		// given
+		EncodedChartHistory encoded = new EncodedChartHistory(3L, "\"abc-3\"", new byte[0]);
+
+		// when & then
+		assertThat(encoded.matches("\"abc-3\"")).isTrue();
+		assertThat(encoded.matches("\"abc-2\", W/\"abc-3\"")).isTrue();
+		assertThat(encoded.matches("*")).isTrue();
+		assertThat(encoded.matches("\"abc-2\"")).isFalse();
+		assertThat(encoded.matches(null)).isFalse();
+	}
+}
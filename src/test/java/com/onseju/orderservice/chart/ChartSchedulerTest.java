@@ -0,0 +1,127 @@
+package com.onseju.orderservice.chart;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.onseju.orderservice.chart.controller.ChartScheduler;
+import com.onseju.orderservice.chart.domain.TimeFrame;
+import com.onseju.orderservice.chart.dto.CandleDeltaDto;
+import com.onseju.orderservice.chart.dto.CandleDto;
+import com.onseju.orderservice.chart.service.ChartService;
+import com.onseju.orderservice.chart.service.ChartSubscriptionRegistry;
+import com.onseju.orderservice.events.listener.ApplicationReadyEventListener;
+
+class ChartSchedulerTest {
+
+	private static final String COMPANY_CODE = "005930";
+	private static final String DESTINATION = "/topic/candle/005930/1m";
+
+	ChartService chartService;
+	SimpMessagingTemplate messagingTemplate;
+	ChartScheduler chartScheduler;
+
+	@BeforeEach
+	void setUp() {
+		chartService = mock(ChartService.class);
+		when(chartService.updateCandles(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+		messagingTemplate = mock(SimpMessagingTemplate.class);
+		ApplicationReadyEventListener readyListener = mock(ApplicationReadyEventListener.class);
+		when(readyListener.isInitialized()).thenReturn(true);
+		ChartSubscriptionRegistry registry = new ChartSubscriptionRegistry();
+		registry.subscribe("session-1", "sub-1", DESTINATION);
+		chartScheduler = new ChartScheduler(chartService, messagingTemplate, readyListener, registry);
+	}
+
+	@Test
+	@DisplayName("직전에 보낸 마지막 캔들부터 바뀐 캔들만 순번과 함께 전송한다.")
+	void sendOnlyChangedCandles() {
+		// given
+		CandleDto first = candle(0L, 100.0, 1);
+		CandleDto updated = candle(60L, 101.0, 3);
+		CandleDto next = candle(120L, 102.0, 1);
+		when(chartService.getCandlesSince(COMPANY_CODE, TimeFrame.MINUTE_1, Long.MIN_VALUE))
+				.thenReturn(List.of(first, candle(60L, 100.0, 1)));
+		when(chartService.getCandlesSince(COMPANY_CODE, TimeFrame.MINUTE_1, 60L))
+				.thenReturn(List.of(updated, next));
+
+		// when
+		chartScheduler.sendCandleUpdates1Min();
+		chartScheduler.sendCandleUpdates1Min();
+
+		// then
+		ArgumentCaptor<CandleDeltaDto> captor = ArgumentCaptor.forClass(CandleDeltaDto.class);
+		verify(messagingTemplate, times(2)).convertAndSend(eq(DESTINATION), captor.capture());
+		CandleDeltaDto delta = captor.getAllValues().get(1);
+		assertThat(delta.sequence()).isEqualTo(2L);
+		assertThat(delta.timeCode()).isEqualTo("1m");
+		assertThat(delta.candles()).containsExactly(updated, next);
+	}
+
+	@Test
+	@DisplayName("마지막 캔들이 바뀌지 않았으면 전송하지 않는다.")
+	void skipUnchangedCandle() {
+		// given
+		CandleDto current = candle(60L, 100.0, 1);
+		when(chartService.getCandlesSince(eq(COMPANY_CODE), eq(TimeFrame.MINUTE_1), anyLong()))
+				.thenReturn(List.of(current));
+
+		// when
+		chartScheduler.sendCandleUpdates1Min();
+		chartScheduler.sendCandleUpdates1Min();
+
+		// then
+		verify(messagingTemplate, times(1)).convertAndSend(eq(DESTINATION), any(CandleDeltaDto.class));
+	}
+
+	@Test
+	@DisplayName("캔들 진행은 15초 작업에서만 한다.")
+	void advanceCandlesOnlyInFinestJob() {
+		// given
+		when(chartService.getCandlesSince(anyString(), any(), anyLong())).thenReturn(List.of());
+
+		// when
+		chartScheduler.sendCandleUpdates1Min();
+		chartScheduler.sendCandleUpdates1Hour();
+		chartScheduler.sendCandleUpdates15Sec();
+
+		// then
+		verify(chartService, times(1)).updateCandles(COMPANY_CODE);
+	}
+
+	@Test
+	@DisplayName("구독 중이 아닌 종목은 캔들을 진행하거나 전송하지 않는다.")
+	void skipUnwatchedCompanies() {
+		// given
+		ApplicationReadyEventListener readyListener = mock(ApplicationReadyEventListener.class);
+		when(readyListener.isInitialized()).thenReturn(true);
+		chartScheduler = new ChartScheduler(chartService, messagingTemplate, readyListener,
+				new ChartSubscriptionRegistry());
+
+		// when
+		chartScheduler.sendCandleUpdates15Sec();
+
+		// then
+		verifyNoInteractions(chartService, messagingTemplate);
+	}
+
+	private CandleDto candle(Long time, Double close, Integer volume) {
+		return CandleDto.builder()
+				.time(time)
+				.open(100.0)
+				.high(Math.max(100.0, close))
+				.low(100.0)
+				.close(close)
+				.volume(volume)
+				.build();
+	}
+}
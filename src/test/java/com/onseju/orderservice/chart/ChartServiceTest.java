@@ -6,11 +6,12 @@ import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.Arrays;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,13 +21,27 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
+import com.onseju.orderservice.chart.domain.ChartSnapshot;
+import com.onseju.orderservice.chart.domain.TimeFrame;
+import com.onseju.orderservice.chart.domain.TradeTick;
+import com.onseju.orderservice.chart.dto.CandleDto;
 import com.onseju.orderservice.chart.dto.ChartResponseDto;
 import com.onseju.orderservice.chart.dto.ChartUpdateDto;
+import com.onseju.orderservice.chart.dto.IndicatorResponseDto;
+import com.onseju.orderservice.chart.dto.RecentTradeDto;
+import com.onseju.orderservice.chart.dto.RecentTradeResponseDto;
+import com.onseju.orderservice.chart.service.CandlePersistenceService;
 import com.onseju.orderservice.chart.service.ChartService;
+import com.onseju.orderservice.chart.service.ChartSubscriptionRegistry;
+import com.onseju.orderservice.chart.service.ChartWriterPool;
 import com.onseju.orderservice.company.service.ClosingPriceService;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 import com.onseju.orderservice.tradehistory.domain.TradeHistory;
 import com.onseju.orderservice.tradehistory.service.repository.TradeHistoryRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 public class ChartServiceTest {
 
 	@Mock
@@ -38,6 +53,13 @@ public class ChartServiceTest {
 	@Mock
 	private ClosingPriceService closingPriceService;
 
+	@Mock
+	private CandlePersistenceService candlePersistenceService;
+
+	private ChartSubscriptionRegistry chartSubscriptionRegistry;
+
+	private ChartWriterPool chartWriterPool;
+
 	private ChartService chartService;
 
 	@Captor
@@ -51,32 +73,52 @@ public class ChartServiceTest {
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
-		chartService = new ChartService(messagingTemplate, tradeHistoryRepository, closingPriceService);
+		chartSubscriptionRegistry = new ChartSubscriptionRegistry();
+		chartWriterPool = spy(new ChartWriterPool(2));
+		chartService = new ChartService(messagingTemplate, tradeHistoryRepository, closingPriceService,
+				chartSubscriptionRegistry, candlePersistenceService, new SimpleMeterRegistry(), chartWriterPool);
+	}
+
+	@AfterEach
+	void tearDown() {
+		chartWriterPool.shutdown();
 	}
 
 	@Test
 	@DisplayName("회사 코드가 존재할 때 차트 데이터가 올바르게 초기화되는지 확인")
 	void initializeAllCompanyCandleData_WhenCompaniesExist_ShouldLoadCompanyCodes() {
 		// Given
-		Set<String> companyCodes = new HashSet<>(Arrays.asList(COMPANY_CODE, "000660"));
-		when(closingPriceService.getAllCompanyCodeByInmemory()).thenReturn(companyCodes);
 		when(closingPriceService.getClosingPrice(anyString())).thenReturn(BigDecimal.valueOf(100));
 
-		// 여기에서 findDistinctCompanyCodes 메서드가 호출될 것으로 예상
-		when(tradeHistoryRepository.findDistinctCompanyCodes()).thenReturn(companyCodes.stream().toList());
+		// 전 종목 최근 거래 내역은 한 번의 조회로 로드
+		when(tradeHistoryRepository.findRecentTradesOfAllCompanies(anyInt())).thenReturn(List.of());
 
 		// When
 		chartService.initializeAllCompanyCandleData();
+		chartService.getChartHistory(COMPANY_CODE, "15m"); // 캔들은 첫 조회 시점에 생성
 
 		// Then
-		verify(closingPriceService).getAllCompanyCodeByInmemory();
-		verify(tradeHistoryRepository).findDistinctCompanyCodes();
+		verify(tradeHistoryRepository, times(1)).findRecentTradesOfAllCompanies(anyInt());
+		verify(tradeHistoryRepository, never()).findRecentTradesByCompanyCode(anyString(), anyInt());
+		verify(closingPriceService, atLeastOnce()).getClosingPrice(anyString());
+	}
 
-		// 실제 ChartService 구현에 따라 이 호출이 발생하지 않을 수 있으므로 검증에서 제외
-		// verify(tradeHistoryRepository).findRecentTradesByCompanyCode(eq(COMPANY_CODE), anyInt());
-		// verify(tradeHistoryRepository).findRecentTradesByCompanyCode(eq("000660"), anyInt());
+	@Test
+	@DisplayName("시작 시 최근 거래 내역이 있는 종목의 캔들을 미리 생성하고 마지막 거래를 조회할 수 있는지 확인")
+	void initializeAllCompanyCandleData_WithRecentTrades_ShouldBuildCandles() {
+		// Given
+		long now = Instant.now().getEpochSecond();
+		TradeHistory older = createTradeHistory(COMPANY_CODE, BigDecimal.valueOf(100), BigDecimal.ONE, now - 30);
+		TradeHistory newer = createTradeHistory(COMPANY_CODE, BigDecimal.valueOf(110), BigDecimal.ONE, now);
+		when(tradeHistoryRepository.findRecentTradesOfAllCompanies(anyInt())).thenReturn(List.of(older, newer));
 
-		verify(closingPriceService, atLeastOnce()).getClosingPrice(anyString());
+		// When
+		chartService.initializeAllCompanyCandleData();
+
+		// Then
+		assertEquals(new TradeTick(now, 11_000L, 1L), chartService.getLastTrade(COMPANY_CODE).orElseThrow());
+		assertFalse(chartService.getChartHistory(COMPANY_CODE, "15s").candles().isEmpty());
+		verify(closingPriceService, never()).getClosingPrice(COMPANY_CODE);
 	}
 
 	@Test
@@ -87,18 +129,18 @@ public class ChartServiceTest {
 				Instant.now().getEpochSecond());
 
 		// 테스트를 위해 먼저 초기화 실행
-		Set<String> companyCodes = new HashSet<>(Arrays.asList(COMPANY_CODE));
-		when(closingPriceService.getAllCompanyCodeByInmemory()).thenReturn(companyCodes);
 		when(closingPriceService.getClosingPrice(anyString())).thenReturn(BigDecimal.valueOf(100));
-		when(tradeHistoryRepository.findDistinctCompanyCodes()).thenReturn(companyCodes.stream().toList());
+		when(tradeHistoryRepository.findRecentTradesOfAllCompanies(anyInt())).thenReturn(List.of());
 
 		chartService.initializeAllCompanyCandleData();
+		chartSubscriptionRegistry.subscribe("session-1", "sub-1", "/topic/chart/" + COMPANY_CODE);
 
 		// 목 객체 상태 초기화
 		reset(messagingTemplate);
 
 		// When
 		chartService.processNewTrade(trade);
+		awaitWrites(COMPANY_CODE);
 
 		// Then - 메시지가 전송되었는지만 확인
 		verify(messagingTemplate, atLeastOnce()).convertAndSend(anyString(), any(ChartUpdateDto.class));
@@ -122,9 +164,9 @@ public class ChartServiceTest {
 	@DisplayName("유효하지 않은 회사 코드로 최근 거래를 요청했을 때 빈 Optional이 반환되는지 확인")
 	void getLastTrade_WithInvalidCompanyCode_ShouldReturnEmpty() {
 		// When
-		Optional<TradeHistory> result1 = chartService.getLastTrade(null);
-		Optional<TradeHistory> result2 = chartService.getLastTrade("");
-		Optional<TradeHistory> result3 = chartService.getLastTrade("NONEXISTENT");
+		Optional<TradeTick> result1 = chartService.getLastTrade(null);
+		Optional<TradeTick> result2 = chartService.getLastTrade("");
+		Optional<TradeTick> result3 = chartService.getLastTrade("NONEXISTENT");
 
 		// Then
 		assertFalse(result1.isPresent());
@@ -132,12 +174,156 @@ public class ChartServiceTest {
 		assertFalse(result3.isPresent());
 	}
 
+	@Test
+	@DisplayName("최근 체결을 최신순으로 페이지 단위 조회하는지 확인")
+	void getRecentTrades_ShouldReturnNewestFirstPage() {
+		// Given
+		when(closingPriceService.getClosingPrice(anyString())).thenReturn(BigDecimal.valueOf(100));
+		long now = Instant.now().getEpochSecond();
+		for (int i = 0; i < 5; i++) {
+			chartService.processNewTrade(createTradeHistory(COMPANY_CODE, BigDecimal.valueOf(100 + i),
+					BigDecimal.ONE, now));
+		}
+		awaitWrites(COMPANY_CODE);
+
+		// When
+		RecentTradeResponseDto firstPage = chartService.getRecentTrades(COMPANY_CODE, 0, 2);
+		RecentTradeResponseDto lastPage = chartService.getRecentTrades(COMPANY_CODE, 4, 2);
+
+		// Then
+		assertEquals(List.of(104.0, 103.0), firstPage.trades().stream().map(RecentTradeDto::price).toList());
+		assertTrue(firstPage.hasNext());
+		assertEquals(List.of(100.0), lastPage.trades().stream().map(RecentTradeDto::price).toList());
+		assertFalse(lastPage.hasNext());
+	}
+
+	@Test
+	@DisplayName("체결 반영 후 조회하면 새 버전의 스냅샷으로 최신 캔들을 반환하는지 확인")
+	void getChartHistory_AfterTrade_ShouldReadPublishedSnapshot() {
+		// Given
+		when(closingPriceService.getClosingPrice(anyString())).thenReturn(BigDecimal.valueOf(100));
+		long now = Instant.now().getEpochSecond();
+		chartService.processNewTrade(createTradeHistory(COMPANY_CODE, BigDecimal.valueOf(120), BigDecimal.TEN, now));
+		awaitWrites(COMPANY_CODE);
+
+		// When
+		ChartResponseDto response = chartService.getChartHistory(COMPANY_CODE, "15s");
+
+		// Then
+		CandleDto candle = response.candles().stream()
+				.filter(c -> c.time() == now - now % 15)
+				.findFirst()
+				.orElseThrow();
+		assertEquals(120.0, candle.close());
+		assertEquals(10, candle.volume());
+	}
+
+	@Test
+	@DisplayName("체결도 전일 종가도 없는 종목을 조회하면 상태를 만들지 않고 빈 응답을 반환하는지 확인")
+	void getChartHistory_WithUnknownCompany_ShouldReturnEmptyWithoutState() {
+		// Given
+		when(closingPriceService.getClosingPrice(anyString())).thenReturn(null);
+
+		// When
+		ChartResponseDto history = chartService.getChartHistory("UNKNOWN", "15s");
+		IndicatorResponseDto indicators = chartService.getIndicators("UNKNOWN", "15s");
+		chartService.updateCandles("UNKNOWN").join();
+
+		// Then
+		assertTrue(history.candles().isEmpty());
+		assertNull(indicators.indicators());
+		assertTrue(chartService.getRecentTrades("UNKNOWN", 0, 10).trades().isEmpty());
+		verify(chartWriterPool, never()).submit(eq("UNKNOWN"), any());
+	}
+
+	@Test
+	@DisplayName("작성 스레드가 밀려 있으면 기다리지 않고 마지막으로 발행된 스냅샷을 반환하는지 확인")
+	void currentSnapshot_WhenWriterBusy_ShouldReturnLastPublished() throws Exception {
+		// given
+		long now = Instant.now().getEpochSecond();
+		chartService.processNewTrade(createTradeHistory(COMPANY_CODE, BigDecimal.valueOf(100), BigDecimal.ONE, now));
+		awaitWrites(COMPANY_CODE);
+		ChartSnapshot published = chartService.currentSnapshot(COMPANY_CODE);
+		chartService.processNewTrade(createTradeHistory(COMPANY_CODE, BigDecimal.valueOf(110), BigDecimal.ONE, now));
+		awaitWrites(COMPANY_CODE);
+
+		CountDownLatch release = new CountDownLatch(1);
+		chartWriterPool.execute(COMPANY_CODE, () -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		// when
+		long startedAt = System.nanoTime();
+		ChartSnapshot snapshot = chartService.currentSnapshot(COMPANY_CODE);
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+		release.countDown();
+
+		// then
+		assertSame(published, snapshot);
+		assertTrue(elapsedMillis < 1_000);
+	}
+
+	@Test
+	@DisplayName("구독하지 않은 종목은 체결 후 첫 조회 시점에 새 스냅샷을 발행하는지 확인")
+	void currentSnapshot_AfterUnwatchedTrade_ShouldPublishOnRead() {
+		// given
+		long now = Instant.now().getEpochSecond();
+		chartService.processNewTrade(createTradeHistory(COMPANY_CODE, BigDecimal.valueOf(100), BigDecimal.ONE, now));
+		awaitWrites(COMPANY_CODE);
+		ChartSnapshot first = chartService.currentSnapshot(COMPANY_CODE);
+
+		// when
+		chartService.processNewTrade(createTradeHistory(COMPANY_CODE, BigDecimal.valueOf(120), BigDecimal.ONE, now));
+		awaitWrites(COMPANY_CODE);
+		ChartSnapshot second = chartService.currentSnapshot(COMPANY_CODE);
+
+		// then
+		assertTrue(second.version() > first.version());
+		assertEquals(12_000L, second.lastClose());
+		assertSame(second, chartService.currentSnapshot(COMPANY_CODE));
+	}
+
+	@Test
+	@DisplayName("구독하지 않은 종목은 체결 테이프만 기록하고, 첫 구독 때 테이프로 캔들을 만드는지 확인")
+	void processNewTrade_WhenUnwatched_ShouldBuildCandlesOnFirstSubscribe() {
+		// given
+		long now = Instant.now().getEpochSecond();
+		chartService.processNewTrade(createTradeHistory(COMPANY_CODE, BigDecimal.valueOf(100), BigDecimal.ONE, now));
+		awaitWrites(COMPANY_CODE);
+
+		// then: 마지막 거래는 조회되지만 캔들은 만들지 않는다.
+		assertEquals(new TradeTick(now, 10_000L, 1L), chartService.getLastTrade(COMPANY_CODE).orElseThrow());
+		assertTrue(chartService.getCandlesSince(COMPANY_CODE, TimeFrame.SECONDS_15, 0L).isEmpty());
+		verify(candlePersistenceService, never()).enqueue(any());
+
+		// when: 첫 구독 (구독 리스너가 캔들 업데이트를 요청)
+		chartService.updateCandles(COMPANY_CODE).join();
+
+		// then
+		List<CandleDto> candles = chartService.getCandlesSince(COMPANY_CODE, TimeFrame.SECONDS_15, now - now % 15);
+		assertFalse(candles.isEmpty());
+		assertEquals(100.0, candles.get(0).close());
+		verify(closingPriceService, never()).getClosingPrice(COMPANY_CODE);
+	}
+
+	// 종목 작성 스레드에 앞서 제출된 작업(발행 예약 포함)이 모두 끝날 때까지 대기
+	private void awaitWrites(String companyCode) {
+		chartWriterPool.submit(companyCode, () -> {
+		}).join();
+		chartWriterPool.submit(companyCode, () -> {
+		}).join();
+	}
+
 	// 테스트용 TradeHistory 생성 헬퍼 메서드
 	private TradeHistory createTradeHistory(String companyCode, BigDecimal price, BigDecimal quantity, Long tradeTime) {
 		return TradeHistory.builder()
 				.companyCode(companyCode)
-				.price(price)
-				.quantity(quantity)
+				.price(Price.of(price))
+				.quantity(Quantity.of(quantity))
 				.tradeTime(tradeTime)
 				.build();
 	}
@@ -0,0 +1,63 @@
+package com.onseju.orderservice.chart;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.onseju.orderservice.chart.service.ChartSubscriptionRegistry;
+
+class ChartSubscriptionRegistryTest {
+
+	ChartSubscriptionRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		registry = new ChartSubscriptionRegistry();
+	}
+
+	@Test
+	@DisplayName("차트 토픽 구독에서 종목 코드를 추출해 첫 구독 여부를 반환한다.")
+	void subscribe() {
+		// when
+		boolean first = registry.subscribe("s1", "sub-1", "/topic/chart/005930");
+		boolean second = registry.subscribe("s2", "sub-1", "/topic/candle/005930/1m");
+		boolean other = registry.subscribe("s1", "sub-2", "/topic/orderbook/005930");
+
+		// then
+		assertThat(first).isTrue();
+		assertThat(second).isFalse();
+		assertThat(other).isFalse();
+		assertThat(registry.getWatchedCompanyCodes()).containsExactly("005930");
+	}
+
+	@Test
+	@DisplayName("마지막 구독이 해지되거나 세션이 끊기면 종목이 관리 대상에서 빠진다.")
+	void releaseOnUnsubscribeAndDisconnect() {
+		// given
+		registry.subscribe("s1", "sub-1", "/topic/chart/005930/15s");
+		registry.subscribe("s1", "sub-2", "/topic/chart/000660");
+		registry.subscribe("s2", "sub-1", "/topic/chart/005930");
+
+		// when
+		registry.unsubscribe("s1", "sub-1");
+		registry.disconnect("s1");
+
+		// then
+		assertThat(registry.isWatched("005930")).isTrue();
+		assertThat(registry.isWatched("000660")).isFalse();
+
+		registry.disconnect("s2");
+		assertThat(registry.isWatched("005930")).isFalse();
+	}
+
+	@Test
+	@DisplayName("종목 코드가 없는 차트 토픽은 무시한다.")
+	void ignoreDestinationWithoutCompanyCode() {
+		// when, then
+		assertThat(ChartSubscriptionRegistry.extractCompanyCode("/topic/chart/")).isNull();
+		assertThat(ChartSubscriptionRegistry.extractCompanyCode("/topic/candle/005930/1h")).isEqualTo("005930");
+		assertThat(registry.subscribe("s1", "sub-1", "/topic/chart/")).isFalse();
+	}
+}
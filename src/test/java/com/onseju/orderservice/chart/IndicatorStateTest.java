@@ -0,0 +1,126 @@
+package com.onseju.orderservice.chart;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.onseju.orderservice.chart.domain.IndicatorState;
+import com.onseju.orderservice.chart.dto.IndicatorDto;
+
+class IndicatorStateTest {
+
+	private static final long STEP = 15L;
+	private static final Offset<Double> TOLERANCE = within(1e-9);
+
+	IndicatorState state;
+
+	@BeforeEach
+	void setUp() {
+		state = new IndicatorState();
+	}
+
+	@Test
+	@DisplayName("이동평균과 볼린저 밴드는 진행 중인 종가를 포함한 최근 20개 종가로 계산한다.")
+	void movingAverageAndBollinger() {
+		// given
+		List<Long> closes = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			long close = 10_000L + (i % 7) * 150L - (i % 3) * 90L;
+			closes.add(close);
+			commit(i, close, 1L);
+		}
+		long live = 10_500L;
+		closes.add(live);
+
+		// when
+		IndicatorDto indicators = state.snapshot(25 * STEP, live, live, live, 1L);
+
+		// then
+		List<Long> window = closes.subList(closes.size() - IndicatorState.MA_PERIOD, closes.size());
+		double mean = window.stream().mapToLong(Long::longValue).average().orElseThrow();
+		double variance = window.stream().mapToDouble(close -> (close - mean) * (close - mean)).sum() / window.size();
+		assertThat(indicators.sma()).isCloseTo(mean / 100, TOLERANCE);
+		assertThat(indicators.bollingerUpper()).isCloseTo((mean + 2 * Math.sqrt(variance)) / 100, within(1e-6));
+		assertThat(indicators.bollingerLower()).isCloseTo((mean - 2 * Math.sqrt(variance)) / 100, within(1e-6));
+		assertThat(indicators.time()).isEqualTo(25 * STEP);
+	}
+
+	@Test
+	@DisplayName("기간을 채우지 못한 지표는 비워 두고, 계속 오르기만 하면 RSI는 100이다.")
+	void warmUpPeriod() {
+		// given
+		for (int i = 0; i < IndicatorState.RSI_PERIOD - 1; i++) {
+			commit(i, 10_000L + i * 100L, 1L);
+		}
+
+		// when
+		IndicatorDto beforeRsi = state.snapshot(100L * STEP, 9_000L, 9_000L, 9_000L, 1L);
+		commit(IndicatorState.RSI_PERIOD - 1, 20_000L, 1L);
+		IndicatorDto rising = state.snapshot(IndicatorState.RSI_PERIOD * STEP, 21_000L, 21_000L, 21_000L, 1L);
+
+		// then
+		assertThat(beforeRsi.rsi()).isNull();
+		assertThat(beforeRsi.sma()).isNull();
+		assertThat(beforeRsi.ema()).isNotNull();
+		assertThat(rising.rsi()).isEqualTo(100.0);
+	}
+
+	@Test
+	@DisplayName("빈 구간을 한 번에 반영해도 빈 캔들을 하나씩 반영한 것과 같다.")
+	void flatGapMatchesOneByOne() {
+		// given
+		IndicatorState oneByOne = new IndicatorState();
+		long[] closes = {10_000L, 10_300L, 9_800L, 10_100L};
+		for (int i = 0; i < closes.length - 1; i++) {
+			commit(state, i, closes[i], 2L);
+			commit(oneByOne, i, closes[i], 2L);
+		}
+		long last = closes.length - 1;
+		long flatEnd = last + 60;
+
+		// when
+		state.advance(last * STEP, 10_100L, 10_100L, 10_100L, 2L, flatEnd * STEP, STEP);
+		commit(oneByOne, last, 10_100L, 2L);
+		for (long i = last + 1; i < flatEnd; i++) {
+			commit(oneByOne, i, 10_100L, 0L);
+		}
+
+		// then
+		IndicatorDto expected = oneByOne.snapshot(flatEnd * STEP, 10_400L, 10_000L, 10_200L, 3L);
+		IndicatorDto actual = state.snapshot(flatEnd * STEP, 10_400L, 10_000L, 10_200L, 3L);
+		assertThat(actual.sma()).isCloseTo(expected.sma(), TOLERANCE);
+		assertThat(actual.ema()).isCloseTo(expected.ema(), TOLERANCE);
+		assertThat(actual.rsi()).isCloseTo(expected.rsi(), TOLERANCE);
+		assertThat(actual.vwap()).isCloseTo(expected.vwap(), TOLERANCE);
+	}
+
+	@Test
+	@DisplayName("VWAP은 한국 시간 기준 날짜가 바뀌면 새로 누적한다.")
+	void vwapResetsEveryDay() {
+		// given: 2025-01-01 15:00 KST
+		long afternoon = 1_735_711_200L;
+		state.advance(afternoon, 10_000L, 10_000L, 10_000L, 10L, afternoon + STEP, STEP);
+
+		// when
+		IndicatorDto sameDay = state.snapshot(afternoon + STEP, 12_000L, 12_000L, 12_000L, 10L);
+		IndicatorDto nextDay = state.snapshot(afternoon + 86_400L, 12_000L, 12_000L, 12_000L, 10L);
+
+		// then
+		assertThat(sameDay.vwap()).isCloseTo(110.0, TOLERANCE);
+		assertThat(nextDay.vwap()).isCloseTo(120.0, TOLERANCE);
+	}
+
+	private void commit(long index, long close, long volume) {
+		commit(state, index, close, volume);
+	}
+
+	private void commit(IndicatorState target, long index, long close, long volume) {
+		target.advance(index * STEP, close, close, close, volume, (index + 1) * STEP, STEP);
+	}
+}
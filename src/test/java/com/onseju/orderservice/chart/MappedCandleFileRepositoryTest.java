@@ -0,0 +1,121 @@
+package com.onseju.orderservice.chart;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.onseju.orderservice.chart.domain.ClosedCandle;
+import com.onseju.orderservice.chart.domain.TimeFrame;
+import com.onseju.orderservice.chart.repository.MappedCandleFileRepository;
+
+class MappedCandleFileRepositoryTest {
+
+	private static final String COMPANY_CODE = "005930";
+
+	@TempDir
+	Path directory;
+
+	MappedCandleFileRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		repository = new MappedCandleFileRepository(directory.toString(), 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		repository.close();
+	}
+
+	@Test
+	@DisplayName("초기 크기를 넘겨 저장해도 구간의 앞쪽/뒤쪽 캔들을 시간 순으로 조회한다.")
+	void findRange() {
+		// given
+		List<ClosedCandle> candles = new ArrayList<>();
+		for (long time = 0; time < 150; time += 15) {
+			candles.add(candle(time, 10_000L + time, 1L));
+		}
+		repository.appendAll(candles);
+
+		// when
+		List<ClosedCandle> first = repository.findFirst(COMPANY_CODE, TimeFrame.SECONDS_15, 20L, 100L, 3);
+		List<ClosedCandle> last = repository.findLast(COMPANY_CODE, TimeFrame.SECONDS_15, 20L, 100L, 3);
+
+		// then
+		assertThat(first).extracting(ClosedCandle::time).containsExactly(30L, 45L, 60L);
+		assertThat(last).extracting(ClosedCandle::time).containsExactly(60L, 75L, 90L);
+		assertThat(last.get(2)).isEqualTo(candle(90L, 10_090L, 1L));
+	}
+
+	@Test
+	@DisplayName("같은 시간의 캔들은 덮어쓰고, 늦게 도착한 과거 캔들은 시간 순서에 맞게 끼워 넣는다.")
+	void upsertAndInsert() {
+		// given
+		repository.appendAll(List.of(candle(0L, 10_000L, 1L), candle(30L, 10_000L, 1L)));
+
+		// when
+		repository.appendAll(List.of(candle(30L, 11_000L, 5L), candle(15L, 10_500L, 2L)));
+
+		// then
+		assertThat(repository.findFirst(COMPANY_CODE, TimeFrame.SECONDS_15, Long.MIN_VALUE, Long.MAX_VALUE, 10))
+			.containsExactly(candle(0L, 10_000L, 1L), candle(15L, 10_500L, 2L), candle(30L, 11_000L, 5L));
+	}
+
+	@Test
+	@DisplayName("다시 열어도 저장한 캔들을 그대로 읽고, 없는 종목이나 허용되지 않은 종목 코드는 빈 목록이다.")
+	void reopen() {
+		// given
+		repository.appendAll(List.of(candle(0L, 10_000L, 1L), candle(15L, 10_500L, 2L), candle(30L, 11_000L, 3L)));
+		repository.close();
+
+		// when
+		repository = new MappedCandleFileRepository(directory.toString(), 2);
+
+		// then
+		assertThat(repository.findLast(COMPANY_CODE, TimeFrame.SECONDS_15, Long.MIN_VALUE, Long.MAX_VALUE, 10))
+			.extracting(ClosedCandle::time).containsExactly(0L, 15L, 30L);
+		assertThat(repository.findLast("000660", TimeFrame.SECONDS_15, Long.MIN_VALUE, Long.MAX_VALUE, 10)).isEmpty();
+		assertThat(repository.findLast("../etc", TimeFrame.SECONDS_15, Long.MIN_VALUE, Long.MAX_VALUE, 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("끼워 넣기 도중 중단된 파일을 다시 열면 쓰다 만 레코드를 버리고 시간 순 캔들을 읽는다.")
+	void recoverInterruptedInsert() throws IOException {
+		// given: 15초 캔들을 밀던 중 중단 (2번 칸은 가격만 바뀌고 시간은 그대로, 3번 칸은 밀린 레코드, 레코드 수는 3)
+		repository.appendAll(List.of(candle(15L, 10_000L, 1L), candle(30L, 10_500L, 2L), candle(45L, 11_000L, 3L)));
+		repository.close();
+		try (FileChannel channel = FileChannel.open(directory.resolve(COMPANY_CODE).resolve("SECONDS_15.candles"),
+			StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			channel.write(record(45L, 10_500L, 2L), 16 + 2 * 48);
+			channel.write(record(45L, 11_000L, 3L), 16 + 3 * 48);
+		}
+
+		// when
+		repository = new MappedCandleFileRepository(directory.toString(), 2);
+
+		// then
+		assertThat(repository.findFirst(COMPANY_CODE, TimeFrame.SECONDS_15, Long.MIN_VALUE, Long.MAX_VALUE, 10))
+			.containsExactly(candle(15L, 10_000L, 1L), candle(30L, 10_500L, 2L), candle(45L, 11_000L, 3L));
+	}
+
+	private ByteBuffer record(long time, long price, long volume) {
+		return ByteBuffer.allocate(48).putLong(time).putLong(price).putLong(price).putLong(price).putLong(price)
+			.putLong(volume).flip();
+	}
+
+	private ClosedCandle candle(long time, long price, long volume) {
+		return new ClosedCandle(COMPANY_CODE, TimeFrame.SECONDS_15, time, price, price, price, price, volume);
+	}
+}
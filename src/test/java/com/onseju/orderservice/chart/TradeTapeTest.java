@@ -0,0 +1,68 @@
+package com.onseju.orderservice.chart;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.onseju.orderservice.chart.domain.TradeTape;
+import com.onseju.orderservice.chart.domain.TradeTick;
+
+class TradeTapeTest {
+
+	TradeTape tape;
+
+	@BeforeEach
+	void setUp() {
+		tape = new TradeTape(3);
+	}
+
+	@Test
+	@DisplayName("가득 차면 가장 오래된 체결을 덮어쓰고 최근 체결부터 조회한다.")
+	void overwriteOldest() {
+		// when
+		for (long i = 1; i <= 5; i++) {
+			tape.append(i, i * 100L, i);
+		}
+
+		// then
+		assertThat(tape.size()).isEqualTo(3);
+		assertThat(tape.last()).contains(new TradeTick(5L, 500L, 5L));
+		assertThat(tape.readRecent(0, 10)).extracting(TradeTick::time).containsExactly(5L, 4L, 3L);
+	}
+
+	@Test
+	@DisplayName("offset만큼 건너뛰고 limit개까지 최신순으로 조회한다.")
+	void readPage() {
+		// given
+		for (long i = 1; i <= 3; i++) {
+			tape.append(i, 100L, 1L);
+		}
+
+		// when, then
+		assertThat(tape.readRecent(1, 1)).extracting(TradeTick::time).containsExactly(2L);
+		assertThat(tape.readRecent(2, 5)).extracting(TradeTick::time).containsExactly(1L);
+		assertThat(tape.readRecent(3, 5)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("오래된 순서로 남아 있는 체결을 모두 전달한다.")
+	void forEachOldestFirst() {
+		// given
+		for (long i = 1; i <= 4; i++) {
+			tape.append(i, i * 100L, 1L);
+		}
+
+		// when
+		List<Long> times = new ArrayList<>();
+		tape.forEach((time, price, quantity) -> times.add(time));
+
+		// then
+		assertThat(times).containsExactly(2L, 3L, 4L);
+		assertThat(new TradeTape(3).last()).isEmpty();
+	}
+}
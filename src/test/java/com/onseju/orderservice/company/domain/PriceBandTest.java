@@ -0,0 +1,46 @@
+package com.onseju.orderservice.company.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceBandTest {
+
+	@Test
+	@DisplayName("종가 기준 상/하한 30% 범위를 원 단위로 계산한다.")
+	void calculateBand() {
+		// when
+		PriceBand priceBand = PriceBand.of(new BigDecimal(1000));
+
+		// then
+		assertThat(priceBand.lowerLimit()).isEqualTo(700L);
+		assertThat(priceBand.upperLimit()).isEqualTo(1300L);
+	}
+
+	@Test
+	@DisplayName("상/하한 경계 가격은 범위에 포함된다.")
+	void containsBoundary() {
+		// given
+		PriceBand priceBand = PriceBand.of(new BigDecimal(1000));
+
+		// when, then
+		assertThat(priceBand.contains(700L)).isTrue();
+		assertThat(priceBand.contains(1300L)).isTrue();
+		assertThat(priceBand.contains(699L)).isFalse();
+		assertThat(priceBand.contains(1301L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("종가에 소수점이 있을 경우 하한은 올림, 상한은 내림으로 계산한다.")
+	void calculateBandWithFractionalClosingPrice() {
+		// when
+		PriceBand priceBand = PriceBand.of(new BigDecimal("1000.55"));
+
+		// then
+		assertThat(priceBand.lowerLimit()).isEqualTo(701L);
+		assertThat(priceBand.upperLimit()).isEqualTo(1300L);
+	}
+}
@@ -0,0 +1,88 @@
+package com.onseju.orderservice.events.dedup;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.onseju.orderservice.fake.FakeProcessedEventRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EventDeduplicatorTest {
+
+	SimpleMeterRegistry meterRegistry;
+	EventDeduplicator eventDeduplicator;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		eventDeduplicator = new EventDeduplicator(new FakeProcessedEventRepository(), meterRegistry,
+				6, 60_000L, 1024, 24, System::currentTimeMillis);
+	}
+
+	@Test
+	@DisplayName("처리 완료로 기록된 이벤트와 배치 안의 중복 이벤트를 제외한다.")
+	void filterProcessedAndDuplicatedInBatch() {
+		// given
+		UUID processed = UUID.randomUUID();
+		UUID fresh = UUID.randomUUID();
+		eventDeduplicator.markProcessed(EventDeduplicator.MATCHED, processed);
+
+		// when
+		List<UUID> result = eventDeduplicator.filterNew(EventDeduplicator.MATCHED,
+				List.of(processed, fresh, fresh), Function.identity());
+
+		// then
+		assertThat(result).containsExactly(fresh);
+		assertThat(meterRegistry.get("event.dedup.checks").tag("stream", "matched").tag("layer", "memory")
+				.tag("result", "hit").counter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("event.dedup.checks").tag("stream", "matched").tag("layer", "memory")
+				.tag("result", "miss").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("처리 완료로 기록하기 전에는 같은 이벤트를 다시 통과시킨다.")
+	void passUntilMarkedProcessed() {
+		// given
+		UUID id = UUID.randomUUID();
+
+		// when, then
+		assertThat(eventDeduplicator.isDuplicate(EventDeduplicator.ORDER_BOOK_SYNCED, id)).isFalse();
+		assertThat(eventDeduplicator.isDuplicate(EventDeduplicator.ORDER_BOOK_SYNCED, id)).isFalse();
+		eventDeduplicator.markProcessed(EventDeduplicator.ORDER_BOOK_SYNCED, id);
+		assertThat(eventDeduplicator.isDuplicate(EventDeduplicator.ORDER_BOOK_SYNCED, id)).isTrue();
+	}
+
+	@Test
+	@DisplayName("스트림마다 별도의 윈도우를 사용한다.")
+	void separateWindowPerStream() {
+		// given
+		UUID id = UUID.randomUUID();
+		eventDeduplicator.markProcessed(EventDeduplicator.MATCHED, id);
+
+		// when, then
+		assertThat(eventDeduplicator.isDuplicate(EventDeduplicator.ORDER_CREATED, id)).isFalse();
+	}
+
+	@Test
+	@DisplayName("processed_event에 기록된 이벤트는 다시 반영하지 않는다.")
+	void claimOnlyOnce() {
+		// given
+		UUID first = UUID.randomUUID();
+		UUID second = UUID.randomUUID();
+		eventDeduplicator.claim(EventDeduplicator.MATCHED, List.of(first), Function.identity());
+
+		// when
+		List<UUID> claimed = eventDeduplicator.claim(EventDeduplicator.MATCHED, List.of(first, second),
+				Function.identity());
+
+		// then
+		assertThat(claimed).containsExactly(second);
+	}
+}
@@ -0,0 +1,76 @@
+package com.onseju.orderservice.events.dedup;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UuidWindowSetTest {
+
+	AtomicLong now;
+	UuidWindowSet windowSet;
+
+	@BeforeEach
+	void setUp() {
+		now = new AtomicLong(0L);
+		windowSet = new UuidWindowSet(3, 1_000L, 8, now::get);
+	}
+
+	@Test
+	@DisplayName("추가한 ID는 윈도우 안에서 조회된다.")
+	void containsAddedId() {
+		// given
+		UUID id = UUID.randomUUID();
+
+		// when
+		windowSet.add(id);
+
+		// then
+		assertThat(windowSet.contains(id)).isTrue();
+		assertThat(windowSet.contains(UUID.randomUUID())).isFalse();
+	}
+
+	@Test
+	@DisplayName("추가한 ID는 버킷 안의 시점과 관계없이 윈도우(버킷 수 * 버킷 시간) 동안 유지되고, 버킷이 재사용되면 제거된다.")
+	void expireAfterWindow() {
+		// given: 버킷이 끝나기 직전에 추가
+		UUID id = UUID.randomUUID();
+		now.set(999L);
+		windowSet.add(id);
+
+		// when, then
+		now.set(3_999L);
+		assertThat(windowSet.contains(id)).isTrue();
+		now.set(4_000L);
+		assertThat(windowSet.contains(id)).isFalse();
+	}
+
+	@Test
+	@DisplayName("버킷이 절반 이상 차도 윈도우 안의 ID를 버리지 않고 버킷을 늘려 모두 유지한다.")
+	void growWhenBucketIsHalfFull() {
+		// given
+		UUID[] ids = new UUID[13];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = UUID.randomUUID();
+			windowSet.add(ids[i]);
+		}
+
+		// then (버킷 슬롯 8개 -> 절반이 찰 때마다 두 배로 늘림)
+		for (UUID id : ids) {
+			assertThat(windowSet.contains(id)).isTrue();
+		}
+
+		// when: 윈도우가 지나 버킷이 재사용되면 처음 크기로 다시 쓴다.
+		now.set(4_000L);
+		UUID next = UUID.randomUUID();
+		windowSet.add(next);
+
+		// then
+		assertThat(windowSet.contains(ids[0])).isFalse();
+		assertThat(windowSet.contains(next)).isTrue();
+	}
+}
@@ -0,0 +1,121 @@
+package com.onseju.orderservice.events.listener;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.dao.CannotAcquireLockException;
+
+import com.onseju.orderservice.events.OrderCreatedEvent;
+import com.onseju.orderservice.events.dedup.EventDeduplicator;
+import com.onseju.orderservice.order.domain.Order;
+import com.onseju.orderservice.order.mapper.OrderMapper;
+import com.onseju.orderservice.order.service.OrderService;
+import com.rabbitmq.client.Channel;
+
+class OrderEventListenerTest {
+
+	Jackson2JsonMessageConverter messageConverter = new Jackson2JsonMessageConverter();
+	OrderService orderService;
+	Channel channel;
+	OrderEventListener orderEventListener;
+
+	@BeforeEach
+	void setUp() {
+		orderService = mock(OrderService.class);
+		channel = mock(Channel.class);
+		OrderMapper orderMapper = mock(OrderMapper.class);
+		when(orderMapper.toEntity(any(OrderCreatedEvent.class)))
+				.thenAnswer(invocation -> Order.builder()
+						.id(invocation.<OrderCreatedEvent>getArgument(0).orderId())
+						.build());
+		EventDeduplicator eventDeduplicator = mock(EventDeduplicator.class);
+		when(eventDeduplicator.filterNew(anyString(), anyList(), any()))
+				.thenAnswer(invocation -> invocation.getArgument(1));
+		orderEventListener = new OrderEventListener(orderService, orderMapper, eventDeduplicator, messageConverter);
+	}
+
+	@Test
+	@DisplayName("배치를 한 번에 저장하고 모든 메시지를 ack 한다.")
+	void saveBatchAndAckAll() throws Exception {
+		// when
+		orderEventListener.handleOrderCreated(List.of(message(1L, 1L), message(2L, 2L)), channel);
+
+		// then
+		verify(orderService, times(1)).saveOrders(argThat(orders -> orders.size() == 2));
+		verify(channel).basicAck(1L, false);
+		verify(channel).basicAck(2L, false);
+		verify(channel, never()).basicReject(anyLong(), anyBoolean());
+	}
+
+	@Test
+	@DisplayName("변환할 수 없는 메시지는 바로 reject 하고 나머지는 저장한다.")
+	void rejectUndeserializableMessage() throws Exception {
+		// given
+		MessageProperties properties = new MessageProperties();
+		properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+		properties.setDeliveryTag(2L);
+		Message broken = new Message("{not json".getBytes(StandardCharsets.UTF_8), properties);
+
+		// when
+		orderEventListener.handleOrderCreated(List.of(message(1L, 1L), broken, message(3L, 3L)), channel);
+
+		// then
+		verify(orderService, times(1)).saveOrders(argThat(orders -> orders.size() == 2));
+		verify(channel).basicReject(2L, false);
+		verify(channel).basicAck(1L, false);
+		verify(channel).basicAck(3L, false);
+	}
+
+	@Test
+	@DisplayName("일괄 저장이 실패하면 이벤트별로 다시 저장하고 실패한 메시지만 reject 한다.")
+	void fallBackToSingleSaves() throws Exception {
+		// given
+		doThrow(new IllegalStateException("중복 주문"))
+				.when(orderService).saveOrders(argThat(orders -> orders.stream().anyMatch(order -> order.getId() == 2L)));
+
+		// when
+		orderEventListener.handleOrderCreated(List.of(message(1L, 1L), message(2L, 2L), message(3L, 3L)), channel);
+
+		// then
+		verify(orderService, times(4)).saveOrders(anyList());
+		verify(channel).basicAck(1L, false);
+		verify(channel).basicReject(2L, false);
+		verify(channel).basicAck(3L, false);
+	}
+
+	@Test
+	@DisplayName("DB 장애처럼 일시적인 실패로 저장하지 못한 메시지는 reject 하지 않고 다시 큐에 넣는다.")
+	void requeueTransientFailures() throws Exception {
+		// given
+		doThrow(new CannotAcquireLockException("lock wait timeout"))
+				.when(orderService).saveOrders(argThat(orders -> orders.stream().anyMatch(order -> order.getId() == 2L)));
+
+		// when
+		orderEventListener.handleOrderCreated(List.of(message(1L, 1L), message(2L, 2L)), channel);
+
+		// then
+		verify(channel).basicAck(1L, false);
+		verify(channel).basicNack(2L, false, true);
+		verify(channel, never()).basicReject(anyLong(), anyBoolean());
+	}
+
+	private Message message(long deliveryTag, long orderId) {
+		MessageProperties properties = new MessageProperties();
+		properties.setDeliveryTag(deliveryTag);
+		return messageConverter.toMessage(OrderCreatedEvent.builder()
+				.id(UUID.randomUUID())
+				.orderId(orderId)
+				.companyCode("005930")
+				.build(), properties);
+	}
+}
@@ -0,0 +1,156 @@
+package com.onseju.orderservice.events.pipeline;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import com.onseju.orderservice.chart.service.ChartService;
+import com.onseju.orderservice.events.MatchedEvent;
+import com.onseju.orderservice.events.dedup.EventDeduplicator;
+import com.onseju.orderservice.fake.FakeProcessedEventRepository;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
+import com.onseju.orderservice.order.service.OrderService;
+import com.onseju.orderservice.tradehistory.domain.TradeHistory;
+import com.onseju.orderservice.tradehistory.dto.SettlementResult;
+import com.onseju.orderservice.tradehistory.mapper.TradeHistoryMapper;
+import com.onseju.orderservice.tradehistory.service.TradeHistoryNotificationService;
+import com.onseju.orderservice.tradehistory.service.TradeSettlementService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MatchedEventPipelineTest {
+
+	TradeSettlementService tradeSettlementService;
+	ChartService chartService;
+	TradeHistoryNotificationService tradeHistoryNotificationService;
+	SimpleMeterRegistry meterRegistry;
+	MatchedEventPipeline pipeline;
+	TradeHistoryMapper tradeHistoryMapper = new TradeHistoryMapper();
+
+	@BeforeEach
+	void setUp() {
+		tradeSettlementService = Mockito.mock(TradeSettlementService.class);
+		chartService = Mockito.mock(ChartService.class);
+		tradeHistoryNotificationService = Mockito.mock(TradeHistoryNotificationService.class);
+		meterRegistry = new SimpleMeterRegistry();
+		EventDeduplicator eventDeduplicator = new EventDeduplicator(new FakeProcessedEventRepository(),
+				meterRegistry, 6, 60_000L, 1024, 24);
+		pipeline = new MatchedEventPipeline(tradeSettlementService, Mockito.mock(OrderService.class),
+				eventDeduplicator, chartService, tradeHistoryNotificationService, meterRegistry, 2, 64);
+
+		when(tradeSettlementService.settle(anyList())).thenAnswer(invocation -> {
+			List<MatchedEvent> events = invocation.getArgument(0);
+			return new SettlementResult(events, events.stream().map(tradeHistoryMapper::toEntity).toList());
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		pipeline.shutdown();
+	}
+
+	@Test
+	@DisplayName("모든 이벤트가 반영되면 완료되고, 차트와 알림 단계가 이어서 처리한다.")
+	void completeAfterSettlement() {
+		// given
+		List<MatchedEvent> events = List.of(
+				createMatchedEvent("005930", 1L),
+				createMatchedEvent("000660", 2L),
+				createMatchedEvent("005930", 3L));
+
+		// when
+		pipeline.publish(events).join();
+
+		// then
+		verify(chartService, timeout(1_000).times(3)).processNewTrade(any(TradeHistory.class));
+		verify(tradeHistoryNotificationService, timeout(1_000).times(3)).sendNotification(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("같은 종목의 체결은 수신 순서대로 차트에 반영된다.")
+	void keepOrderPerCompany() {
+		// given
+		List<MatchedEvent> events = List.of(
+				createMatchedEvent("005930", 1L),
+				createMatchedEvent("005930", 2L),
+				createMatchedEvent("005930", 3L));
+
+		// when
+		pipeline.publish(events).join();
+
+		// then
+		verify(chartService, timeout(1_000).times(3)).processNewTrade(any(TradeHistory.class));
+		InOrder inOrder = inOrder(chartService);
+		inOrder.verify(chartService).processNewTrade(argThat(trade -> trade.getTradeTime() == 1L));
+		inOrder.verify(chartService).processNewTrade(argThat(trade -> trade.getTradeTime() == 2L));
+		inOrder.verify(chartService).processNewTrade(argThat(trade -> trade.getTradeTime() == 3L));
+	}
+
+	@Test
+	@DisplayName("DB 반영에 실패하면 실패한 이벤트 ID와 원인으로 완료되고, 차트에 반영하지 않는다.")
+	void failWhenSettlementFails() {
+		// given
+		MatchedEvent event = createMatchedEvent("005930", 1L);
+		when(tradeSettlementService.settle(anyList())).thenThrow(new IllegalStateException("db down"));
+
+		// when
+		Map<UUID, Throwable> failures = pipeline.publish(List.of(event)).join();
+
+		// then
+		assertThat(failures).containsOnlyKeys(event.id());
+		assertThat(failures.get(event.id())).hasMessage("db down");
+		verify(chartService, after(100).never()).processNewTrade(any());
+	}
+
+	@Test
+	@DisplayName("일괄 반영이 실패하면 이벤트별로 다시 반영해 실패한 이벤트만 제외한다.")
+	void fallBackToSingleSettlement() {
+		// given
+		MatchedEvent first = createMatchedEvent("005930", 1L);
+		MatchedEvent unknownOrder = createMatchedEvent("005930", 2L);
+		MatchedEvent third = createMatchedEvent("005930", 3L);
+		doThrow(new IllegalStateException("unknown order"))
+				.when(tradeSettlementService).settle(argThat(events -> events.contains(unknownOrder)));
+
+		// when
+		Map<UUID, Throwable> failures = pipeline.publish(List.of(first, unknownOrder, third)).join();
+
+		// then
+		assertThat(failures).containsOnlyKeys(unknownOrder.id());
+		verify(chartService, timeout(1_000).times(2)).processNewTrade(any(TradeHistory.class));
+		verify(chartService, never()).processNewTrade(argThat(trade -> trade.getTradeTime() == 2L));
+	}
+
+	@Test
+	@DisplayName("단계별 처리 시간과 미처리 슬롯 수 메트릭을 등록한다.")
+	void registerStageMetrics() {
+		assertThat(meterRegistry.find("pipeline.stage.latency").timers()).hasSize(3);
+		assertThat(meterRegistry.find("pipeline.stage.backlog").gauges()).hasSize(6);
+	}
+
+	private MatchedEvent createMatchedEvent(final String companyCode, final Long tradeAt) {
+		return MatchedEvent.builder()
+				.id(UUID.randomUUID())
+				.companyCode(companyCode)
+				.buyOrderId(1L)
+				.buyAccountId(1L)
+				.sellOrderId(2L)
+				.sellAccountId(2L)
+				.quantity(Quantity.of(10))
+				.price(Price.ofWon(1000))
+				.tradeAt(tradeAt)
+				.build();
+	}
+}
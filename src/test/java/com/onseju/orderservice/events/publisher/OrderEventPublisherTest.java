@@ -0,0 +1,101 @@
+package com.onseju.orderservice.events.publisher;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import com.onseju.orderservice.events.OrderCreatedEvent;
+import com.onseju.orderservice.events.exception.OrderEventPublisherFailException;
+
+class OrderEventPublisherTest {
+
+	RabbitTemplate rabbitTemplate;
+	OrderEventPublisher orderEventPublisher;
+	List<CorrelationData> sent;
+
+	@BeforeEach
+	void setUp() {
+		rabbitTemplate = mock(RabbitTemplate.class);
+		sent = new ArrayList<>();
+		doAnswer(invocation -> {
+			sent.add(invocation.getArgument(3));
+			return null;
+		}).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+		orderEventPublisher = new OrderEventPublisher(rabbitTemplate, Runnable::run, 16);
+	}
+
+	@Test
+	@DisplayName("confirm을 기다리지 않고 두 메시지를 연속으로 전송한 뒤, 모두 ack되면 완료된다.")
+	void publishWithoutWaitingForConfirm() throws Exception {
+		// when
+		CompletableFuture<Void> result = orderEventPublisher.publishEvent(createEvent());
+
+		// then
+		assertThat(sent).hasSize(2);
+		assertThat(result).isNotDone();
+
+		sent.forEach(correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(true, null)));
+		result.get(1, TimeUnit.SECONDS);
+		assertThat(result).isCompleted();
+	}
+
+	@Test
+	@DisplayName("nack을 받으면 발행 실패 예외로 완료된다.")
+	void publishFailsOnNack() {
+		// when
+		CompletableFuture<Void> result = orderEventPublisher.publishEvent(createEvent());
+		sent.get(0).getFuture().complete(new CorrelationData.Confirm(true, null));
+		sent.get(1).getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+
+		// then
+		assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+				.isInstanceOf(ExecutionException.class)
+				.hasRootCauseInstanceOf(OrderEventPublisherFailException.class);
+	}
+
+	@Test
+	@DisplayName("배치 전송은 순서대로 보내고, 실패 이후 이벤트는 보내지 않으며 앞에서부터 confirm 된 수로 완료된다.")
+	void publishEventsStopsAtFirstFailure() throws Exception {
+		// given
+		OrderCreatedEvent first = createEvent();
+		OrderCreatedEvent second = createEvent();
+		OrderCreatedEvent third = createEvent();
+		doAnswer(invocation -> {
+			CorrelationData correlation = invocation.getArgument(3);
+			sent.add(correlation);
+			boolean ack = !correlation.getId().endsWith(second.id().toString());
+			correlation.getFuture().complete(new CorrelationData.Confirm(ack, null));
+			return null;
+		}).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+		// when
+		CompletableFuture<Integer> result = orderEventPublisher.publishEvents(List.of(first, second, third));
+
+		// then
+		assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo(1);
+		assertThat(sent).extracting(CorrelationData::getId)
+				.containsExactly("order-" + first.id(), "matching-" + first.id(),
+						"order-" + second.id(), "matching-" + second.id());
+	}
+
+	private OrderCreatedEvent createEvent() {
+		return OrderCreatedEvent.builder()
+				.id(UUID.randomUUID())
+				.orderId(1L)
+				.companyCode("005930")
+				.build();
+	}
+}
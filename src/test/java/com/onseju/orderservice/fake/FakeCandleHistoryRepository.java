@@ -0,0 +1,48 @@
+package com.onseju.orderservice.fake;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.onseju.orderservice.chart.domain.ClosedCandle;
+import com.onseju.orderservice.chart.domain.TimeFrame;
+import com.onseju.orderservice.chart.service.repository.CandleHistoryRepository;
+
+public class FakeCandleHistoryRepository implements CandleHistoryRepository {
+
+	private final Map<String, TreeMap<Long, ClosedCandle>> elements = new TreeMap<>();
+
+	@Override
+	public void appendAll(Collection<ClosedCandle> candles) {
+		candles.forEach(candle -> elements
+			.computeIfAbsent(key(candle.companyCode(), candle.timeFrame()), k -> new TreeMap<>())
+			.put(candle.time(), candle));
+	}
+
+	@Override
+	public List<ClosedCandle> findFirst(String companyCode, TimeFrame timeFrame, long fromTime, long toTime,
+		int limit) {
+		List<ClosedCandle> candles = findRange(companyCode, timeFrame, fromTime, toTime);
+		return candles.subList(0, Math.min(limit, candles.size()));
+	}
+
+	@Override
+	public List<ClosedCandle> findLast(String companyCode, TimeFrame timeFrame, long fromTime, long toTime,
+		int limit) {
+		List<ClosedCandle> candles = findRange(companyCode, timeFrame, fromTime, toTime);
+		return candles.subList(Math.max(0, candles.size() - limit), candles.size());
+	}
+
+	private List<ClosedCandle> findRange(String companyCode, TimeFrame timeFrame, long fromTime, long toTime) {
+		TreeMap<Long, ClosedCandle> candles = elements.get(key(companyCode, timeFrame));
+		if (candles == null || fromTime >= toTime) {
+			return List.of();
+		}
+		return List.copyOf(candles.subMap(fromTime, toTime).values());
+	}
+
+	private String key(String companyCode, TimeFrame timeFrame) {
+		return companyCode + ":" + timeFrame;
+	}
+}
@@ -0,0 +1,67 @@
+package com.onseju.orderservice.fake;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import com.onseju.orderservice.chart.domain.ClosedCandle;
+import com.onseju.orderservice.chart.domain.TimeFrame;
+import com.onseju.orderservice.chart.service.repository.CandleRepository;
+
+public class FakeCandleRepository implements CandleRepository {
+
+	private static final Comparator<ClosedCandle> ORDER = Comparator.comparing(ClosedCandle::companyCode)
+		.thenComparing(ClosedCandle::timeFrame)
+		.thenComparingLong(ClosedCandle::time);
+
+	private final Map<String, ClosedCandle> elements = new TreeMap<>();
+
+	@Override
+	public void upsertAll(Collection<ClosedCandle> candles) {
+		candles.forEach(candle -> elements.put(key(candle.companyCode(), candle.timeFrame(), candle.time()), candle));
+	}
+
+	@Override
+	public void forEachRecent(int limit, Consumer<ClosedCandle> consumer) {
+		elements.values().stream()
+			.sorted(ORDER)
+			.filter(candle -> elements.values().stream()
+				.filter(other -> other.companyCode().equals(candle.companyCode())
+					&& other.timeFrame() == candle.timeFrame()
+					&& other.time() > candle.time())
+				.count() < limit)
+			.forEach(consumer);
+	}
+
+	@Override
+	public List<ClosedCandle> findFirst(String companyCode, TimeFrame timeFrame, long fromTime, long toTime,
+		int limit) {
+		List<ClosedCandle> candles = findRange(companyCode, timeFrame, fromTime, toTime);
+		return candles.subList(0, Math.min(limit, candles.size()));
+	}
+
+	@Override
+	public List<ClosedCandle> findLast(String companyCode, TimeFrame timeFrame, long fromTime, long toTime,
+		int limit) {
+		List<ClosedCandle> candles = findRange(companyCode, timeFrame, fromTime, toTime);
+		return candles.subList(Math.max(0, candles.size() - limit), candles.size());
+	}
+
+	public List<ClosedCandle> findAll() {
+		return elements.values().stream().sorted(ORDER).toList();
+	}
+
+	private List<ClosedCandle> findRange(String companyCode, TimeFrame timeFrame, long fromTime, long toTime) {
+		return findAll().stream()
+			.filter(candle -> candle.companyCode().equals(companyCode) && candle.timeFrame() == timeFrame
+				&& candle.time() >= fromTime && candle.time() < toTime)
+			.toList();
+	}
+
+	private String key(String companyCode, TimeFrame timeFrame, long time) {
+		return companyCode + ":" + timeFrame + ":" + time;
+	}
+}
@@ -1,6 +1,7 @@
 package com.onseju.orderservice.fake;
 
 import com.onseju.orderservice.order.domain.Order;
+import com.onseju.orderservice.order.dto.AfterTradeOrderDto;
 import com.onseju.orderservice.order.exception.OrderNotFoundException;
 import com.onseju.orderservice.order.service.repository.OrderRepository;
 
@@ -35,6 +36,14 @@ public class FakeOrderRepository implements OrderRepository {
         return saved;
     }
 
+    @Override
+    public void saveAll(List<Order> orders) {
+        // 발급된 ID를 그대로 저장 (JDBC 배치 insert와 동일)
+        orders.stream()
+                .filter(order -> !hasElement(order))
+                .forEach(elements::add);
+    }
+
     private boolean hasElement(Order order) {
         if (order.getId() == null) {
             return false;
@@ -62,4 +71,14 @@ public class FakeOrderRepository implements OrderRepository {
     public List<Order> findByMemberId(Long memberId) {
         return List.of();
     }
-}
\ No newline at end of file
+
+    @Override
+    public void decreaseRemainingQuantity(AfterTradeOrderDto dto) {
+        getById(dto.orderId()).decreaseRemainingQuantity(dto.quantity());
+    }
+
+    @Override
+    public void decreaseRemainingQuantities(List<AfterTradeOrderDto> dtos) {
+        dtos.forEach(this::decreaseRemainingQuantity);
+    }
+}
@@ -0,0 +1,76 @@
+package com.onseju.orderservice.fake;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.onseju.orderservice.outbox.domain.OutboxEvent;
+import com.onseju.orderservice.outbox.service.repository.OutboxRepository;
+
+public class FakeOutboxRepository implements OutboxRepository {
+
+	private final Map<Long, OutboxEvent> elements = new TreeMap<>();
+	private final Map<Long, LocalDateTime> sentDateTimes = new TreeMap<>();
+
+	@Override
+	public void saveAll(List<OutboxEvent> events) {
+		events.forEach(event -> {
+			long id = (long) elements.size() + 1;
+			elements.put(id, OutboxEvent.builder()
+				.id(id)
+				.type(event.getType())
+				.eventId(event.getEventId())
+				.payload(event.getPayload())
+				.build());
+		});
+	}
+
+	@Override
+	public List<OutboxEvent> claimPending(int limit) {
+		return elements.values().stream()
+			.filter(event -> !sentDateTimes.containsKey(event.getId()))
+			.limit(limit)
+			.toList();
+	}
+
+	@Override
+	public void lease(List<Long> ids, String relayId, LocalDateTime claimedUntil) {
+		ids.forEach(id -> {
+			OutboxEvent event = elements.get(id);
+			elements.put(id, OutboxEvent.builder()
+				.id(id)
+				.type(event.getType())
+				.eventId(event.getEventId())
+				.payload(event.getPayload())
+				.claimedBy(relayId)
+				.claimedUntil(claimedUntil)
+				.build());
+		});
+	}
+
+	@Override
+	public void markSent(List<Long> ids, LocalDateTime sentDateTime) {
+		ids.forEach(id -> sentDateTimes.put(id, sentDateTime));
+	}
+
+	@Override
+	public int deleteSentBefore(LocalDateTime dateTime) {
+		List<Long> ids = new ArrayList<>();
+		sentDateTimes.forEach((id, sent) -> {
+			if (sent.isBefore(dateTime)) {
+				ids.add(id);
+			}
+		});
+		ids.forEach(id -> {
+			elements.remove(id);
+			sentDateTimes.remove(id);
+		});
+		return ids.size();
+	}
+
+	public boolean isSent(Long id) {
+		return sentDateTimes.containsKey(id);
+	}
+}
@@ -0,0 +1,32 @@
+package com.onseju.orderservice.fake;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.onseju.orderservice.events.dedup.ProcessedEventRepository;
+
+public class FakeProcessedEventRepository implements ProcessedEventRepository {
+
+	private final Set<UUID> elements = new HashSet<>();
+
+	@Override
+	public Set<UUID> findExisting(Collection<UUID> eventIds) {
+		return eventIds.stream()
+			.filter(elements::contains)
+			.collect(Collectors.toSet());
+	}
+
+	@Override
+	public void saveAll(Collection<UUID> eventIds) {
+		elements.addAll(eventIds);
+	}
+
+	@Override
+	public int deleteBefore(LocalDateTime dateTime) {
+		return 0;
+	}
+}
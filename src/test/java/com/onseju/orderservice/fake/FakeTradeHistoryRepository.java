@@ -22,6 +22,13 @@ public class FakeTradeHistoryRepository implements TradeHistoryRepository {
 		return tradeHistory;
 	}
 
+	@Override
+	public void saveAll(List<TradeHistory> tradeHistories) {
+		// DB가 IDENTITY로 ID를 채번하므로, ID가 없는 내역은 저장 순서대로 키를 부여한다.
+		tradeHistories.forEach(tradeHistory -> storage.put(
+			tradeHistory.getId() != null ? tradeHistory.getId() : (long) storage.size() + 1, tradeHistory));
+	}
+
 	@Override
 	public List<String> findDistinctCompanyCodes() {
 		return storage.values().stream()
@@ -39,6 +46,15 @@ public class FakeTradeHistoryRepository implements TradeHistoryRepository {
 			.collect(Collectors.toList());
 	}
 
+	@Override
+	public List<TradeHistory> findRecentTradesOfAllCompanies(int limitPerCompany) {
+		return findDistinctCompanyCodes().stream()
+			.sorted()
+			.flatMap(companyCode -> findRecentTradesByCompanyCode(companyCode, limitPerCompany).stream()
+				.sorted(Comparator.comparing(TradeHistory::getTradeTime)))
+			.collect(Collectors.toList());
+	}
+
 	@Override
 	public List<Object[]> findTotalTradeAmountByCompany(Pageable pageable) {
 		// 테스트에 필요하지 않은 메서드는 빈 리스트 반환
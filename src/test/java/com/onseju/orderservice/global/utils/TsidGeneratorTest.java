@@ -0,0 +1,101 @@
+package com.onseju.orderservice.global.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TsidGeneratorTest {
+
+	@Test
+	@DisplayName("한 스레드에서 생성한 ID는 단조 증가한다.")
+	void monotonicWithinThread() {
+		// given
+		TsidGenerator generator = new TsidGenerator(1, 16);
+
+		// when
+		long previous = generator.nextId();
+		for (int i = 0; i < 10_000; i++) {
+			long current = generator.nextId();
+
+			// then
+			assertThat(current).isGreaterThan(previous);
+			previous = current;
+		}
+	}
+
+	@Test
+	@DisplayName("여러 스레드에서 동시에 생성해도 ID가 중복되지 않는다.")
+	void uniqueAcrossThreads() throws Exception {
+		// given
+		TsidGenerator generator = new TsidGenerator(1, 64);
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		// when
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < 8; t++) {
+			futures.add(executor.submit(() -> {
+				for (int i = 0; i < 5_000; i++) {
+					ids.add(generator.nextId());
+				}
+				for (long id : generator.nextIds(1_000)) {
+					ids.add(id);
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		// then
+		assertThat(ids).hasSize(8 * 6_000);
+	}
+
+	@Test
+	@DisplayName("ID에는 생성 시각과 노드 번호가 TSID 형식으로 담긴다.")
+	void encodeTimeAndNode() {
+		// given
+		Instant now = Instant.parse("2025-03-01T00:00:00Z");
+		TsidGenerator generator = new TsidGenerator(7, 10, Clock.fixed(now, ZoneOffset.UTC));
+
+		// when
+		long id = generator.nextId();
+
+		// then
+		assertThat(id >>> 22).isEqualTo(now.toEpochMilli() - TsidGenerator.TSID_EPOCH);
+		assertThat((id >>> 12) & 0x3FF).isEqualTo(7L);
+	}
+
+	@Test
+	@DisplayName("한 밀리초의 카운터가 소진되면 다음 밀리초로 넘어간다.")
+	void rollOverToNextMillisecond() {
+		// given
+		Instant now = Instant.parse("2025-03-01T00:00:00Z");
+		TsidGenerator generator = new TsidGenerator(1, 4096, Clock.fixed(now, ZoneOffset.UTC));
+
+		// when
+		long[] ids = generator.nextIds(4097);
+
+		// then
+		Set<Long> unique = new HashSet<>();
+		for (long id : ids) {
+			unique.add(id);
+		}
+		assertThat(unique).hasSize(4097);
+		assertThat(ids[4096] >>> 22).isEqualTo((ids[0] >>> 22) + 1);
+	}
+}
@@ -0,0 +1,99 @@
+package com.onseju.orderservice.order.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.onseju.orderservice.order.domain.Order;
+import com.onseju.orderservice.order.domain.OrderStatus;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
+import com.onseju.orderservice.order.domain.Type;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ActiveOrderCacheTest {
+
+	SimpleMeterRegistry meterRegistry;
+	ActiveOrderCache activeOrderCache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		activeOrderCache = new ActiveOrderCache(100, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("체결 수량만큼 남은 수량을 갱신한다.")
+	void applyPartialFill() {
+		// given
+		activeOrderCache.put(createOrder(1L, OrderStatus.ACTIVE));
+
+		// when
+		activeOrderCache.applyFill(1L, Quantity.of(3));
+
+		// then
+		assertThat(activeOrderCache.get(1L))
+				.hasValueSatisfying(order -> {
+					assertThat(order.remainingQuantity()).isEqualTo(Quantity.of(7));
+					assertThat(order.status()).isEqualTo(OrderStatus.ACTIVE);
+				});
+	}
+
+	@Test
+	@DisplayName("전량 체결된 주문은 캐시에서 제거한다.")
+	void evictOnComplete() {
+		// given
+		activeOrderCache.put(createOrder(1L, OrderStatus.ACTIVE));
+
+		// when
+		activeOrderCache.applyFill(1L, Quantity.of(10));
+
+		// then
+		assertThat(activeOrderCache.get(1L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("미체결 상태가 아닌 주문은 캐시에 적재하지 않는다.")
+	void ignoreCompletedOrder() {
+		// when
+		activeOrderCache.put(createOrder(1L, OrderStatus.COMPLETE));
+
+		// then
+		assertThat(activeOrderCache.get(1L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("캐시 적중/미적중 횟수를 기록한다.")
+	void recordHitAndMiss() {
+		// given
+		activeOrderCache.put(createOrder(1L, OrderStatus.ACTIVE));
+
+		// when
+		activeOrderCache.get(1L);
+		activeOrderCache.get(2L);
+		activeOrderCache.get(3L);
+
+		// then
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "activeOrders").tag("result", "hit")
+				.functionCounter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "activeOrders").tag("result", "miss")
+				.functionCounter().count()).isEqualTo(2);
+	}
+
+	private Order createOrder(final Long id, final OrderStatus status) {
+		return Order.builder()
+				.id(id)
+				.companyCode("005930")
+				.type(Type.LIMIT_BUY)
+				.totalQuantity(Quantity.of(10))
+				.remainingQuantity(Quantity.of(10))
+				.status(status)
+				.price(Price.ofWon(1000))
+				.accountId(1L)
+				.timestamp(1L)
+				.build();
+	}
+}
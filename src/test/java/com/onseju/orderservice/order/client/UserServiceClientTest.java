@@ -1,16 +1,25 @@
 package com.onseju.orderservice.order.client;
 
+import com.onseju.orderservice.grpc.GrpcValidateBatchRequest;
+import com.onseju.orderservice.grpc.GrpcValidateBatchResponse;
 import com.onseju.orderservice.grpc.GrpcValidateRequest;
 import com.onseju.orderservice.grpc.GrpcValidateResponse;
 import com.onseju.orderservice.grpc.OrderValidationServiceGrpc;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 import com.onseju.orderservice.order.dto.BeforeTradeOrderDto;
 import com.onseju.orderservice.order.dto.OrderValidationResponse;
+import io.grpc.Deadline;
+import io.grpc.ManagedChannel;
 import io.grpc.inprocess.InProcessChannelBuilder;
 import io.grpc.inprocess.InProcessServerBuilder;
 import io.grpc.stub.StreamObserver;
 import io.grpc.testing.GrpcCleanupRule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.mockito.ArgumentCaptor;
@@ -18,6 +27,10 @@ import org.mockito.Mockito;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,6 +43,8 @@ class UserServiceClientTest {
 	private OrderValidationServiceGrpc.OrderValidationServiceImplBase serviceImpl =
 		mock(OrderValidationServiceGrpc.OrderValidationServiceImplBase.class);
 
+	private ManagedChannel channel;
+
 	private UserServiceClient userServiceClient;
 
 	@BeforeEach
@@ -49,15 +64,38 @@ class UserServiceClientTest {
 				.start());
 
 		// InProcess 채널 생성
-		OrderValidationServiceGrpc.OrderValidationServiceBlockingStub blockingStub =
-			OrderValidationServiceGrpc.newBlockingStub(
-				grpcCleanup.register(
-					InProcessChannelBuilder.forName(serverName)
-						.directExecutor()
-						.build()));
+		channel = grpcCleanup.register(
+			InProcessChannelBuilder.forName(serverName)
+				.directExecutor()
+				.build());
 
 		// 테스트 대상 클라이언트 생성
-		userServiceClient = new UserServiceClient(blockingStub);
+		userServiceClient = createClient(64, 1);
+	}
+
+	@AfterEach
+	void tearDown() {
+		userServiceClient.shutdown();
+	}
+
+	private UserServiceClient createClient(int maxBatchSize, long maxLingerMillis) {
+		return new UserServiceClient(
+			OrderValidationServiceGrpc.newFutureStub(channel),
+			maxBatchSize,
+			maxLingerMillis,
+			3000,
+			60_000,
+			new SimpleMeterRegistry());
+	}
+
+	private BeforeTradeOrderDto createDto(long memberId) {
+		return BeforeTradeOrderDto.builder()
+			.companyCode("AAPL")
+			.type("LIMIT_BUY")
+			.totalQuantity(Quantity.of(10))
+			.price(Price.of(new BigDecimal("150.5")))
+			.memberId(memberId)
+			.build();
 	}
 
 
@@ -67,8 +105,8 @@ class UserServiceClientTest {
 		BeforeTradeOrderDto dto = BeforeTradeOrderDto.builder()
 			.companyCode("AAPL")
 			.type("LIMIT_BUY")
-			.totalQuantity(new BigDecimal("10"))
-			.price(new BigDecimal("150.5"))
+			.totalQuantity(Quantity.of(10))
+			.price(Price.of(new BigDecimal("150.5")))
 			.memberId(123L)
 			.build();
 
@@ -115,8 +153,8 @@ class UserServiceClientTest {
 		BeforeTradeOrderDto dto = BeforeTradeOrderDto.builder()
 			.companyCode("AAPL")
 			.type("LIMIT_BUY")
-			.totalQuantity(new BigDecimal("10"))
-			.price(new BigDecimal("150.5"))
+			.totalQuantity(Quantity.of(10))
+			.price(Price.of(new BigDecimal("150.5")))
 			.memberId(123L)
 			.build();
 
@@ -151,8 +189,8 @@ class UserServiceClientTest {
 		BeforeTradeOrderDto dto = BeforeTradeOrderDto.builder()
 			.companyCode("AAPL")
 			.type("LIMIT_BUY")
-			.totalQuantity(new BigDecimal("10"))
-			.price(new BigDecimal("150.5"))
+			.totalQuantity(Quantity.of(10))
+			.price(Price.of(new BigDecimal("150.5")))
 			.memberId(123L)
 			.build();
 
@@ -171,4 +209,143 @@ class UserServiceClientTest {
 
 		assertEquals("gRPC 서비스 통신 오류", exception.getMessage());
 	}
+
+	@Test
+	@DisplayName("동시에 들어온 검증 요청은 배치 RPC 한 번으로 전송된다.")
+	void validateOrders_Coalesced() {
+		// Given
+		userServiceClient.shutdown();
+		userServiceClient = createClient(3, 1000);
+
+		doAnswer(invocation -> {
+			GrpcValidateBatchRequest request = invocation.getArgument(0);
+			StreamObserver<GrpcValidateBatchResponse> responseObserver = invocation.getArgument(1);
+
+			GrpcValidateBatchResponse.Builder response = GrpcValidateBatchResponse.newBuilder();
+			request.getRequestsList().forEach(r -> response.addResponses(GrpcValidateResponse.newBuilder()
+				.setAccountId(r.getMemberId() * 10)
+				.setResult(true)
+				.build()));
+
+			responseObserver.onNext(response.build());
+			responseObserver.onCompleted();
+			return null;
+		}).when(serviceImpl).validateOrders(any(GrpcValidateBatchRequest.class), any(StreamObserver.class));
+
+		// When
+		List<CompletableFuture<OrderValidationResponse>> futures = List.of(
+			userServiceClient.validateOrderAsync(createDto(1L)),
+			userServiceClient.validateOrderAsync(createDto(2L)),
+			userServiceClient.validateOrderAsync(createDto(3L)));
+
+		// Then
+		for (int i = 0; i < futures.size(); i++) {
+			OrderValidationResponse response = futures.get(i).orTimeout(5, TimeUnit.SECONDS).join();
+			assertEquals((i + 1) * 10L, response.accountId());
+			assertTrue(response.result());
+		}
+		verify(serviceImpl, times(1)).validateOrders(any(GrpcValidateBatchRequest.class), any(StreamObserver.class));
+		verify(serviceImpl, never()).validateOrder(any(GrpcValidateRequest.class), any(StreamObserver.class));
+	}
+
+	@Test
+	@DisplayName("user-service가 배치 RPC를 지원하지 않으면 단건 RPC로 전송한다.")
+	void validateOrders_FallbackToUnary() {
+		// Given
+		userServiceClient.shutdown();
+		userServiceClient = createClient(2, 1000);
+
+		doAnswer(invocation -> {
+			GrpcValidateRequest request = invocation.getArgument(0);
+			StreamObserver<GrpcValidateResponse> responseObserver = invocation.getArgument(1);
+			responseObserver.onNext(GrpcValidateResponse.newBuilder()
+				.setAccountId(request.getMemberId())
+				.setResult(true)
+				.build());
+			responseObserver.onCompleted();
+			return null;
+		}).when(serviceImpl).validateOrder(any(GrpcValidateRequest.class), any(StreamObserver.class));
+
+		// When
+		CompletableFuture<OrderValidationResponse> first = userServiceClient.validateOrderAsync(createDto(1L));
+		CompletableFuture<OrderValidationResponse> second = userServiceClient.validateOrderAsync(createDto(2L));
+
+		// Then
+		assertEquals(1L, first.orTimeout(5, TimeUnit.SECONDS).join().accountId());
+		assertEquals(2L, second.orTimeout(5, TimeUnit.SECONDS).join().accountId());
+		verify(serviceImpl, times(2)).validateOrder(any(GrpcValidateRequest.class), any(StreamObserver.class));
+	}
+
+	@Test
+	@DisplayName("배치 RPC 미지원을 한 번 확인하면 이후 요청은 배치 RPC 없이 단건 RPC로 전송한다.")
+	void validateOrders_RemembersUnimplemented() {
+		// Given
+		doAnswer(invocation -> {
+			GrpcValidateRequest request = invocation.getArgument(0);
+			StreamObserver<GrpcValidateResponse> responseObserver = invocation.getArgument(1);
+			responseObserver.onNext(GrpcValidateResponse.newBuilder()
+				.setAccountId(request.getMemberId())
+				.setResult(true)
+				.build());
+			responseObserver.onCompleted();
+			return null;
+		}).when(serviceImpl).validateOrder(any(GrpcValidateRequest.class), any(StreamObserver.class));
+
+		// When
+		List<OrderValidationResponse> first = userServiceClient.validateOrders(List.of(createDto(1L), createDto(2L)));
+		List<OrderValidationResponse> second = userServiceClient.validateOrders(List.of(createDto(3L), createDto(4L)));
+
+		// Then
+		assertEquals(List.of(1L, 2L), first.stream().map(OrderValidationResponse::accountId).toList());
+		assertEquals(List.of(3L, 4L), second.stream().map(OrderValidationResponse::accountId).toList());
+		verify(serviceImpl, times(1)).validateOrders(any(GrpcValidateBatchRequest.class), any(StreamObserver.class));
+		verify(serviceImpl, times(4)).validateOrder(any(GrpcValidateRequest.class), any(StreamObserver.class));
+	}
+
+	@Test
+	@DisplayName("배치를 모으는 중에 종료되면 이미 꺼낸 요청도 실패로 완료된다.")
+	void shutdown_FailsCollectingBatch() {
+		// Given
+		userServiceClient.shutdown();
+		userServiceClient = createClient(64, 10_000);
+		CompletableFuture<OrderValidationResponse> future = userServiceClient.validateOrderAsync(createDto(1L));
+
+		// When
+		userServiceClient.shutdown();
+
+		// Then
+		CompletionException exception = assertThrows(CompletionException.class,
+			() -> future.orTimeout(5, TimeUnit.SECONDS).join());
+		assertInstanceOf(IllegalStateException.class, exception.getCause());
+		verify(serviceImpl, never()).validateOrder(any(GrpcValidateRequest.class), any(StreamObserver.class));
+		verify(serviceImpl, never()).validateOrders(any(GrpcValidateBatchRequest.class), any(StreamObserver.class));
+	}
+
+	@Test
+	@DisplayName("종료된 뒤 들어온 요청은 큐에 넣지 않고 바로 실패한다.")
+	void validateOrderAsync_AfterShutdown() {
+		// Given
+		userServiceClient.shutdown();
+
+		// When
+		CompletableFuture<OrderValidationResponse> future = userServiceClient.validateOrderAsync(createDto(1L));
+
+		// Then
+		assertTrue(future.isCompletedExceptionally());
+	}
+
+	@Test
+	@DisplayName("응답이 오지 않아도 요청 deadline이 지나면 대기가 끝난다.")
+	void validateOrder_BoundedByDeadline() {
+		// Given
+		doAnswer(invocation -> null)
+			.when(serviceImpl).validateOrder(any(GrpcValidateRequest.class), any(StreamObserver.class));
+
+		// When
+		CompletableFuture<OrderValidationResponse> future = userServiceClient.validateOrderAsync(
+			createDto(1L), Deadline.after(100, TimeUnit.MILLISECONDS));
+
+		// Then
+		assertThrows(CompletionException.class, future::join);
+	}
 }
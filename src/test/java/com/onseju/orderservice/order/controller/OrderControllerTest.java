@@ -4,7 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.onseju.orderservice.global.jwt.JwtUtil;
 import com.onseju.orderservice.global.security.UserDetailsServiceImpl;
 import com.onseju.orderservice.mock.WithMockUserDetails;
+import com.onseju.orderservice.order.controller.request.BatchOrderRequest;
 import com.onseju.orderservice.order.controller.request.OrderRequest;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 import com.onseju.orderservice.order.domain.Type;
 import com.onseju.orderservice.order.dto.BeforeTradeOrderDto;
 import com.onseju.orderservice.order.service.OrderService;
@@ -16,9 +19,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.math.BigDecimal;
+
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -48,8 +53,8 @@ class OrderControllerTest {
 		OrderRequest request = OrderRequest.builder()
 			.companyCode("AAPL")
 			.type(Type.LIMIT_BUY)
-			.totalQuantity(new BigDecimal("10"))
-			.price(new BigDecimal("150.00"))
+			.totalQuantity(Quantity.of(10))
+			.price(Price.ofWon(150))
 			.build();
 
 		mockMvc.perform(post("/api/order")
@@ -58,4 +63,23 @@ class OrderControllerTest {
 				.andExpect(status().isOk());
 		verify(orderService).placeOrder(any(BeforeTradeOrderDto.class));
 	}
+
+	@Test
+	@DisplayName("주문 일괄 생성 테스트")
+	@WithMockUserDetails
+	void testReceivedBatch() throws Exception {
+		OrderRequest order = OrderRequest.builder()
+			.companyCode("AAPL")
+			.type(Type.LIMIT_BUY)
+			.totalQuantity(Quantity.of(10))
+			.price(Price.ofWon(150))
+			.build();
+		BatchOrderRequest request = new BatchOrderRequest(List.of(order, order));
+
+		mockMvc.perform(post("/api/order/batch")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isOk());
+		verify(orderService).placeOrders(argThat(dtos -> dtos.size() == 2));
+	}
 }
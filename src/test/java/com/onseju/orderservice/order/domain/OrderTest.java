@@ -3,7 +3,6 @@ package com.onseju.orderservice.order.domain;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
 
@@ -18,10 +17,10 @@ class OrderTest {
 		Order order = Order.builder()
 				.companyCode("005930")
 				.type(Type.LIMIT_BUY)
-				.totalQuantity(new BigDecimal("100"))
-				.remainingQuantity(new BigDecimal("100"))
+				.totalQuantity(Quantity.of(100))
+				.remainingQuantity(Quantity.of(100))
 				.status(OrderStatus.ACTIVE)
-				.price(new BigDecimal("50000"))
+				.price(Price.ofWon(50000))
 				.timestamp(now)
 				.createdDateTime(LocalDateTime.now())
 				.updatedDateTime(LocalDateTime.now())
@@ -31,7 +30,7 @@ class OrderTest {
 		assertThat(order).isNotNull();
 		assertThat(order.getCompanyCode()).isEqualTo("005930");
 		assertThat(order.getType()).isEqualTo(Type.LIMIT_BUY);
-		assertThat(order.getTotalQuantity()).isEqualByComparingTo(new BigDecimal("100"));
+		assertThat(order.getTotalQuantity()).isEqualTo(Quantity.of(100));
 	}
 
 	@Test
@@ -39,21 +38,21 @@ class OrderTest {
 	void testDecreaseRemainingQuantity() {
 		Order order = Order.builder()
 				.type(Type.LIMIT_BUY)
-				.totalQuantity(new BigDecimal("100"))
-				.remainingQuantity(new BigDecimal("100"))
+				.totalQuantity(Quantity.of(100))
+				.remainingQuantity(Quantity.of(100))
 				.status(OrderStatus.ACTIVE)
 				.build();
 
-		order.decreaseRemainingQuantity(new BigDecimal("20"));
+		order.decreaseRemainingQuantity(Quantity.of(20));
 
-		assertThat(order.getRemainingQuantity()).isEqualByComparingTo(new BigDecimal("80"));
+		assertThat(order.getRemainingQuantity()).isEqualTo(Quantity.of(80));
 	}
 
 	@Test
 	@DisplayName("주문의 남은 수량이 0이 될 경우 Order Status를 Complete로 수정한다.")
 	void changeStatusComplete() {
 		// given
-		BigDecimal quantity = BigDecimal.valueOf(100);
+		Quantity quantity = Quantity.of(100);
 		Order order = Order.builder()
 				.type(Type.LIMIT_BUY)
 				.totalQuantity(quantity)
@@ -0,0 +1,51 @@
+package com.onseju.orderservice.order.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("BigDecimal 가격을 1/100원 단위 long 값으로 변환한다.")
+	void ofBigDecimal() {
+		// when
+		Price price = Price.of(new BigDecimal("150.5"));
+
+		// then
+		assertThat(price.value()).isEqualTo(15050L);
+		assertThat(price.isWholeWon()).isFalse();
+		assertThat(price.toPlainString()).isEqualTo("150.5");
+	}
+
+	@Test
+	@DisplayName("소수점 둘째 자리를 초과하는 가격은 변환할 수 없다.")
+	void ofBigDecimalWithTooManyFractionDigits() {
+		assertThatThrownBy(() -> Price.of(new BigDecimal("1.001")))
+				.isInstanceOf(ArithmeticException.class);
+	}
+
+	@Test
+	@DisplayName("원 단위 가격은 기존 BigDecimal과 같은 JSON 숫자로 직렬화된다.")
+	void serializeAndDeserialize() throws Exception {
+		// given
+		Price price = Price.ofWon(1000);
+
+		// when
+		String json = objectMapper.writeValueAsString(price);
+
+		// then
+		assertThat(json).isEqualTo("1000");
+		assertThat(objectMapper.readValue("1000.00", Price.class)).isEqualTo(price);
+		assertThat(objectMapper.writeValueAsString(Quantity.of(10))).isEqualTo("10");
+		assertThat(objectMapper.readValue("10", Quantity.class)).isEqualTo(Quantity.of(10));
+	}
+}
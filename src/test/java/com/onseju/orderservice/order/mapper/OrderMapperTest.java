@@ -3,13 +3,14 @@ package com.onseju.orderservice.order.mapper;
 import com.onseju.orderservice.events.OrderCreatedEvent;
 import com.onseju.orderservice.order.domain.Order;
 import com.onseju.orderservice.order.domain.OrderStatus;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 import com.onseju.orderservice.order.domain.Type;
 import com.onseju.orderservice.order.dto.AfterTradeOrderDto;
 import com.onseju.orderservice.order.dto.BeforeTradeOrderDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -24,8 +25,8 @@ class OrderMapperTest {
 	void toEntity() {
 		// given
 		String companyCode = "005930";
-		BeforeTradeOrderDto beforeTradeOrderDto = new BeforeTradeOrderDto("005930", "LIMIT_BUY", new BigDecimal(100),
-			new BigDecimal(1000), 1L);
+		BeforeTradeOrderDto beforeTradeOrderDto = new BeforeTradeOrderDto("005930", "LIMIT_BUY", Quantity.of(100),
+			Price.ofWon(1000), 1L);
 
 		// when
 		Order order = orderMapper.toEntity(1L, beforeTradeOrderDto, 1L);
@@ -45,9 +46,9 @@ class OrderMapperTest {
 			.companyCode("005930")
 			.type(Type.LIMIT_BUY)
 			.status(OrderStatus.ACTIVE)
-			.totalQuantity(new BigDecimal(100))
-			.remainingQuantity(new BigDecimal(100))
-			.price(new BigDecimal(50000))
+			.totalQuantity(Quantity.of(100))
+			.remainingQuantity(Quantity.of(100))
+			.price(Price.ofWon(50000))
 			.timestamp(Instant.now().toEpochMilli())
 			.accountId(1L)
 			.build();
@@ -76,9 +77,9 @@ class OrderMapperTest {
 			.companyCode("005930")
 			.type(Type.LIMIT_BUY)
 			.status(OrderStatus.ACTIVE)
-			.totalQuantity(new BigDecimal(100))
-			.remainingQuantity(new BigDecimal(100))
-			.price(new BigDecimal(50000))
+			.totalQuantity(Quantity.of(100))
+			.remainingQuantity(Quantity.of(100))
+			.price(Price.ofWon(50000))
 			.timestamp(Instant.now().toEpochMilli())
 			.accountId(1L)
 			.build();
@@ -101,7 +102,7 @@ class OrderMapperTest {
 	void toAfterTradeOrderDto() {
 		// given
 		Long orderId = 1L;
-		BigDecimal quantity = new BigDecimal(100);
+		Quantity quantity = Quantity.of(100);
 
 		// when
 		AfterTradeOrderDto afterTradeOrderDto = orderMapper.toAfterTradeOrderDto(orderId, quantity);
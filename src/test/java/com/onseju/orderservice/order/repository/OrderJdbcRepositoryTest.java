@@ -0,0 +1,95 @@
+package com.onseju.orderservice.order.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.onseju.orderservice.order.domain.Order;
+import com.onseju.orderservice.order.domain.OrderStatus;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
+import com.onseju.orderservice.order.domain.Type;
+import com.onseju.orderservice.order.dto.AfterTradeOrderDto;
+import com.onseju.orderservice.order.exception.OrderNotFoundException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@DataJpaTest
+@Import(OrderJdbcRepository.class)
+class OrderJdbcRepositoryTest {
+
+	@Autowired
+	private OrderJdbcRepository orderJdbcRepository;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@BeforeEach
+	void setUp() {
+		entityManager.persist(createOrder(1L, 100));
+		entityManager.persist(createOrder(2L, 100));
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	@DisplayName("남은 수량을 한 번의 UPDATE로 차감한다.")
+	void decreaseRemainingQuantity() {
+		// when
+		orderJdbcRepository.decreaseRemainingQuantity(new AfterTradeOrderDto(1L, Quantity.of(30)));
+
+		// then
+		Order order = entityManager.find(Order.class, 1L);
+		assertThat(order.getRemainingQuantity()).isEqualTo(Quantity.of(70));
+		assertThat(order.getStatus()).isEqualTo(OrderStatus.ACTIVE);
+	}
+
+	@Test
+	@DisplayName("남은 수량 이상을 차감하면 0이 되고 COMPLETE 상태가 된다.")
+	void decreaseToComplete() {
+		// when
+		orderJdbcRepository.batchDecreaseRemainingQuantity(List.of(
+				new AfterTradeOrderDto(1L, Quantity.of(100)),
+				new AfterTradeOrderDto(2L, Quantity.of(150))));
+
+		// then
+		for (Long id : List.of(1L, 2L)) {
+			Order order = entityManager.find(Order.class, id);
+			assertThat(order.getRemainingQuantity()).isEqualTo(Quantity.ZERO);
+			assertThat(order.getStatus()).isEqualTo(OrderStatus.COMPLETE);
+		}
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 주문의 수량을 차감하면 예외가 발생한다.")
+	void throwExceptionWhenOrderNotFound() {
+		assertThatThrownBy(() -> orderJdbcRepository.decreaseRemainingQuantity(
+				new AfterTradeOrderDto(99L, Quantity.of(1))))
+				.isInstanceOf(OrderNotFoundException.class);
+	}
+
+	private Order createOrder(Long id, long quantity) {
+		return Order.builder()
+				.id(id)
+				.companyCode("005930")
+				.type(Type.LIMIT_BUY)
+				.totalQuantity(Quantity.of(quantity))
+				.remainingQuantity(Quantity.of(quantity))
+				.status(OrderStatus.ACTIVE)
+				.price(Price.ofWon(1000))
+				.accountId(1L)
+				.timestamp(1L)
+				.createdDateTime(LocalDateTime.now())
+				.updatedDateTime(LocalDateTime.now())
+				.build();
+	}
+}
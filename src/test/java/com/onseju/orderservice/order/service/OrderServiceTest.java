@@ -5,6 +5,9 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,47 +16,62 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.http.HttpStatus;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.client.HttpClientErrorException;
 
+import com.onseju.orderservice.company.domain.PriceBand;
 import com.onseju.orderservice.company.service.ClosingPriceService;
-import com.onseju.orderservice.events.publisher.MatchedEventPublisher;
-import com.onseju.orderservice.events.publisher.OrderEventPublisher;
+import com.onseju.orderservice.events.MatchedEvent;
 import com.onseju.orderservice.fake.FakeOrderRepository;
 import com.onseju.orderservice.global.response.ApiResponse;
 import com.onseju.orderservice.global.utils.TsidGenerator;
+import com.onseju.orderservice.order.cache.ActiveOrderCache;
 import com.onseju.orderservice.order.client.UserServiceClient;
+import com.onseju.orderservice.order.controller.resposne.BatchOrderResponse;
 import com.onseju.orderservice.order.controller.resposne.OrderResponse;
+import com.onseju.orderservice.order.domain.Order;
+import com.onseju.orderservice.order.domain.OrderStatus;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 import com.onseju.orderservice.order.domain.Type;
+import com.onseju.orderservice.order.dto.AfterTradeOrderDto;
 import com.onseju.orderservice.order.dto.BeforeTradeOrderDto;
 import com.onseju.orderservice.order.dto.OrderValidationResponse;
+import com.onseju.orderservice.order.exception.BatchOrderSizeExceededException;
 import com.onseju.orderservice.order.exception.OrderPriceQuotationException;
 import com.onseju.orderservice.order.exception.PriceOutOfRangeException;
 import com.onseju.orderservice.order.mapper.OrderMapper;
+import com.onseju.orderservice.order.service.validator.PriceValidationEngine;
+import com.onseju.orderservice.outbox.service.OutboxService;
 import com.onseju.orderservice.stub.StubCompanyRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class OrderServiceTest {
 
 	OrderService orderService;
 	StubCompanyRepository companyRepository = new StubCompanyRepository();
 	FakeOrderRepository orderRepository = new FakeOrderRepository();
 	OrderMapper orderMapper = new OrderMapper();
-	OrderEventPublisher eventPublisher;
-	MatchedEventPublisher matchedEventPublisher;
+	OutboxService outboxService;
 	UserServiceClient userServiceClient;
 	TsidGenerator tsidGenerator;
 	ClosingPriceService closingPriceService;
+	ActiveOrderCache activeOrderCache;
 
 	@BeforeEach
 	void setUp() {
-		eventPublisher = Mockito.mock(OrderEventPublisher.class);
-		matchedEventPublisher = Mockito.mock(MatchedEventPublisher.class);
+		outboxService = Mockito.mock(OutboxService.class);
 		userServiceClient = Mockito.mock(UserServiceClient.class);
 		tsidGenerator = Mockito.mock(TsidGenerator.class);
 		SimpMessagingTemplate messagingTemplate = Mockito.mock(SimpMessagingTemplate.class);
 		closingPriceService = Mockito.mock(ClosingPriceService.class);
+		activeOrderCache = new ActiveOrderCache(100, new SimpleMeterRegistry());
 		orderService = new OrderService(
-				orderRepository, companyRepository, eventPublisher, matchedEventPublisher,
-				userServiceClient, orderMapper, tsidGenerator, closingPriceService, messagingTemplate);
+				orderRepository, companyRepository, outboxService,
+				userServiceClient, orderMapper, tsidGenerator, new PriceValidationEngine(closingPriceService),
+				activeOrderCache, messagingTemplate);
 	}
 
 	@Nested
@@ -62,7 +80,7 @@ class OrderServiceTest {
 		@BeforeEach
 		void setUp() {
 			// BoundaryTests 클래스의 모든 테스트에 대한 공통 설정
-			when(closingPriceService.getClosingPrice(anyString())).thenReturn(new BigDecimal(1000));
+			when(closingPriceService.getPriceBand(anyString())).thenReturn(PriceBand.of(new BigDecimal(1000)));
 		}
 
 		@Test
@@ -107,7 +125,7 @@ class OrderServiceTest {
 		@BeforeEach
 		void setUp() {
 			// BoundaryTests 클래스의 모든 테스트에 대한 공통 설정
-			when(closingPriceService.getClosingPrice(anyString())).thenReturn(new BigDecimal(1000));
+			when(closingPriceService.getPriceBand(anyString())).thenReturn(PriceBand.of(new BigDecimal(1000)));
 		}
 
 		@Test
@@ -182,6 +200,199 @@ class OrderServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("주문 일괄 접수")
+	class PlaceOrdersTest {
+
+		@BeforeEach
+		void setUp() {
+			when(closingPriceService.getPriceBand(anyString())).thenReturn(PriceBand.of(new BigDecimal(1000)));
+		}
+
+		@Test
+		@DisplayName("가격 검증을 통과한 주문만 user-service에 한 번에 검증 요청하고, 주문별 결과를 반환한다.")
+		void placeOrders() {
+			// given
+			List<BeforeTradeOrderDto> dtos = List.of(
+					createBeforeTradeOrderDto("LIMIT_BUY", new BigDecimal(1), new BigDecimal(1000), 1L),
+					createBeforeTradeOrderDto("LIMIT_BUY", new BigDecimal(1), new BigDecimal(1301), 1L),
+					createBeforeTradeOrderDto("LIMIT_SELL", new BigDecimal(1), new BigDecimal(900), 1L));
+			when(userServiceClient.validateOrders(anyList())).thenReturn(List.of(
+					new OrderValidationResponse(1L, true),
+					new OrderValidationResponse(1L, false)));
+			when(tsidGenerator.nextIds(1)).thenReturn(new long[]{100L});
+
+			// when
+			BatchOrderResponse response = orderService.placeOrders(dtos).getData();
+
+			// then
+			assertThat(response.acceptedCount()).isEqualTo(1);
+			assertThat(response.rejectedCount()).isEqualTo(2);
+			assertThat(response.results().get(0).accepted()).isTrue();
+			assertThat(response.results().get(0).order().id()).isEqualTo(100L);
+			assertThat(response.results().get(1).accepted()).isFalse();
+			assertThat(response.results().get(2).accepted()).isFalse();
+			verify(userServiceClient, times(1)).validateOrders(List.of(dtos.get(0), dtos.get(2)));
+			verify(outboxService, times(1)).appendOrderCreatedEvents(argThat(events -> events.size() == 1));
+		}
+
+		@Test
+		@DisplayName("필수 값이 빠지거나 주문 유형이 잘못된 주문은 해당 주문만 거절하고 나머지는 접수한다.")
+		void rejectOrdersWithMissingFields() {
+			// given
+			List<BeforeTradeOrderDto> dtos = List.of(
+					createBeforeTradeOrderDto("LIMIT_BUY", new BigDecimal(1), new BigDecimal(1000), 1L),
+					new BeforeTradeOrderDto("005930", "LIMIT_BUY", Quantity.of(new BigDecimal(1)), null, 1L),
+					new BeforeTradeOrderDto(null, "LIMIT_BUY", Quantity.of(new BigDecimal(1)),
+							Price.of(new BigDecimal(1000)), 1L),
+					createBeforeTradeOrderDto("UNKNOWN", new BigDecimal(1), new BigDecimal(1000), 1L));
+			when(userServiceClient.validateOrders(anyList())).thenReturn(List.of(new OrderValidationResponse(1L, true)));
+			when(tsidGenerator.nextIds(1)).thenReturn(new long[]{100L});
+
+			// when
+			BatchOrderResponse response = orderService.placeOrders(dtos).getData();
+
+			// then
+			assertThat(response.acceptedCount()).isEqualTo(1);
+			assertThat(response.rejectedCount()).isEqualTo(3);
+			assertThat(response.results().get(0).accepted()).isTrue();
+			assertThat(response.results().subList(1, 4)).noneMatch(result -> result.accepted());
+			verify(userServiceClient, times(1)).validateOrders(List.of(dtos.get(0)));
+		}
+
+		@Test
+		@DisplayName("최대 일괄 접수 수량을 초과하면 예외가 발생한다.")
+		void throwExceptionWhenBatchTooLarge() {
+			// given
+			BeforeTradeOrderDto dto = createBeforeTradeOrderDto("LIMIT_BUY", new BigDecimal(1), new BigDecimal(1000), 1L);
+			List<BeforeTradeOrderDto> dtos = Collections.nCopies(501, dto);
+
+			// when, then
+			assertThatThrownBy(() -> orderService.placeOrders(dtos))
+					.isInstanceOf(BatchOrderSizeExceededException.class);
+		}
+	}
+
+	@Test
+	@DisplayName("주문 일괄 저장 시 발급된 주문 ID를 그대로 저장하고, 이미 저장된 주문은 무시한다.")
+	void saveOrders() {
+		// given
+		Order order = Order.builder()
+				.id(1_000L)
+				.companyCode("005930")
+				.type(Type.LIMIT_BUY)
+				.totalQuantity(Quantity.of(10))
+				.remainingQuantity(Quantity.of(10))
+				.status(OrderStatus.ACTIVE)
+				.price(Price.ofWon(1000))
+				.accountId(1L)
+				.timestamp(1L)
+				.build();
+
+		// when
+		orderService.saveOrders(List.of(order));
+		orderService.saveOrders(List.of(order));
+
+		// then
+		assertThat(orderRepository.findById(1_000L)).contains(order);
+	}
+
+	@Test
+	@DisplayName("저장된 미체결 주문은 캐시에서 조회되고, 전량 체결되면 캐시에서 제거된다.")
+	void activeOrderCacheFollowsFills() {
+		// given
+		Order order = Order.builder()
+				.id(2_000L)
+				.companyCode("005930")
+				.type(Type.LIMIT_SELL)
+				.totalQuantity(Quantity.of(10))
+				.remainingQuantity(Quantity.of(10))
+				.status(OrderStatus.ACTIVE)
+				.price(Price.ofWon(1000))
+				.accountId(1L)
+				.timestamp(1L)
+				.build();
+		orderService.saveOrders(List.of(order));
+
+		// when
+		orderService.updateRemainingQuantities(List.of(new AfterTradeOrderDto(2_000L, Quantity.of(4))));
+
+		// then
+		assertThat(activeOrderCache.get(2_000L))
+				.hasValueSatisfying(cached -> assertThat(cached.remainingQuantity()).isEqualTo(Quantity.of(6)));
+
+		// when
+		orderService.updateRemainingQuantities(List.of(new AfterTradeOrderDto(2_000L, Quantity.of(6))));
+
+		// then
+		assertThat(activeOrderCache.get(2_000L)).isEmpty();
+		assertThat(orderService.getActiveOrder(2_000L).status()).isEqualTo(OrderStatus.COMPLETE);
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 변경한 미체결 주문 캐시는 커밋된 뒤에만 반영되고, 롤백되면 반영되지 않는다.")
+	void activeOrderCacheUpdatedAfterCommit() {
+		// given
+		Order committed = Order.builder()
+				.id(3_000L)
+				.companyCode("005930")
+				.type(Type.LIMIT_BUY)
+				.totalQuantity(Quantity.of(10))
+				.remainingQuantity(Quantity.of(10))
+				.status(OrderStatus.ACTIVE)
+				.price(Price.ofWon(1000))
+				.accountId(1L)
+				.timestamp(1L)
+				.build();
+		Order rolledBack = Order.builder()
+				.id(3_001L)
+				.companyCode("005930")
+				.type(Type.LIMIT_BUY)
+				.totalQuantity(Quantity.of(10))
+				.remainingQuantity(Quantity.of(10))
+				.status(OrderStatus.ACTIVE)
+				.price(Price.ofWon(1000))
+				.accountId(1L)
+				.timestamp(1L)
+				.build();
+
+		// when
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			orderService.saveOrders(List.of(committed));
+			assertThat(activeOrderCache.get(3_000L)).isEmpty();
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			orderService.saveOrders(List.of(rolledBack));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		// then
+		assertThat(activeOrderCache.get(3_000L)).isPresent();
+		assertThat(activeOrderCache.get(3_001L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("매칭된 체결의 사용자 업데이트 이벤트는 한 번에 아웃박스에 적재된다.")
+	void publishUserUpdateEvents() {
+		// given
+		List<MatchedEvent> events = List.of(
+				MatchedEvent.builder().id(UUID.randomUUID()).companyCode("005930").build(),
+				MatchedEvent.builder().id(UUID.randomUUID()).companyCode("005930").build());
+
+		// when
+		orderService.publishUserUpdateEvents(events);
+
+		// then
+		verify(outboxService, times(1)).appendUserUpdateEvents(events);
+	}
+
 	@Nested
 	@DisplayName("user-service와의 통신 테스트")
 	public class CommunicationWithUserService {
@@ -194,7 +405,7 @@ class OrderServiceTest {
 			BeforeTradeOrderDto params = createBeforeTradeOrderDto("LIMIT_BUY", new BigDecimal(1), price, 1L);
 
 			// closingPriceService 모의 설정 추가
-			when(closingPriceService.getClosingPrice(anyString())).thenReturn(new BigDecimal(1000));
+			when(closingPriceService.getPriceBand(anyString())).thenReturn(PriceBand.of(new BigDecimal(1000)));
 
 			when(userServiceClient.validateOrder(any()))
 					.thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
@@ -214,8 +425,8 @@ class OrderServiceTest {
 		return new BeforeTradeOrderDto(
 				"005930",
 				type,
-				totalQuantity,
-				price,
+				Quantity.of(totalQuantity),
+				Price.of(price),
 				memberId
 		);
 	}
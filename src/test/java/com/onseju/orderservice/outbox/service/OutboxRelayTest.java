@@ -0,0 +1,165 @@
+package com.onseju.orderservice.outbox.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onseju.orderservice.events.MatchedEvent;
+import com.onseju.orderservice.events.publisher.MatchedEventPublisher;
+import com.onseju.orderservice.events.publisher.OrderEventPublisher;
+import com.onseju.orderservice.fake.FakeOutboxRepository;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
+import com.onseju.orderservice.outbox.domain.OutboxEvent;
+import com.onseju.orderservice.outbox.domain.OutboxEventType;
+
+class OutboxRelayTest {
+
+	FakeOutboxRepository outboxRepository;
+	OrderEventPublisher orderEventPublisher;
+	MatchedEventPublisher matchedEventPublisher;
+	ObjectMapper objectMapper = new ObjectMapper();
+	OutboxRelay outboxRelay;
+
+	@BeforeEach
+	void setUp() {
+		outboxRepository = new FakeOutboxRepository();
+		orderEventPublisher = Mockito.mock(OrderEventPublisher.class);
+		matchedEventPublisher = Mockito.mock(MatchedEventPublisher.class);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+		outboxRelay = new OutboxRelay(outboxRepository, orderEventPublisher, matchedEventPublisher, objectMapper,
+				transactionTemplate, 2, 60_000, 24);
+	}
+
+	@Test
+	@DisplayName("미전송 이벤트를 ID 순서대로 배치 단위로 전송하고 전송 완료로 표시한다.")
+	void relayAllPendingEvents() throws JsonProcessingException {
+		// given
+		when(matchedEventPublisher.publishEvents(anyList()))
+				.thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.<List<?>>getArgument(0).size()));
+		MatchedEvent first = createMatchedEvent();
+		MatchedEvent second = createMatchedEvent();
+		MatchedEvent third = createMatchedEvent();
+		outboxRepository.saveAll(List.of(toOutboxEvent(first), toOutboxEvent(second), toOutboxEvent(third)));
+
+		// when
+		outboxRelay.relay();
+
+		// then
+		ArgumentCaptor<List<MatchedEvent>> captor = ArgumentCaptor.forClass(List.class);
+		verify(matchedEventPublisher, times(2)).publishEvents(captor.capture());
+		assertThat(captor.getAllValues().get(0)).extracting(MatchedEvent::id).containsExactly(first.id(), second.id());
+		assertThat(captor.getAllValues().get(1)).extracting(MatchedEvent::id).containsExactly(third.id());
+		assertThat(outboxRepository.claimPending(10)).isEmpty();
+		verify(matchedEventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	@DisplayName("첫 실패 이후 이벤트는 confirm 여부와 상관없이 전송 완료로 표시하지 않는다.")
+	void keepEventsAfterFailurePending() throws JsonProcessingException {
+		// given
+		when(matchedEventPublisher.publishEvents(anyList())).thenReturn(CompletableFuture.completedFuture(1));
+		outboxRepository.saveAll(List.of(
+				toOutboxEvent(createMatchedEvent()),
+				toOutboxEvent(createMatchedEvent())));
+
+		// when
+		outboxRelay.relay();
+
+		// then
+		assertThat(outboxRepository.isSent(1L)).isTrue();
+		assertThat(outboxRepository.isSent(2L)).isFalse();
+		verify(matchedEventPublisher, times(1)).publishEvents(anyList());
+		verifyNoInteractions(orderEventPublisher);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 미전송 이벤트를 잠그고 있으면 이번 주기는 전송하지 않는다.")
+	void skipWhenClaimedByOtherInstance() {
+		// given
+		FakeOutboxRepository lockedRepository = new FakeOutboxRepository() {
+			@Override
+			public List<OutboxEvent> claimPending(int limit) {
+				throw new CannotAcquireLockException("locked");
+			}
+		};
+		outboxRelay = new OutboxRelay(lockedRepository, orderEventPublisher, matchedEventPublisher, objectMapper,
+				new TransactionTemplate(mock(PlatformTransactionManager.class)), 2, 60_000, 24);
+
+		// when & then
+		assertThatCode(() -> outboxRelay.relay()).doesNotThrowAnyException();
+		verifyNoInteractions(orderEventPublisher, matchedEventPublisher);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 임대 중인 이벤트부터는 임대하지 않아 ID 순서가 섞이지 않는다.")
+	void stopAtEventClaimedByOtherInstance() throws JsonProcessingException {
+		// given
+		when(matchedEventPublisher.publishEvents(anyList()))
+				.thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.<List<?>>getArgument(0).size()));
+		outboxRepository.saveAll(List.of(toOutboxEvent(createMatchedEvent()), toOutboxEvent(createMatchedEvent())));
+		outboxRepository.lease(List.of(1L), "other-relay", LocalDateTime.now().plusMinutes(1));
+
+		// when
+		outboxRelay.relay();
+
+		// then
+		verifyNoInteractions(matchedEventPublisher);
+		assertThat(outboxRepository.isSent(1L)).isFalse();
+		assertThat(outboxRepository.isSent(2L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("임대가 만료된 이벤트는 다른 인스턴스가 이어서 전송한다.")
+	void takeOverExpiredLease() throws JsonProcessingException {
+		// given
+		when(matchedEventPublisher.publishEvents(anyList()))
+				.thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.<List<?>>getArgument(0).size()));
+		outboxRepository.saveAll(List.of(toOutboxEvent(createMatchedEvent())));
+		outboxRepository.lease(List.of(1L), "other-relay", LocalDateTime.now().minusSeconds(1));
+
+		// when
+		outboxRelay.relay();
+
+		// then
+		assertThat(outboxRepository.isSent(1L)).isTrue();
+	}
+
+	private OutboxEvent toOutboxEvent(final MatchedEvent event) throws JsonProcessingException {
+		return OutboxEvent.builder()
+				.type(OutboxEventType.USER_UPDATE)
+				.eventId(event.id().toString())
+				.payload(objectMapper.writeValueAsString(event))
+				.build();
+	}
+
+	private MatchedEvent createMatchedEvent() {
+		return MatchedEvent.builder()
+				.id(UUID.randomUUID())
+				.companyCode("005930")
+				.buyOrderId(1L)
+				.buyAccountId(1L)
+				.sellOrderId(2L)
+				.sellAccountId(2L)
+				.quantity(Quantity.of(10))
+				.price(Price.ofWon(1000))
+				.tradeAt(1L)
+				.build();
+	}
+}
@@ -1,11 +1,12 @@
 package com.onseju.orderservice.tradehistory.mapper;
 
 import com.onseju.orderservice.events.MatchedEvent;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 import com.onseju.orderservice.tradehistory.domain.TradeHistory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.UUID;
@@ -27,8 +28,8 @@ class TradeHistoryMapperTest {
 				1L,
 				2L,
 				2L,
-				new BigDecimal(100),
-				new BigDecimal(1000),
+				Quantity.of(100),
+				Price.ofWon(1000),
 				LocalDateTime.of(2025, 01, 01, 0, 0).toEpochSecond(ZoneOffset.UTC));
 
 		// when
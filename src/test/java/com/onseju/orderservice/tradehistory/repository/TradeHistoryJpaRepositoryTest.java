@@ -3,6 +3,8 @@ package com.onseju.orderservice.tradehistory.repository;
 
 
 import com.onseju.orderservice.global.entity.BaseEntity;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 import com.onseju.orderservice.tradehistory.domain.TradeHistory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,7 +12,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
 import java.lang.reflect.Field;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -36,8 +37,8 @@ class TradeHistoryJpaRepositoryTest {
 			.companyCode("COMP1")
 			.sellOrderId(1L)
 			.buyOrderId(2L)
-			.price(new BigDecimal("100.00"))
-			.quantity(new BigDecimal("10"))
+			.price(Price.ofWon(100))
+			.quantity(Quantity.of(10))
 			.tradeTime(System.currentTimeMillis())
 			.build();
 		// createdDateTime 설정
@@ -47,8 +48,8 @@ class TradeHistoryJpaRepositoryTest {
 			.companyCode("COMP2")
 			.sellOrderId(3L)
 			.buyOrderId(4L)
-			.price(new BigDecimal("200.00"))
-			.quantity(new BigDecimal("5"))
+			.price(Price.ofWon(200))
+			.quantity(Quantity.of(5))
 			.tradeTime(System.currentTimeMillis())
 			.build();
 		// createdDateTime 설정
@@ -58,8 +59,8 @@ class TradeHistoryJpaRepositoryTest {
 			.companyCode("COMP1")
 			.sellOrderId(5L)
 			.buyOrderId(6L)
-			.price(new BigDecimal("150.00"))
-			.quantity(new BigDecimal("7"))
+			.price(Price.ofWon(150))
+			.quantity(Quantity.of(7))
 			.tradeTime(System.currentTimeMillis())
 			.build();
 		// createdDateTime 설정
@@ -95,8 +96,8 @@ class TradeHistoryJpaRepositoryTest {
 			.companyCode("COMP3")
 			.sellOrderId(7L)
 			.buyOrderId(8L)
-			.price(new BigDecimal("300.00"))
-			.quantity(new BigDecimal("3"))
+			.price(Price.ofWon(300))
+			.quantity(Quantity.of(3))
 			.tradeTime(System.currentTimeMillis())
 			.build();
 		// createdDateTime 설정
@@ -2,13 +2,14 @@ package com.onseju.orderservice.tradehistory.service;
 
 import com.onseju.orderservice.fake.FakeOrderRepository;
 import com.onseju.orderservice.fake.FakeTradeHistoryRepository;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
 import com.onseju.orderservice.tradehistory.domain.TradeHistory;
 import com.onseju.orderservice.tradehistory.mapper.TradeHistoryMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,8 +37,8 @@ class TradeHistoryServiceTest {
 			.companyCode("005930")
 			.sellOrderId(1L)
 			.buyOrderId(2L)
-			.price(new BigDecimal(100))
-			.quantity(new BigDecimal(100))
+			.price(Price.ofWon(100))
+			.quantity(Quantity.of(100))
 			.tradeTime(Instant.now().getEpochSecond())
 			.build();
 
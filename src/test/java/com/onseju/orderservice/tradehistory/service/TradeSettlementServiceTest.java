@@ -0,0 +1,115 @@
+package com.onseju.orderservice.tradehistory.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.onseju.orderservice.events.MatchedEvent;
+import com.onseju.orderservice.events.dedup.EventDeduplicator;
+import com.onseju.orderservice.fake.FakeOrderRepository;
+import com.onseju.orderservice.fake.FakeProcessedEventRepository;
+import com.onseju.orderservice.fake.FakeTradeHistoryRepository;
+import com.onseju.orderservice.order.domain.Price;
+import com.onseju.orderservice.order.domain.Quantity;
+import com.onseju.orderservice.order.dto.AfterTradeOrderDto;
+import com.onseju.orderservice.order.service.OrderService;
+import com.onseju.orderservice.tradehistory.domain.TradeHistory;
+import com.onseju.orderservice.tradehistory.dto.SettlementResult;
+import com.onseju.orderservice.tradehistory.mapper.TradeHistoryMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TradeSettlementServiceTest {
+
+	TradeSettlementService tradeSettlementService;
+	FakeTradeHistoryRepository tradeHistoryRepository;
+	OrderService orderService;
+
+	@BeforeEach
+	void setUp() {
+		tradeHistoryRepository = Mockito.spy(new FakeTradeHistoryRepository());
+		TradeHistoryMapper tradeHistoryMapper = new TradeHistoryMapper();
+		TradeHistoryService tradeHistoryService =
+				new TradeHistoryService(tradeHistoryRepository, new FakeOrderRepository(), tradeHistoryMapper);
+		orderService = Mockito.mock(OrderService.class);
+		EventDeduplicator eventDeduplicator = new EventDeduplicator(new FakeProcessedEventRepository(),
+				new SimpleMeterRegistry(), 6, 60_000L, 1024, 24);
+		tradeSettlementService = new TradeSettlementService(tradeHistoryService, tradeHistoryMapper, orderService,
+				eventDeduplicator);
+	}
+
+	@Test
+	@DisplayName("배치의 체결 내역을 한 번에 저장하고 수신 순서대로 반환한다.")
+	void saveTradeHistoriesInBatch() {
+		// given
+		List<MatchedEvent> events = List.of(
+				createMatchedEvent(1L, 2L, 10),
+				createMatchedEvent(3L, 2L, 5));
+
+		// when
+		List<TradeHistory> tradeHistories = tradeSettlementService.settle(events).tradeHistories();
+
+		// then
+		verify(tradeHistoryRepository, times(1)).saveAll(tradeHistories);
+		assertThat(tradeHistories).extracting(TradeHistory::getBuyOrderId).containsExactly(1L, 3L);
+	}
+
+	@Test
+	@DisplayName("같은 주문의 체결 수량은 합산해 주문마다 한 번만 차감한다.")
+	void foldFillsPerOrder() {
+		// given
+		List<MatchedEvent> events = List.of(
+				createMatchedEvent(3L, 2L, 10),
+				createMatchedEvent(1L, 2L, 5),
+				createMatchedEvent(3L, 4L, 7));
+
+		// when
+		tradeSettlementService.settle(events);
+
+		// then
+		verify(orderService).updateRemainingQuantities(List.of(
+				new AfterTradeOrderDto(1L, Quantity.of(5)),
+				new AfterTradeOrderDto(2L, Quantity.of(15)),
+				new AfterTradeOrderDto(3L, Quantity.of(17)),
+				new AfterTradeOrderDto(4L, Quantity.of(7))));
+		verify(orderService).publishUserUpdateEvents(events);
+	}
+
+	@Test
+	@DisplayName("이미 반영된 체결 이벤트가 재전달되면 다시 반영하지 않는다.")
+	void skipRedeliveredEvents() {
+		// given
+		MatchedEvent event = createMatchedEvent(1L, 2L, 10);
+		tradeSettlementService.settle(List.of(event));
+
+		// when
+		SettlementResult result = tradeSettlementService.settle(List.of(event));
+
+		// then
+		assertThat(result.events()).isEmpty();
+		verify(tradeHistoryRepository, times(1)).saveAll(any());
+		verify(orderService, times(1)).updateRemainingQuantities(any());
+	}
+
+	private MatchedEvent createMatchedEvent(final Long buyOrderId, final Long sellOrderId, final long quantity) {
+		return MatchedEvent.builder()
+				.id(UUID.randomUUID())
+				.companyCode("005930")
+				.buyOrderId(buyOrderId)
+				.buyAccountId(1L)
+				.sellOrderId(sellOrderId)
+				.sellAccountId(2L)
+				.quantity(Quantity.of(quantity))
+				.price(Price.ofWon(1000))
+				.tradeAt(1L)
+				.build();
+	}
+}